@@ -0,0 +1,50 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.entity.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// 매치 한 건당 레이팅 갱신 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RatingEngineBenchmark {
+
+    private final RatingEngine elo = new EloRatingEngine();
+    private final RatingEngine glicko2 = new Glicko2RatingEngine();
+
+    private RatingState a;
+    private RatingState b;
+    private int round;
+
+    @Setup
+    public void setUp() {
+        a = RatingState.initial();
+        b = new RatingState(1100, 200, 0.06);
+    }
+
+    private double nextScore() {
+        round++;
+        return round % 3 == 0 ? 0.5 : round % 3 == 1 ? 1 : 0;
+    }
+
+    @Benchmark
+    public void elo(Blackhole bh) {
+        elo.apply(a, b, nextScore(), Team.Event.SOCCER);
+        bh.consume(a.getRating());
+    }
+
+    @Benchmark
+    public void glicko2(Blackhole bh) {
+        glicko2.apply(a, b, nextScore(), Team.Event.SOCCER);
+        bh.consume(a.getRating());
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.but_eo.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.repository.BoardSearchRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA(ddl-auto)로는 FULLTEXT 인덱스를 만들 수 없어서 기동 시 없으면 생성한다.
+ * ngram 파서: 한국어처럼 띄어쓰기만으로 단어를 나눌 수 없는 텍스트도 2글자 단위로 색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfMissing() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'board' AND index_name = ?
+                """, Integer.class, BoardSearchRepository.INDEX_NAME);
+        if (count != null && count > 0) {
+            return;
+        }
+
+        log.info("게시글 검색 인덱스 생성 시작");
+        jdbcTemplate.execute("ALTER TABLE board ADD FULLTEXT INDEX " + BoardSearchRepository.INDEX_NAME
+                + " (title, content) WITH PARSER ngram");
+        log.info("게시글 검색 인덱스 생성 완료");
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.entity.Team;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "rating.engine", havingValue = "elo", matchIfMissing = true)
+public class EloRatingEngine implements RatingEngine {
+
+    private static final double DEFAULT_K = 32;
+
+    // 종목별 K 값: 경기 수가 적고 결과 편차가 큰 개인 종목일수록 크게
+    private static final Map<Team.Event, Double> K_FACTORS = new EnumMap<>(Map.of(
+            Team.Event.SOCCER, 32.0,
+            Team.Event.FUTSAL, 32.0,
+            Team.Event.BASKETBALL, 28.0,
+            Team.Event.BASEBALL, 24.0,
+            Team.Event.TENNIS, 40.0,
+            Team.Event.TABLE_TENNIS, 40.0,
+            Team.Event.BADMINTON, 40.0,
+            Team.Event.BOWLING, 24.0
+    ));
+
+    @Override
+    public void apply(RatingState a, RatingState b, double scoreA, Team.Event event) {
+        double k = K_FACTORS.getOrDefault(event, DEFAULT_K);
+        double expectedA = 1 / (1 + Math.pow(10, (b.getRating() - a.getRating()) / 400));
+        double delta = k * (scoreA - expectedA);
+
+        // 합이 0이 되도록 같은 값만큼 주고받음 (레이팅 인플레이션 방지)
+        a.setRating(a.getRating() + delta);
+        b.setRating(b.getRating() - delta);
+    }
+}
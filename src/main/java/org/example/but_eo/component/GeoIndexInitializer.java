@@ -0,0 +1,61 @@
+package org.example.but_eo.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.dto.MatchGeoPoint;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.entity.Stadium;
+import org.example.but_eo.repository.MatchingRepository;
+import org.example.but_eo.repository.StadiumRepository;
+import org.example.but_eo.service.GeoIndexService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시 MySQL 기준으로 위치 인덱스(Redis GEO)를 다시 채운다.
+ * (Redis 장애로 빠진 커밋 후 반영분, 좌표 컬럼 추가 전 데이터 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeoIndexInitializer {
+
+    private final MatchingRepository matchingRepository;
+    private final StadiumRepository stadiumRepository;
+    private final GeoIndexService geoIndexService;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            Map<Matching.Match_Type, Map<String, Point>> matchings = new EnumMap<>(Matching.Match_Type.class);
+            for (Matching.Match_Type type : Matching.Match_Type.values()) {
+                matchings.put(type, new HashMap<>());
+            }
+            List<MatchGeoPoint> points = matchingRepository.findOpenGeoPoints(Matching.State.WAITING);
+            for (MatchGeoPoint point : points) {
+                matchings.get(point.getMatchType())
+                        .put(point.getMatchId(), new Point(point.getLongitude(), point.getLatitude()));
+            }
+            matchings.forEach(geoIndexService::rebuildMatchings);
+
+            Map<String, Point> stadiums = new HashMap<>();
+            for (Stadium stadium : stadiumRepository.findAllByLatitudeIsNotNullAndLongitudeIsNotNull()) {
+                stadiums.put(stadium.getStadiumId(), new Point(stadium.getLongitude(), stadium.getLatitude()));
+            }
+            geoIndexService.rebuildStadiums(stadiums);
+
+            log.info("위치 인덱스 재구축 완료: 매치 {}건, 경기장 {}곳", points.size(), stadiums.size());
+        } catch (Exception e) {
+            log.warn("위치 인덱스 재구축 실패", e);
+        }
+    }
+}
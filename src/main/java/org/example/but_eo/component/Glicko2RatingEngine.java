@@ -0,0 +1,124 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.entity.Team;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Glicko-2 (경기 한 건을 하나의 rating period 로 처리).
+ * 참고: Glickman, "Example of the Glicko-2 system"
+ */
+@Component
+@ConditionalOnProperty(name = "rating.engine", havingValue = "glicko2")
+public class Glicko2RatingEngine implements RatingEngine {
+
+    private static final double SCALE = 173.7178;
+    private static final double TAU = 0.5;          // 변동성 변화 제한 (0.3 ~ 1.2)
+    private static final double EPSILON = 0.000001;
+    private static final double MAX_DEVIATION = 350;
+
+    @Override
+    public void apply(RatingState a, RatingState b, double scoreA, Team.Event event) {
+        // 두 팀 모두 경기 전 값 기준으로 계산
+        double muA = toMu(a.getRating());
+        double phiA = a.getDeviation() / SCALE;
+        double muB = toMu(b.getRating());
+        double phiB = b.getDeviation() / SCALE;
+
+        update(a, muA, phiA, new double[]{muB}, new double[]{phiB}, new double[]{scoreA});
+        update(b, muB, phiB, new double[]{muA}, new double[]{phiA}, new double[]{1 - scoreA});
+    }
+
+    /**
+     * 한 rating period 에 치른 여러 경기로 player 를 갱신 (상대 상태는 바꾸지 않음).
+     * @param scores opponents 와 같은 순서의 player 기준 결과 (승 1, 무 0.5, 패 0)
+     */
+    public void ratePeriod(RatingState player, List<RatingState> opponents, List<Double> scores) {
+        if (opponents.size() != scores.size()) {
+            throw new IllegalArgumentException("상대 수와 결과 수가 다릅니다.");
+        }
+        double[] opponentMu = new double[opponents.size()];
+        double[] opponentPhi = new double[opponents.size()];
+        double[] scoreArray = new double[opponents.size()];
+        for (int i = 0; i < opponents.size(); i++) {
+            opponentMu[i] = toMu(opponents.get(i).getRating());
+            opponentPhi[i] = opponents.get(i).getDeviation() / SCALE;
+            scoreArray[i] = scores.get(i);
+        }
+        update(player, toMu(player.getRating()), player.getDeviation() / SCALE, opponentMu, opponentPhi, scoreArray);
+    }
+
+    // 논문 Step 3 ~ 8
+    private void update(RatingState state, double mu, double phi, double[] opponentMu, double[] opponentPhi, double[] scores) {
+        double vInverse = 0;
+        double improvement = 0;
+        for (int j = 0; j < opponentMu.length; j++) {
+            double g = g(opponentPhi[j]);
+            double expected = 1 / (1 + Math.exp(-g * (mu - opponentMu[j])));
+            vInverse += g * g * expected * (1 - expected);
+            improvement += g * (scores[j] - expected);
+        }
+        double v = 1 / vInverse;
+        double delta = v * improvement;
+
+        double sigma = newVolatility(phi, state.getVolatility(), v, delta);
+        double phiStar = Math.sqrt(phi * phi + sigma * sigma);
+        double newPhi = 1 / Math.sqrt(1 / (phiStar * phiStar) + 1 / v);
+        double newMu = mu + newPhi * newPhi * improvement;
+
+        state.setRating(SCALE * newMu + 1500);
+        state.setDeviation(Math.min(SCALE * newPhi, MAX_DEVIATION));
+        state.setVolatility(sigma);
+    }
+
+    private double toMu(double rating) {
+        return (rating - 1500) / SCALE;
+    }
+
+    private double g(double phi) {
+        return 1 / Math.sqrt(1 + 3 * phi * phi / (Math.PI * Math.PI));
+    }
+
+    // Illinois 알고리즘으로 f(x) = 0 의 해를 구함 (논문 Step 5)
+    private double newVolatility(double phi, double sigma, double v, double delta) {
+        double a = Math.log(sigma * sigma);
+        double phi2 = phi * phi;
+        double delta2 = delta * delta;
+
+        double lowerA = a;
+        double upperB;
+        if (delta2 > phi2 + v) {
+            upperB = Math.log(delta2 - phi2 - v);
+        } else {
+            int k = 1;
+            while (f(a - k * TAU, a, phi2, v, delta2) < 0) {
+                k++;
+            }
+            upperB = a - k * TAU;
+        }
+
+        double fA = f(lowerA, a, phi2, v, delta2);
+        double fB = f(upperB, a, phi2, v, delta2);
+        while (Math.abs(upperB - lowerA) > EPSILON) {
+            double c = lowerA + (lowerA - upperB) * fA / (fB - fA);
+            double fC = f(c, a, phi2, v, delta2);
+            if (fC * fB <= 0) {
+                lowerA = upperB;
+                fA = fB;
+            } else {
+                fA = fA / 2;
+            }
+            upperB = c;
+            fB = fC;
+        }
+        return Math.exp(lowerA / 2);
+    }
+
+    private double f(double x, double a, double phi2, double v, double delta2) {
+        double ex = Math.exp(x);
+        double denominator = phi2 + v + ex;
+        return ex * (delta2 - phi2 - v - ex) / (2 * denominator * denominator) - (x - a) / (TAU * TAU);
+    }
+}
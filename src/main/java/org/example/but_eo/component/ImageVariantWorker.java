@@ -0,0 +1,304 @@
+package org.example.but_eo.component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.service.StorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 파생본(썸네일/중간 크기) 생성 워커.
+ * 원본 저장 후 URL만 넘겨받아 전용 스레드 풀에서 축소본을 원본 옆에 {이름}_{variant}.jpg 로 만든다.
+ * 응답 DTO는 urlOf()로 파생본 URL을 얻고, 아직 만들어지지 않았거나 원본이 충분히 작으면 원본 URL을 그대로 쓴다.
+ * 만들어진 파생본은 생성 시점에 메모리(원본 URL -> variant 집합, 최대 MAX_KNOWN_IMAGES 개)에 기록해
+ * urlOf() 가 응답마다 파일 시스템을 확인하지 않게 한다. 기록이 없을 때(재기동, 밀려남)만 확인하며,
+ * 확인해서 빠진 파생본이 있으면(아직 생성 중일 수 있음) scan-ttl-ms 동안만 그 결과를 쓴다.
+ */
+@Slf4j
+@Component
+public class ImageVariantWorker {
+
+    private static final int WORKER_THREADS = 2;
+    private static final int MAX_PENDING_TASKS = 256;
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L; // 압축 폭탄 방지
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String URL_PREFIX = "/uploads/";
+    private static final int MAX_KNOWN_IMAGES = 10_000;
+
+    @Getter
+    public enum Variant {
+        THUMB("thumb", 200),
+        MEDIUM("medium", 800);
+
+        private final String suffix;
+        private final int maxSize; // 긴 변 기준 최대 픽셀
+
+        Variant(String suffix, int maxSize) {
+            this.suffix = suffix;
+            this.maxSize = maxSize;
+        }
+    }
+
+    // 존재하는 파생본. checkedAt 이 0이면 생성 결과라 만료되지 않음
+    private record Known(Set<Variant> variants, long checkedAt) {
+    }
+
+    @Value("${image.variant.scan-ttl-ms:60000}")
+    private long scanTtlMillis;
+
+    // 원본 URL -> 존재하는 파생본 (접근 순서 LRU)
+    private final Map<String, Known> knownVariants = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Known> eldest) {
+                    return size() > MAX_KNOWN_IMAGES;
+                }
+            });
+
+    // 처리 대기/진행 중인 원본 URL (같은 이미지를 중복 처리하지 않도록)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            WORKER_THREADS, WORKER_THREADS,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_PENDING_TASKS),
+            new VariantThreadFactory()
+    );
+
+    public void schedule(String originalUrl) {
+        if (resolve(originalUrl) == null || !inFlight.add(originalUrl)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(originalUrl);
+                } finally {
+                    inFlight.remove(originalUrl);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 파생본이 없어도 원본으로 대체되므로 요청은 실패시키지 않음
+            inFlight.remove(originalUrl);
+            log.warn("이미지 파생본 작업 대기열이 가득 찼습니다. url={}", originalUrl);
+        }
+    }
+
+    // 파생본이 있으면 그 URL, 없으면 원본 URL
+    public String urlOf(String originalUrl, Variant variant) {
+        Path original = resolve(originalUrl);
+        if (original == null) {
+            return originalUrl;
+        }
+        Known known = knownVariants.get(originalUrl);
+        if (known == null || isStale(known)) {
+            Known scanned = new Known(scan(original), System.currentTimeMillis());
+            // 확인하는 동안 생성이 끝나 기록되었으면 그 값을 유지
+            known = knownVariants.compute(originalUrl,
+                    (url, current) -> current == null || isStale(current) ? scanned : current);
+        }
+        if (!known.variants().contains(variant)) {
+            return originalUrl;
+        }
+        return originalUrl.substring(0, originalUrl.lastIndexOf('/') + 1) + variantPath(original, variant).getFileName();
+    }
+
+    // 원본 삭제 시 기록 제거
+    public void forget(String originalUrl) {
+        knownVariants.remove(originalUrl);
+    }
+
+    // 파일 시스템 확인 결과에 빠진 파생본이 있으면 잠시 뒤 다시 확인
+    private boolean isStale(Known known) {
+        return known.checkedAt() != 0
+                && known.variants().size() < Variant.values().length
+                && System.currentTimeMillis() - known.checkedAt() >= scanTtlMillis;
+    }
+
+    private static Set<Variant> scan(Path original) {
+        Set<Variant> variants = EnumSet.noneOf(Variant.class);
+        for (Variant variant : Variant.values()) {
+            if (Files.exists(variantPath(original, variant))) {
+                variants.add(variant);
+            }
+        }
+        return Collections.unmodifiableSet(variants);
+    }
+
+    private void generate(String originalUrl) {
+        Path original = resolve(originalUrl);
+        if (original == null || !Files.exists(original)) {
+            return;
+        }
+
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return; // ImageIO가 읽지 못하는 형식(webp, heic 등)은 원본만 제공
+            }
+
+            Set<Variant> generated = EnumSet.noneOf(Variant.class);
+            for (Variant variant : Variant.values()) {
+                Path target = variantPath(original, variant);
+                if (Files.exists(target)) {
+                    generated.add(variant);
+                    continue; // 같은 내용의 원본은 경로가 같으므로 이미 만들어져 있음
+                }
+                if (Math.max(source.getWidth(), source.getHeight()) <= variant.getMaxSize()) {
+                    continue; // 원본이 충분히 작음
+                }
+                writeJpeg(scale(source, variant.getMaxSize()), target);
+                generated.add(variant);
+            }
+            knownVariants.put(originalUrl, new Known(Collections.unmodifiableSet(generated), 0));
+        } catch (Exception e) {
+            log.warn("이미지 파생본 생성 실패. url={}", originalUrl, e);
+        }
+    }
+
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    log.warn("이미지가 너무 커서 파생본을 만들지 않습니다. path={}, pixels={}", original, pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 절반씩 줄여 가며 축소 (한 번에 줄이면 bilinear 보간에서 계단 현상이 생김)
+    private BufferedImage scale(BufferedImage source, int maxSize) {
+        double ratio = (double) maxSize / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE); // 투명 배경은 흰색으로 (JPEG)
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    // 임시 파일에 쓴 뒤 이동해서 읽는 쪽이 쓰다 만 파일을 보지 않게 함
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path tmp = target.resolveSibling(UUID.randomUUID() + ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // /uploads/... URL을 업로드 루트 아래 실제 경로로 (루트 밖을 가리키면 null)
+    private static Path resolve(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        Path root = StorageService.uploadRoot().normalize();
+        Path path = root.resolve(url.substring(URL_PREFIX.length())).normalize();
+        return path.startsWith(root) ? path : null;
+    }
+
+    // 원본 삭제 시 함께 지울 파생본 경로
+    public static List<Path> variantPaths(Path original) {
+        return Arrays.stream(Variant.values())
+                .map(variant -> variantPath(original, variant))
+                .toList();
+    }
+
+    private static Path variantPath(Path original, Variant variant) {
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return original.resolveSibling(base + "_" + variant.getSuffix() + ".jpg");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class VariantThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
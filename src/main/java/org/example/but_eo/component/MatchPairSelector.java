@@ -0,0 +1,61 @@
+package org.example.but_eo.component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 자동 매칭 상대 선택 규칙.
+ * MatchQueue 의 PAIR_SCRIPT(Lua)가 Redis 안에서 같은 규칙으로 동작하며, 이 클래스는 그 규칙을 Java 로 옮겨 둔 것이다.
+ * 규칙을 바꿀 때는 두 곳을 함께 고쳐야 한다.
+ */
+public final class MatchPairSelector {
+
+    static final int BASE_RATING_WINDOW = 100;   // 대기 직후 허용 점수 차
+    static final int WINDOW_WIDEN_PER_SEC = 5;   // 대기 1초마다 늘어나는 점수 차
+    static final int MAX_RATING_WINDOW = 500;
+    static final int PAIR_SCAN_LIMIT = 50;       // 오래 기다린 순으로 확인할 팀 수
+
+    public record Queued(String teamId, double rating, long since) {
+    }
+
+    public record Pair(Queued team, Queued opponent) {
+    }
+
+    private MatchPairSelector() {
+    }
+
+    // 대기 시간에 따라 넓어지는 허용 점수 차
+    public static double window(long now, long since) {
+        double waited = (now - since) / 1000.0;
+        return Math.min(BASE_RATING_WINDOW + WINDOW_WIDEN_PER_SEC * waited, MAX_RATING_WINDOW);
+    }
+
+    /**
+     * oldest    - 기준 대기열에서 enqueuedBefore 이전에 들어온 팀, 대기 시작 순 (최대 PAIR_SCAN_LIMIT 개)
+     * opponents - 상대 대기열의 팀, 점수 순 (같은 점수는 팀 ID 순, ZRANGEBYSCORE 와 같은 순서)
+     * 오래 기다린 팀부터 허용 범위 안에서 점수 차가 가장 작은 상대를 고른다. 차이가 같으면 앞선 팀.
+     */
+    public static Optional<Pair> select(long now, List<Queued> oldest, List<Queued> opponents) {
+        for (Queued team : oldest) {
+            double window = window(now, team.since());
+            Queued best = null;
+            double bestDiff = 0;
+            for (Queued candidate : opponents) {
+                if (candidate.teamId().equals(team.teamId())
+                        || candidate.rating() < team.rating() - window
+                        || candidate.rating() > team.rating() + window) {
+                    continue;
+                }
+                double diff = Math.abs(candidate.rating() - team.rating());
+                if (best == null || diff < bestDiff) {
+                    best = candidate;
+                    bestDiff = diff;
+                }
+            }
+            if (best != null) {
+                return Optional.of(new Pair(team, best));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,219 @@
+package org.example.but_eo.component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.dto.MatchResultDto;
+import org.example.but_eo.dto.RequestAutoMatch;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.entity.Team;
+import org.example.but_eo.repository.MatchingRepository;
+import org.example.but_eo.service.TeamService;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동 매칭 페어링 워커.
+ * 요청 스레드는 (종목, 지역) 버킷을 dirty로 표시만 하고, 실제 페어링/매칭 저장/알림은 전용 스레드 풀에서 처리한다.
+ * 같은 버킷에 이벤트가 몰려도 실행 대기 중인 작업이 있으면 새로 제출하지 않고 한 번의 페어링 패스로 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchPairingWorker {
+
+    private static final int WORKER_THREADS = 2;
+    private static final int MAX_PENDING_TASKS = 256;
+    private static final int MAX_PAIRS_PER_PASS = 100; // 한 버킷이 워커를 독점하지 않도록 제한
+    private static final String MATCH_QUEUE_DESTINATION = "/queue/match";
+
+    private final MatchQueue matchQueue;
+    private final MatchingRepository matchingRepository;
+    private final TeamService teamService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 실행 대기 중인 버킷 ("sport:region")
+    private final Set<String> dirtyBuckets = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            WORKER_THREADS, WORKER_THREADS,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_PENDING_TASKS),
+            new PairingThreadFactory()
+    );
+
+    public void schedule(String sportType, String region) {
+        String bucket = sportType + ":" + region;
+        if (!dirtyBuckets.add(bucket)) {
+            return; // 이미 실행 대기 중인 패스가 있음
+        }
+
+        try {
+            executor.execute(() -> drain(bucket, sportType, region));
+        } catch (RejectedExecutionException e) {
+            // 다음 이벤트에서 다시 제출될 수 있도록 표시 해제
+            dirtyBuckets.remove(bucket);
+            log.warn("매칭 페어링 작업 대기열이 가득 찼습니다. bucket={}", bucket);
+        }
+    }
+
+    private void drain(String bucket, String sportType, String region) {
+        // 실행 시작 시점에 표시를 해제해야 처리 중 들어온 이벤트가 다음 패스를 예약할 수 있다
+        dirtyBuckets.remove(bucket);
+
+        for (int i = 0; i < MAX_PAIRS_PER_PASS; i++) {
+            Optional<List<RequestAutoMatch>> pair;
+            try {
+                pair = matchQueue.tryMatch(sportType, region);
+            } catch (Exception e) {
+                log.error("매칭 대기열 조회 실패. bucket={}", bucket, e);
+                return;
+            }
+            if (pair.isEmpty()) {
+                return;
+            }
+
+            createMatchOrRequeue(pair.get().get(0), pair.get().get(1));
+        }
+
+        // 한 패스에서 다 못 끝낸 경우 다음 패스로 넘김
+        schedule(sportType, region);
+    }
+
+    // 대기열에서 꺼낸 두 팀으로 매칭 생성
+    // 삭제된 팀은 버리고 남은 팀만 되돌림 (같은 쌍이 매번 다시 뽑혀 실패하지 않도록), 일시적 실패면 두 팀 모두 원래 대기 시각으로 되돌림
+    public void createMatchOrRequeue(RequestAutoMatch reqA, RequestAutoMatch reqB) {
+        List<Team> teams;
+        try {
+            teams = teamService.getMatchedTeams(reqA.getTeamId(), reqB.getTeamId());
+        } catch (Exception e) {
+            log.error("자동 매칭 팀 조회 실패, 대기열로 되돌림. teamA={}, teamB={}", reqA.getTeamId(), reqB.getTeamId(), e);
+            requeue(reqA);
+            requeue(reqB);
+            return;
+        }
+
+        Team teamA = findTeam(teams, reqA.getTeamId());
+        Team teamB = findTeam(teams, reqB.getTeamId());
+        if (teamA == null || teamB == null) {
+            log.warn("자동 매칭 대상 팀이 없어 대기열에서 제외. teamA={}({}), teamB={}({})",
+                    reqA.getTeamId(), teamA != null, reqB.getTeamId(), teamB != null);
+            if (teamA != null) {
+                requeue(reqA);
+            }
+            if (teamB != null) {
+                requeue(reqB);
+            }
+            return;
+        }
+
+        try {
+            createMatch(reqA, reqB, teamA, teamB);
+        } catch (Exception e) {
+            log.error("자동 매칭 생성 실패, 대기열로 되돌림. teamA={}, teamB={}", reqA.getTeamId(), reqB.getTeamId(), e);
+            requeue(reqA);
+            requeue(reqB);
+        }
+    }
+
+    private static Team findTeam(List<Team> teams, String teamId) {
+        for (Team team : teams) {
+            if (team.getTeamId().equals(teamId)) {
+                return team;
+            }
+        }
+        return null;
+    }
+
+    private void requeue(RequestAutoMatch request) {
+        try {
+            matchQueue.requeue(request);
+        } catch (Exception e) {
+            // 되돌리지도 못하면 리더에게 대기 취소를 알림 (MatchQueueScheduler 만료 알림과 같은 형식)
+            log.error("자동 매칭 대기열 복구 실패. teamId={}", request.getTeamId(), e);
+            notifyCancel(request.getTeamId());
+        }
+    }
+
+    private void notifyCancel(String teamId) {
+        try {
+            messagingTemplate.convertAndSendToUser(
+                    teamService.getLeaderHashId(teamId),
+                    MATCH_QUEUE_DESTINATION,
+                    new MatchResultDto(null, Matching.State.CANCEL, null)
+            );
+        } catch (Exception e) {
+            log.error("자동 매칭 취소 알림 실패. teamId={}", teamId, e);
+        }
+    }
+
+    // 매칭 생성 후 양 팀 리더에게 알림. 매치 지역은 먼저 기다리던 팀(reqA) 기준
+    private void createMatch(RequestAutoMatch reqA, RequestAutoMatch reqB, Team teamA, Team teamB) {
+        Matching match = new Matching();
+        match.setMatchId(UUID.randomUUID().toString());
+        match.setMatchType(Matching.Match_Type.valueOf(reqA.getSportType()));
+        match.setMatchRegion(reqA.getRegion());
+        match.setState(Matching.State.WAITING);
+        match.setMatchDate(LocalDateTime.now());
+        match.setTeam(teamA);
+        match.setChallengerTeam(teamB);
+
+        Matching savedMatch = matchingRepository.save(match);
+
+        // 각 리더에게 상대 팀 이름으로 알림 (/user/{userId}/queue/match)
+        // 매칭은 이미 저장됐으므로 알림 실패로 팀을 대기열에 되돌리지 않음
+        try {
+            String leaderAHashId = teamService.getLeaderHashId(reqA.getTeamId());
+            String leaderBHashId = teamService.getLeaderHashId(reqB.getTeamId());
+            messagingTemplate.convertAndSendToUser(
+                    leaderAHashId,
+                    MATCH_QUEUE_DESTINATION,
+                    createMatchResultDto(savedMatch, teamB.getTeamName())
+            );
+            messagingTemplate.convertAndSendToUser(
+                    leaderBHashId,
+                    MATCH_QUEUE_DESTINATION,
+                    createMatchResultDto(savedMatch, teamA.getTeamName())
+            );
+        } catch (Exception e) {
+            log.error("자동 매칭 알림 실패. matchId={}", savedMatch.getMatchId(), e);
+        }
+    }
+
+    private MatchResultDto createMatchResultDto(Matching match, String opponentTeamName) {
+        return new MatchResultDto(
+                match.getMatchId(),
+                match.getState(),
+                opponentTeamName
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class PairingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "match-pairing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
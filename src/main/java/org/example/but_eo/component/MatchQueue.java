@@ -2,52 +2,220 @@ package org.example.but_eo.component;
 
 import lombok.RequiredArgsConstructor;
 import org.example.but_eo.dto.RequestAutoMatch;
-import org.example.but_eo.entity.Team;
-import org.example.but_eo.service.TeamService;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.ListOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+/**
+ * 자동 매칭 대기열.
+ * match_queue:{sport}:{region}       - 대기 팀 (score = rating)
+ * match_queue:{sport}:{region}:since - 대기 팀 (score = 대기 시작 시각 ms)
+ * match_queue:teams                  - 대기 중인 팀 -> 대기열 (중복 등록 방지)
+ * 등록/매칭은 Lua 스크립트 한 번으로 처리되어 동시에 여러 이벤트가 들어와도 팀이 유실되거나 두 번 매칭되지 않는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class MatchQueue {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final String QUEUED_TEAMS_KEY = "match_queue:teams";
+
+    private static final DefaultRedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[3], ARGV[1]) == 1 then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('HSET', KEYS[3], ARGV[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // 오래 기다린 팀부터, 대기 시간에 따라 넓어지는 점수 범위 안에서 점수가 가장 가까운 상대를 찾아 둘 다 대기열에서 제거
+    // 상대 선택 규칙은 MatchPairSelector 와 같다 (바꿀 때는 함께 고칠 것)
+    // KEYS[1..2] = 기준 대기열, KEYS[3..4] = 상대 대기열 (같은 지역이면 동일), ARGV[6] = 이 시각 이전에 들어온 팀만 기준으로 삼음
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> PAIR_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local oldest = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[6], 'WITHSCORES', 'LIMIT', 0, tonumber(ARGV[5]))
+            for i = 1, #oldest, 2 do
+                local team = oldest[i]
+                local waited = (now - tonumber(oldest[i + 1])) / 1000
+                local window = math.min(tonumber(ARGV[2]) + tonumber(ARGV[3]) * waited, tonumber(ARGV[4]))
+                local rating = tonumber(redis.call('ZSCORE', KEYS[1], team))
+                local candidates = redis.call('ZRANGEBYSCORE', KEYS[3], rating - window, rating + window, 'WITHSCORES')
+                local best, bestRating, bestDiff = nil, nil, nil
+                for j = 1, #candidates, 2 do
+                    if candidates[j] ~= team then
+                        local diff = math.abs(tonumber(candidates[j + 1]) - rating)
+                        if best == nil or diff < bestDiff then
+                            best, bestRating, bestDiff = candidates[j], candidates[j + 1], diff
+                        end
+                    end
+                end
+                if best then
+                    local bestSince = redis.call('ZSCORE', KEYS[4], best)
+                    redis.call('ZREM', KEYS[1], team)
+                    redis.call('ZREM', KEYS[2], team)
+                    redis.call('ZREM', KEYS[3], best)
+                    redis.call('ZREM', KEYS[4], best)
+                    redis.call('HDEL', KEYS[5], team, best)
+                    return {team, tostring(rating), oldest[i + 1], best, bestRating, bestSince}
+                end
+            end
+            return {}
+            """, List.class);
+
+    // ARGV[1] 이전에 들어온 팀을 모두 제거하고 팀 ID 목록 반환
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> EXPIRE_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            for i = 1, #expired do
+                redis.call('ZREM', KEYS[1], expired[i])
+                redis.call('ZREM', KEYS[2], expired[i])
+                redis.call('HDEL', KEYS[3], expired[i])
+            end
+            return expired
+            """, List.class);
+
+    private static final DefaultRedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>("""
+            local key = redis.call('HGET', KEYS[1], ARGV[1])
+            if not key then
+                return 0
+            end
+            redis.call('ZREM', key, ARGV[1])
+            redis.call('ZREM', key .. ':since', ARGV[1])
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
     private final ApplicationEventPublisher eventPublisher;
-//    private static final String MATCH_QUEUE_KEY = "match_queue";
 
     private String getQueueKey(String sportType, String region) {
         // 키 이름: match_queue:SOCCER:Seoul 형식으로 분리
         return String.format("match_queue:%s:%s", sportType, region);
     }
 
-    public void enqueue(RequestAutoMatch request) {
-        String key  = getQueueKey(request.getSportType(), request.getRegion());
+    // 이미 대기 중인 팀이면 false
+    public boolean enqueue(RequestAutoMatch request) {
+        String key = getQueueKey(request.getSportType(), request.getRegion());
+
+        Long added = stringRedisTemplate.execute(
+                ENQUEUE_SCRIPT,
+                List.of(key, key + ":since", QUEUED_TEAMS_KEY),
+                request.getTeamId(),
+                String.valueOf(request.getRating()),
+                String.valueOf(System.currentTimeMillis()),
+                key
+        );
+        if (added == null || added == 0) {
+            return false;
+        }
 
-        redisTemplate.opsForList().rightPush(key, request);
         eventPublisher.publishEvent(new MatchQueueEvent(request.getSportType(), request.getRegion()));
+        return true;
+    }
+
+    // 매칭 생성에 실패한 팀을 원래 대기 시작 시각으로 되돌림 (대기 만료 시각이 늘어나지 않도록)
+    // 바로 다시 시도하면 같은 이유로 계속 실패할 수 있으므로 이벤트는 발행하지 않고 다음 점검 주기에 맡긴다
+    public boolean requeue(RequestAutoMatch request) {
+        String key = getQueueKey(request.getSportType(), request.getRegion());
+
+        Long added = stringRedisTemplate.execute(
+                ENQUEUE_SCRIPT,
+                List.of(key, key + ":since", QUEUED_TEAMS_KEY),
+                request.getTeamId(),
+                String.valueOf(request.getRating()),
+                String.valueOf(request.getEnqueuedAt()),
+                key
+        );
+        return added != null && added == 1;
     }
 
     public Optional<List<RequestAutoMatch>> tryMatch(String sportType, String region) {
+        return pair(sportType, region, region, System.currentTimeMillis());
+    }
+
+    // waitedAtLeastMillis 이상 기다린 region 팀을 인접 지역(neighborRegion) 대기열의 팀과 매칭
+    public Optional<List<RequestAutoMatch>> tryMatchAcross(String sportType, String region,
+                                                           String neighborRegion, long waitedAtLeastMillis) {
+        return pair(sportType, region, neighborRegion, System.currentTimeMillis() - waitedAtLeastMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<List<RequestAutoMatch>> pair(String sportType, String region, String opponentRegion, long enqueuedBefore) {
         String key = getQueueKey(sportType, region);
-        ListOperations<String, Object> ops = redisTemplate.opsForList();
-        Long size = ops.size(key);
+        String opponentKey = getQueueKey(sportType, opponentRegion);
 
-        if (size != null && size >= 2) {
-            RequestAutoMatch a = (RequestAutoMatch) ops.leftPop(key);
-            RequestAutoMatch b = (RequestAutoMatch) ops.leftPop(key);
+        List<String> pair = stringRedisTemplate.execute(
+                PAIR_SCRIPT,
+                List.of(key, key + ":since", opponentKey, opponentKey + ":since", QUEUED_TEAMS_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(MatchPairSelector.BASE_RATING_WINDOW),
+                String.valueOf(MatchPairSelector.WINDOW_WIDEN_PER_SEC),
+                String.valueOf(MatchPairSelector.MAX_RATING_WINDOW),
+                String.valueOf(MatchPairSelector.PAIR_SCAN_LIMIT),
+                String.valueOf(enqueuedBefore)
+        );
+        if (pair == null || pair.size() < 6) {
+            return Optional.empty();
+        }
 
-            if (a != null && b != null) {
-                return Optional.of(List.of(a, b));
-            }
+        return Optional.of(List.of(
+                toRequest(pair.get(0), pair.get(1), pair.get(2), sportType, region),
+                toRequest(pair.get(3), pair.get(4), pair.get(5), sportType, opponentRegion)
+        ));
+    }
+
+    // waitedAtLeastMillis 이상 기다린 팀을 대기열에서 제거하고 반환
+    @SuppressWarnings("unchecked")
+    public List<String> expire(String sportType, String region, long waitedAtLeastMillis) {
+        String key = getQueueKey(sportType, region);
+
+        List<String> expired = stringRedisTemplate.execute(
+                EXPIRE_SCRIPT,
+                List.of(key, key + ":since", QUEUED_TEAMS_KEY),
+                String.valueOf(System.currentTimeMillis() - waitedAtLeastMillis)
+        );
+        return expired == null ? List.of() : expired;
+    }
 
-            if (a != null) ops.rightPush(key, a);
-            if (b != null) ops.rightPush(key, b);
+    // 대기 중이 아니었으면 false
+    public boolean cancel(String teamId) {
+        Long removed = stringRedisTemplate.execute(CANCEL_SCRIPT, List.of(QUEUED_TEAMS_KEY), teamId);
+        return removed != null && removed == 1;
+    }
+
+    // 대기 팀이 있는 (종목, 지역) 목록
+    public List<MatchQueueEvent> getActiveBuckets() {
+        List<MatchQueueEvent> buckets = new ArrayList<>();
+        Set<String> seenKeys = new HashSet<>();
+        for (Object value : stringRedisTemplate.opsForHash().values(QUEUED_TEAMS_KEY)) {
+            String key = (String) value;
+            if (!seenKeys.add(key)) {
+                continue;
+            }
+            String[] parts = key.split(":", 3); // match_queue:{sport}:{region}
+            if (parts.length == 3) {
+                buckets.add(new MatchQueueEvent(parts[1], parts[2]));
+            }
         }
-        return Optional.empty();
+        return buckets;
+    }
+
+    private RequestAutoMatch toRequest(String teamId, String rating, String enqueuedAt, String sportType, String region) {
+        RequestAutoMatch request = new RequestAutoMatch();
+        request.setTeamId(teamId);
+        request.setRating((int) Double.parseDouble(rating));
+        request.setEnqueuedAt((long) Double.parseDouble(enqueuedAt));
+        request.setSportType(sportType);
+        request.setRegion(region);
+        return request;
     }
 }
@@ -0,0 +1,99 @@
+package org.example.but_eo.component;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.dto.ChallengerTeamResponse;
+import org.example.but_eo.dto.MatchingListResponse;
+import org.example.but_eo.entity.ChallengerList;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.entity.Team;
+import org.example.but_eo.repository.ChallengerListRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matching 목록 -> MatchingListResponse 변환.
+ * 매치 목록(팀/경기장은 EntityGraph 로 함께 조회)을 받아 도전 신청 팀을 matchId IN 쿼리로 한 번에 가져온 뒤
+ * 메모리에서 조립하므로 페이지 크기와 관계없이 쿼리 수가 고정된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingListAssembler {
+
+    // IN 절 파라미터 수 제한
+    private static final int IN_BATCH_SIZE = 500;
+
+    private final ChallengerListRepository challengerListRepository;
+
+    public Page<MatchingListResponse> toResponses(Page<Matching> matchingPage) {
+        Map<String, List<ChallengerTeamResponse>> challengers = loadChallengers(matchingPage.getContent());
+        return matchingPage.map(m -> toResponse(m, challengers));
+    }
+
+    public List<MatchingListResponse> toResponses(List<Matching> matchings) {
+        Map<String, List<ChallengerTeamResponse>> challengers = loadChallengers(matchings);
+        return matchings.stream()
+                .map(m -> toResponse(m, challengers))
+                .toList();
+    }
+
+    public MatchingListResponse toResponse(Matching matching) {
+        return toResponses(List.of(matching)).get(0);
+    }
+
+    private Map<String, List<ChallengerTeamResponse>> loadChallengers(List<Matching> matchings) {
+        Map<String, List<ChallengerTeamResponse>> result = new HashMap<>();
+        if (matchings.isEmpty()) {
+            return result;
+        }
+
+        List<String> matchIds = matchings.stream()
+                .map(Matching::getMatchId)
+                .distinct()
+                .toList();
+
+        for (int from = 0; from < matchIds.size(); from += IN_BATCH_SIZE) {
+            List<String> chunk = matchIds.subList(from, Math.min(from + IN_BATCH_SIZE, matchIds.size()));
+            for (ChallengerList c : challengerListRepository.findAllWithTeamByMatchIdIn(chunk)) {
+                result.computeIfAbsent(c.getChallengerKey().getMatchId(), k -> new ArrayList<>())
+                        .add(toChallengerTeam(c.getTeam()));
+            }
+        }
+        return result;
+    }
+
+    private MatchingListResponse toResponse(Matching m, Map<String, List<ChallengerTeamResponse>> challengers) {
+        // 수락된 팀 (상대팀)
+        ChallengerTeamResponse challengerTeam = m.getChallengerTeam() != null
+                ? toChallengerTeam(m.getChallengerTeam())
+                : null;
+
+        return new MatchingListResponse(
+                m.getMatchId(),
+                m.getMatchRegion() != null ? m.getMatchRegion() : "미정",
+                m.getTeam().getTeamName(),
+                m.getTeam().getTeamImg(),
+                m.getTeam().getRegion(),
+                m.getTeam().getRating(),
+                m.getStadium() != null ? m.getStadium().getStadiumName() : "미정",
+                m.getMatchDate(),
+                m.getMatchType().getDisplayName(),
+                m.getLoan(),
+                challengerTeam,
+                challengers.getOrDefault(m.getMatchId(), List.of())
+        );
+    }
+
+    private ChallengerTeamResponse toChallengerTeam(Team team) {
+        return new ChallengerTeamResponse(
+                team.getTeamId(),
+                team.getTeamName(),
+                team.getRegion(),
+                team.getRating()
+        );
+    }
+}
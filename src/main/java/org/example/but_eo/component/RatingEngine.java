@@ -0,0 +1,15 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.entity.Team;
+
+/**
+ * 경기 결과 한 건으로 두 팀 레이팅을 갱신한다.
+ * 사용할 구현은 rating.engine 속성으로 선택 (elo | glicko2, 기본 elo).
+ */
+public interface RatingEngine {
+
+    /**
+     * @param scoreA a 팀 기준 결과 (승 1, 무 0.5, 패 0)
+     */
+    void apply(RatingState a, RatingState b, double scoreA, Team.Event event);
+}
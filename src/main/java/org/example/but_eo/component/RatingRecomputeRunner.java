@@ -0,0 +1,28 @@
+package org.example.but_eo.component;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.service.LeaderboardService;
+import org.example.but_eo.service.RatingService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * rating.recompute-on-startup=true 로 기동하면 완료된 매치 전체를 다시 계산한다.
+ * (레이팅 엔진이나 K 값을 바꾼 뒤 한 번 실행)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rating.recompute-on-startup", havingValue = "true")
+public class RatingRecomputeRunner implements ApplicationRunner {
+
+    private final RatingService ratingService;
+    private final LeaderboardService leaderboardService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ratingService.recomputeAll();
+        leaderboardService.rebuild();
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.but_eo.component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 레이팅 계산용 팀 상태. 엔진이 값을 직접 갱신한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class RatingState {
+
+    public static final double INITIAL_RATING = 1000;
+    public static final double INITIAL_DEVIATION = 350;
+    public static final double INITIAL_VOLATILITY = 0.06;
+
+    private double rating;
+    private double deviation;
+    private double volatility;
+
+    public static RatingState initial() {
+        return new RatingState(INITIAL_RATING, INITIAL_DEVIATION, INITIAL_VOLATILITY);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.but_eo.component;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동 매칭 지역 확장용 인접 지역 목록 (가까운 순).
+ */
+@Component
+public class RegionNeighbors {
+
+    private static final Map<String, List<String>> NEIGHBORS = Map.ofEntries(
+            Map.entry("서울", List.of("경기", "인천")),
+            Map.entry("경기", List.of("서울", "인천", "강원", "충북", "충남")),
+            Map.entry("인천", List.of("서울", "경기")),
+            Map.entry("강원", List.of("경기", "충북", "경북")),
+            Map.entry("충북", List.of("세종", "대전", "경기", "충남", "강원", "경북", "전북")),
+            Map.entry("충남", List.of("세종", "대전", "경기", "충북", "전북")),
+            Map.entry("세종", List.of("대전", "충남", "충북")),
+            Map.entry("대전", List.of("세종", "충남", "충북", "전북")),
+            Map.entry("전북", List.of("충남", "대전", "충북", "전남", "광주", "경남")),
+            Map.entry("전남", List.of("광주", "전북", "경남")),
+            Map.entry("광주", List.of("전남", "전북")),
+            Map.entry("경북", List.of("대구", "울산", "강원", "충북", "경남")),
+            Map.entry("경남", List.of("부산", "울산", "대구", "경북", "전남", "전북")),
+            Map.entry("대구", List.of("경북", "경남")),
+            Map.entry("울산", List.of("부산", "경남", "경북")),
+            Map.entry("부산", List.of("울산", "경남")),
+            Map.entry("제주", List.of())
+    );
+
+    public List<String> of(String region) {
+        return NEIGHBORS.getOrDefault(region, List.of());
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.but_eo.component;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.entity.StadiumBooking;
+import org.example.but_eo.entity.StadiumClosure;
+import org.example.but_eo.entity.StadiumSlot;
+import org.example.but_eo.repository.StadiumBookingRepository;
+import org.example.but_eo.repository.StadiumClosureRepository;
+import org.example.but_eo.repository.StadiumSlotRepository;
+import org.example.but_eo.util.IntervalSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경기장별 이용 가능 시간 인메모리 인덱스.
+ * 주간 슬롯 + 휴무 구간 + 예약 구간을 경기장 단위로 들고 있어서 빈 슬롯 조회가 DB를 타지 않는다.
+ * 이 서버에서 커밋된 변경은 커밋 직후 반영하고, 다른 인스턴스의 변경은 refresh-ms 주기로 다시 읽어 맞춘다.
+ * 예약 확정은 여기서 하지 않는다 (DB 잠금 + 유니크 제약이 최종 판단).
+ */
+@Component
+@RequiredArgsConstructor
+public class StadiumAvailabilityIndex {
+
+    private final StadiumSlotRepository stadiumSlotRepository;
+    private final StadiumClosureRepository stadiumClosureRepository;
+    private final StadiumBookingRepository stadiumBookingRepository;
+
+    @Value("${stadium.availability.refresh-ms:60000}")
+    private long refreshMillis;
+
+    private final Map<String, Schedule> schedules = new ConcurrentHashMap<>();
+
+    // [from, to] 날짜의 슬롯별 이용 가능 여부 (지난 슬롯은 제외)
+    public List<SlotState> findSlots(String stadiumId, LocalDate from, LocalDate to) {
+        return scheduleOf(stadiumId).findSlots(from, to, LocalDateTime.now());
+    }
+
+    public void addBookingAfterCommit(String stadiumId, LocalDateTime startAt, LocalDateTime endAt) {
+        afterCommit(() -> {
+            Schedule schedule = schedules.get(stadiumId);
+            if (schedule != null) {
+                schedule.addBooking(startAt, endAt);
+            }
+        });
+    }
+
+    public void removeBookingAfterCommit(String stadiumId, LocalDateTime startAt) {
+        afterCommit(() -> {
+            Schedule schedule = schedules.get(stadiumId);
+            if (schedule != null) {
+                schedule.removeBooking(startAt);
+            }
+        });
+    }
+
+    // 슬롯/휴무 변경, 경기장 삭제 시 다음 조회에서 다시 읽도록
+    public void evictAfterCommit(String stadiumId) {
+        afterCommit(() -> schedules.remove(stadiumId));
+    }
+
+    private Schedule scheduleOf(String stadiumId) {
+        Schedule schedule = schedules.get(stadiumId);
+        if (schedule == null || schedule.isStale(refreshMillis)) {
+            schedule = load(stadiumId);
+            schedules.put(stadiumId, schedule);
+        }
+        return schedule;
+    }
+
+    private Schedule load(String stadiumId) {
+        LocalDateTime now = LocalDateTime.now();
+        Schedule schedule = new Schedule();
+
+        for (StadiumSlot slot : stadiumSlotRepository.findAllByStadium_StadiumIdOrderByDayOfWeekAscStartTimeAsc(stadiumId)) {
+            schedule.addSlot(slot.getDayOfWeek(), slot.getStartTime(), slot.getEndTime());
+        }
+        for (StadiumClosure closure : stadiumClosureRepository.findAllByStadium_StadiumIdAndEndAtAfter(stadiumId, now)) {
+            schedule.addClosure(closure.getStartAt(), closure.getEndAt());
+        }
+        for (StadiumBooking booking : stadiumBookingRepository.findAllByStadium_StadiumIdAndEndAtAfter(stadiumId, now)) {
+            schedule.addBooking(booking.getStartAt(), booking.getEndAt());
+        }
+        return schedule;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record SlotState(LocalDate date, LocalTime startTime, LocalTime endTime, boolean available) {
+    }
+
+    private static class Schedule {
+        private final Map<DayOfWeek, List<LocalTime[]>> weeklySlots = new EnumMap<>(DayOfWeek.class);
+        private final IntervalSet closures = new IntervalSet();
+        private final IntervalSet bookings = new IntervalSet();
+        private final long loadedAt = System.currentTimeMillis();
+
+        boolean isStale(long refreshMillis) {
+            return System.currentTimeMillis() - loadedAt > refreshMillis;
+        }
+
+        // 로딩 중에만 호출 (공개 전)
+        void addSlot(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+            weeklySlots.computeIfAbsent(dayOfWeek, d -> new ArrayList<>()).add(new LocalTime[]{startTime, endTime});
+        }
+
+        synchronized void addClosure(LocalDateTime startAt, LocalDateTime endAt) {
+            closures.addMerged(startAt, endAt);
+        }
+
+        synchronized void addBooking(LocalDateTime startAt, LocalDateTime endAt) {
+            bookings.add(startAt, endAt);
+        }
+
+        synchronized void removeBooking(LocalDateTime startAt) {
+            bookings.remove(startAt);
+        }
+
+        synchronized List<SlotState> findSlots(LocalDate from, LocalDate to, LocalDateTime now) {
+            List<SlotState> result = new ArrayList<>();
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                for (LocalTime[] slot : weeklySlots.getOrDefault(date.getDayOfWeek(), List.of())) {
+                    LocalDateTime startAt = LocalDateTime.of(date, slot[0]);
+                    if (startAt.isBefore(now)) {
+                        continue;
+                    }
+                    LocalDateTime endAt = LocalDateTime.of(date, slot[1]);
+                    boolean available = !closures.overlaps(startAt, endAt) && !bookings.overlaps(startAt, endAt);
+                    result.add(new SlotState(date, slot[0], slot[1], available));
+                }
+            }
+            return result;
+        }
+    }
+}
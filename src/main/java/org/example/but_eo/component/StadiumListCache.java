@@ -0,0 +1,78 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.dto.StadiumPageResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경기장 목록 응답 캐시 (필터/페이지별, 짧은 TTL).
+ * 경기장 등록/수정/삭제가 커밋되면 전체를 비운다. 다른 서버 인스턴스의 변경은 TTL 안에 반영된다.
+ */
+@Component
+public class StadiumListCache {
+
+    private static final int MAX_ENTRIES = 500;
+
+    @Value("${stadium.list.cache-ttl-ms:30000}")
+    private long ttlMillis;
+
+    private final Map<Key, CachedPage> entries = new ConcurrentHashMap<>();
+
+    public record Key(String region, String keyword, int page, int size) {
+    }
+
+    public StadiumPageResponse get(Key key) {
+        CachedPage cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired()) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached.response;
+    }
+
+    public void put(Key key, StadiumPageResponse response) {
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(CachedPage::isExpired);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear(); // 검색어 조합이 많아도 메모리가 계속 늘지 않도록
+            }
+        }
+        entries.put(key, new CachedPage(response, System.currentTimeMillis() + ttlMillis));
+    }
+
+    // 트랜잭션 안이면 커밋 후에 비움 (커밋 전 다른 요청이 옛 데이터를 다시 캐시하지 않도록)
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.clear();
+                }
+            });
+        } else {
+            entries.clear();
+        }
+    }
+
+    private static class CachedPage {
+        private final StadiumPageResponse response;
+        private final long expiryTimeMillis;
+
+        CachedPage(StadiumPageResponse response, long expiryTimeMillis) {
+            this.response = response;
+            this.expiryTimeMillis = expiryTimeMillis;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiryTimeMillis;
+        }
+    }
+}
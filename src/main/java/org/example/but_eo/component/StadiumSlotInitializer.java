@@ -0,0 +1,35 @@
+package org.example.but_eo.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.entity.Stadium;
+import org.example.but_eo.repository.StadiumRepository;
+import org.example.but_eo.service.StadiumAvailabilityService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 슬롯 테이블이 생기기 전에 등록된 경기장은 availableDays/availableHours 문자열로 기본 슬롯을 만들어 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StadiumSlotInitializer {
+
+    private final StadiumRepository stadiumRepository;
+    private final StadiumAvailabilityService stadiumAvailabilityService;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Stadium> stadiums = stadiumRepository.findAllWithoutSlots();
+        for (Stadium stadium : stadiums) {
+            stadiumAvailabilityService.replaceSlotsFromText(stadium);
+        }
+        log.info("경기장 기본 슬롯 생성 완료: {}곳", stadiums.size());
+    }
+}
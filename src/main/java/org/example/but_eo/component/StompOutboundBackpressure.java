@@ -0,0 +1,183 @@
+package org.example.but_eo.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 아직 소켓에 쓰지 못한 메시지 수 추적 + 느린 소비자 처리.
+ * clientOutboundChannel 에 들어올 때 세고, 실제로 소켓에 쓸 때 뺀다. 그래서 실행기 대기열뿐 아니라
+ * 느린 세션의 ConcurrentWebSocketSessionDecorator 버퍼에 쌓인 메시지도 포함된다
+ * (handleMessage 는 버퍼에 넣자마자 끝나므로 채널 쪽만 세면 버퍼 적체가 보이지 않음).
+ * 소켓 쓰기는 decorate() 로 세션을 한 겹 감싸 ConcurrentWebSocketSessionDecorator 안쪽에서 센다.
+ * 한 세션에 아직 쓰지 못한 메시지가 max-pending 이상 쌓이면 채팅 방송(/all/chat/**)은 버린다.
+ * policy=gap 이면 버린 뒤 그 목적지로 처음 나가는 메시지에 history-gap 헤더를 붙여 클라이언트가 이력을 다시 받게 한다.
+ * 개인 알림(/user/**)과 CONNECTED/RECEIPT/ERROR 프레임은 버리지 않는다.
+ */
+@Slf4j
+@Component
+public class StompOutboundBackpressure implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    public static final String HISTORY_GAP_HEADER = "history-gap";
+
+    private static final String DROPPABLE_PREFIX = "/all/chat/";
+    private static final String COUNTED_HEADER = "outboundCounted";
+    private static final String MESSAGE_FRAME = "MESSAGE\n"; // SimpMessageType.MESSAGE 가 인코딩된 STOMP 프레임
+
+    public enum Policy { DROP, GAP }
+
+    @Value("${websocket.slow-consumer.max-pending:200}")
+    private int maxPending;
+
+    @Value("${websocket.slow-consumer.policy:gap}")
+    private String policy;
+
+    // 세션 ID -> 소켓에 아직 쓰지 못한 메시지 수 (실행기 대기 + 세션 버퍼)
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    // 메시지를 버려 이력 구멍이 생긴 (세션 ID, 목적지)
+    private final Map<String, Set<String>> gaps = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null || accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        AtomicInteger depth = pending.computeIfAbsent(sessionId, id -> new AtomicInteger());
+        boolean droppable = destination != null && destination.startsWith(DROPPABLE_PREFIX);
+
+        if (droppable && depth.get() >= maxPending) {
+            dropped.incrementAndGet();
+            if (policy() == Policy.GAP) {
+                gaps.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(destination);
+            }
+            return null; // 전송하지 않음
+        }
+
+        depth.incrementAndGet();
+        StompHeaderAccessor mutable = StompHeaderAccessor.wrap(message);
+        mutable.setHeader(COUNTED_HEADER, Boolean.TRUE);
+        Set<String> sessionGaps = gaps.get(sessionId);
+        if (droppable && sessionGaps != null && sessionGaps.remove(destination)) {
+            mutable.setNativeHeader(HISTORY_GAP_HEADER, "true");
+        }
+        return MessageBuilder.createMessage(message.getPayload(), mutable.getMessageHeaders());
+    }
+
+    // 실행기에 넣지 못한 경우 (큐 가득 참 등)
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null) {
+            release(message);
+        }
+    }
+
+    // 정상 처리된 메시지는 소켓에 쓸 때(onWritten) 빼므로 여기서는 실패한 경우만
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (ex != null) {
+            release(message);
+        }
+    }
+
+    // SubProtocolWebSocketHandler 가 세션을 ConcurrentWebSocketSessionDecorator 로 감싸기 전에 한 겹 더 감쌈
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new WrittenCountingSession(session));
+            }
+        };
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        pending.remove(event.getSessionId());
+        gaps.remove(event.getSessionId());
+    }
+
+    // 세션별 소켓에 아직 쓰지 못한 메시지 수 (0 인 세션 제외)
+    public Map<String, Integer> pendingBySession() {
+        Map<String, Integer> snapshot = new ConcurrentHashMap<>();
+        pending.forEach((sessionId, depth) -> {
+            int value = depth.get();
+            if (value > 0) {
+                snapshot.put(sessionId, value);
+            }
+        });
+        return snapshot;
+    }
+
+    // 마지막 호출 이후 버린 메시지 수
+    public long drainDroppedCount() {
+        return dropped.getAndSet(0);
+    }
+
+    private void release(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getHeader(COUNTED_HEADER) == null || accessor.getSessionId() == null) {
+            return;
+        }
+        decrement(accessor.getSessionId());
+    }
+
+    void onWritten(String sessionId) {
+        decrement(sessionId);
+    }
+
+    private void decrement(String sessionId) {
+        AtomicInteger depth = pending.get(sessionId);
+        if (depth != null) {
+            depth.updateAndGet(value -> Math.max(0, value - 1));
+        }
+    }
+
+    private Policy policy() {
+        return "drop".equalsIgnoreCase(policy) ? Policy.DROP : Policy.GAP;
+    }
+
+    // 버퍼에서 실제로 소켓에 쓸 때만 호출되는 위치 (ConcurrentWebSocketSessionDecorator 안쪽)
+    class WrittenCountingSession extends WebSocketSessionDecorator {
+
+        WrittenCountingSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            if (message instanceof TextMessage text && text.getPayload().startsWith(MESSAGE_FRAME)) {
+                onWritten(getId());
+            }
+        }
+    }
+}
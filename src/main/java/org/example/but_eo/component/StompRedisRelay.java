@@ -0,0 +1,115 @@
+package org.example.but_eo.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 서버 인스턴스 간 STOMP 메시지 중계 (websocket.broker.mode=redis).
+ * 각 서버는 인메모리 심플 브로커로 자기에게 붙은 세션에만 전달하므로, 서버에서 브로커로 보내는 메시지(/all/**, /user/{id}/**)를
+ * Redis 채널로도 발행하고, 다른 서버는 받은 메시지를 자기 브로커 채널에 다시 넣어 로컬 구독자에게 전달한다.
+ * 보낸 서버는 바로 로컬 전달하고 자기 메시지는 무시하므로 같은 서버 구독자는 Redis 왕복을 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class StompRedisRelay implements ChannelInterceptor, MessageListener {
+
+    public static final String CHANNEL = "stomp:relay";
+
+    private static final String RELAYED_HEADER = "relayed";
+    private static final List<String> RELAY_PREFIXES = List.of("/all/", "/user/");
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+
+    public StompRedisRelay(StringRedisTemplate stringRedisTemplate,
+                           ObjectMapper objectMapper,
+                           @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+    }
+
+    // Redis 로 주고받는 메시지 형태
+    public record Envelope(String node, String destination, String contentType, byte[] payload) {
+    }
+
+    // 브로커 채널로 들어가는 메시지를 다른 서버에도 발행 (로컬 전달은 그대로 진행)
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (!shouldRelay(accessor) || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        try {
+            Envelope envelope = new Envelope(nodeId, accessor.getDestination(),
+                    contentType != null ? contentType.toString() : null, payload);
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 다른 서버 전달만 실패, 이 서버 구독자에게는 그대로 전달
+            log.warn("STOMP 메시지 중계 발행 실패. destination={}", accessor.getDestination(), e);
+        }
+        return message;
+    }
+
+    // 다른 서버가 발행한 메시지를 이 서버 브로커로 전달
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+        } catch (Exception e) {
+            log.warn("STOMP 중계 메시지 해석 실패", e);
+            return;
+        }
+        if (nodeId.equals(envelope.node())) {
+            return; // 내가 보낸 메시지는 이미 로컬 전달됨
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        MessageHeaders headers = accessor.getMessageHeaders();
+
+        brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), headers));
+    }
+
+    private boolean shouldRelay(SimpMessageHeaderAccessor accessor) {
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return false;
+        }
+        // 다른 서버에서 받은 메시지, 세션별로 풀린 유저 목적지(원래 목적지 헤더 있음)는 다시 발행하지 않음
+        if (accessor.getHeader(RELAYED_HEADER) != null
+                || accessor.getHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION) != null) {
+            return false;
+        }
+        String destination = accessor.getDestination();
+        return destination != null && RELAY_PREFIXES.stream().anyMatch(destination::startsWith);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.but_eo.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.repository.TeamRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * team.member-count.recount-on-startup=true 로 기동하면 team.total_members 컬럼을 실제 멤버 수로 맞춘다.
+ * (컬럼을 증감하기 전에 생성된 팀 보정, 배포 후 한 번 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "team.member-count.recount-on-startup", havingValue = "true")
+public class TeamMemberCountInitializer {
+
+    private final TeamRepository teamRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void recount() {
+        int updated = teamRepository.recountTotalMembers();
+        log.info("팀 멤버 수 보정 완료: {}팀", updated);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.but_eo.config;
+
+import org.example.but_eo.component.StompRedisRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// websocket.broker.mode=redis 일 때 다른 서버가 발행한 STOMP 메시지 구독
+@Configuration
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class StompRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer stompRelayListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                     StompRedisRelay stompRedisRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(stompRedisRelay, new ChannelTopic(StompRedisRelay.CHANNEL));
+        return container;
+    }
+}
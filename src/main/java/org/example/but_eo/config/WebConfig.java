@@ -1,25 +1,44 @@
 package org.example.but_eo.config;
 
+import org.example.but_eo.service.StorageService;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 정적 리소스: 팀 이미지 (/uploads/teams/**)
-        registry.addResourceHandler("/uploads/teams/**")
-                .addResourceLocations("file:" + System.getProperty("user.dir") + "/uploads/teams/");
 
-        // 기존 프로필 이미지
-        registry.addResourceHandler("/uploads/profiles/**")
-                .addResourceLocations("file:" + System.getProperty("user.dir") + "/uploads/profiles/");
+    // 업로드 파일 카테고리: /uploads/{category}/** -> uploads/{category}/
+    private static final List<String> UPLOAD_CATEGORIES = List.of(
+            StorageService.TEAMS,      // 팀 이미지
+            StorageService.PROFILES,   // 프로필 이미지
+            StorageService.STADIUMS,   // 경기장 이미지
+            StorageService.BOARDS,     // 게시글 첨부 파일
+            StorageService.CHATS       // 채팅 첨부 파일
+    );
 
-        // 경기장 이미지
-        registry.addResourceHandler("/uploads/stadiums/**")
-                .addResourceLocations("file:" + System.getProperty("user.dir") + "/uploads/stadiums/");
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 업로드 파일은 내용 해시(구 파일은 UUID)가 파일명이라 한 번 저장되면 바뀌지 않음
+        // -> 1년 immutable 캐시 + 파일명 기반 강한 ETag. Last-Modified/304, Range 요청은 리소스 핸들러가 처리
+        CacheControl immutable = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
 
+        for (String category : UPLOAD_CATEGORIES) {
+            registry.addResourceHandler("/uploads/" + category + "/**")
+                    .addResourceLocations("file:" + System.getProperty("user.dir") + "/uploads/" + category + "/")
+                    .setCacheControl(immutable)
+                    .setEtagGenerator(resource -> resource.getFilename())
+                    .resourceChain(false) // 업로드 파일 수만큼 커지는 경로 캐시는 쓰지 않음
+                    // 옆에 .br/.gz 사전 압축본이 있으면 Accept-Encoding 에 맞춰 그 파일을 응답
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new PathResourceResolver());
+        }
 
         // 기존 static 이미지 유지 (예: 게시판 테스트용)
         registry.addResourceHandler("/images/team/**")
@@ -1,29 +1,112 @@
 package org.example.but_eo.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.StompOutboundBackpressure;
+import org.example.but_eo.component.StompRedisRelay;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.net.http.WebSocket;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @Slf4j
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     // WebSocketMessageBrokerConfigurer WebSocket을 쓸 때, 메시지 경로, 구독 채널, 엔드포인트 등을 설정하게 해주는 역할
 
+    // websocket.broker.mode=redis 일 때만 존재 (서버 간 메시지 중계)
+    private final ObjectProvider<StompRedisRelay> stompRedisRelay;
+    private final StompOutboundBackpressure stompOutboundBackpressure;
+
+    // 클라이언트 -> 서버 메시지 처리 스레드 풀
+    @Value("${websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    // 서버 -> 클라이언트 전송 스레드 풀
+    @Value("${websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // true면 스레드 풀 대신 가상 스레드 사용 (큐 제한 없음, 세션별 제한은 그대로 적용)
+    @Value("${websocket.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    // 세션별 전송 제한: 한 번의 전송에 걸리는 최대 시간(ms), 전송 못 하고 쌓아둘 수 있는 최대 바이트
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
 
         registry.enableSimpleBroker("/user", "/all"); // /user로 시작하면 알람 발송
 
         registry.setApplicationDestinationPrefixes("/app"); // /app으로 시작하는 stomp메세지의 경로는 @Controller @MessageMapping 메서드로 라우팅
+
+        // 여러 서버로 띄울 때: 서버에서 브로커로 보내는 메시지를 Redis 로 다른 서버에도 전달
+        stompRedisRelay.ifAvailable(relay -> {
+            registry.configureBrokerChannel().interceptors(relay);
+            log.info("STOMP 메시지 Redis 중계 사용");
+        });
         System.out.println("WebSocket 메시지 브로커 설정 완료");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+        } else {
+            registration.taskExecutor()
+                    .corePoolSize(inboundCorePoolSize)
+                    .maxPoolSize(inboundMaxPoolSize)
+                    .queueCapacity(inboundQueueCapacity);
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
+        } else {
+            registration.taskExecutor()
+                    .corePoolSize(outboundCorePoolSize)
+                    .maxPoolSize(outboundMaxPoolSize)
+                    .queueCapacity(outboundQueueCapacity);
+        }
+        // 세션별 미전송 메시지 수 추적, 느린 클라이언트의 채팅 방송은 버림
+        registration.interceptors(stompOutboundBackpressure);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 제한을 넘기면 해당 세션만 끊어서 다른 세션 전송 스레드/메모리를 지킴
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                // 세션 버퍼에서 실제로 소켓에 쓴 메시지 수를 세어 미전송 메시지 수 계산
+                .addDecoratorFactory(stompOutboundBackpressure);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // StompEndpointRegistry = Stomp 엔드포인트를 등록할 때 사용하는 클래스
@@ -5,6 +5,7 @@ import org.example.but_eo.dto.BoardAdminResponse;
 import org.example.but_eo.dto.BoardDetailResponse;
 import org.example.but_eo.dto.BoardRequest;
 import org.example.but_eo.dto.BoardResponse;
+import org.example.but_eo.dto.BoardSearchResponse;
 import org.example.but_eo.entity.Board;
 import org.example.but_eo.service.BoardService;
 import org.springframework.data.domain.Page;
@@ -65,6 +66,19 @@ public class BoardController {
         return ResponseEntity.ok(boardService.getBoardsWithPaging(event, category, page, size, userId));
     }
 
+    // 게시글 검색 (제목 + 내용)
+    @GetMapping("/search")
+    public ResponseEntity<BoardSearchResponse> searchBoards(
+            @RequestParam String q,
+            @RequestParam(required = false) Board.Event event,
+            @RequestParam(required = false) Board.Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        String userId = SecurityUtil.getCurrentUserId();
+        return ResponseEntity.ok(boardService.searchBoards(q, event, category, cursor, size, userId));
+    }
+
     //게시판 전체조회(관리자 기능)
     @GetMapping("/all")
     public ResponseEntity<Page<BoardAdminResponse>> getBoards(
@@ -1,20 +1,24 @@
 package org.example.but_eo.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.dto.ChatHistoryResponse;
 import org.example.but_eo.dto.ChatMember;
 import org.example.but_eo.dto.ChatMessage;
+import org.example.but_eo.dto.ChatReadRequest;
 import org.example.but_eo.dto.ChattingDTO;
 import org.example.but_eo.dto.CreateChatRoomRequest;
 import org.example.but_eo.entity.Chatting;
 import org.example.but_eo.entity.ChattingMember;
+import org.example.but_eo.service.ChatAttachmentService;
+import org.example.but_eo.service.ChatHistoryService;
+import org.example.but_eo.service.ChatReadCursorService;
+import org.example.but_eo.service.ChatRoomSummaryService;
 import org.example.but_eo.service.ChattingMessageService;
 import org.example.but_eo.service.ChattingService;
 import org.example.but_eo.service.RedisChatService;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -22,6 +26,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.*;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
@@ -38,8 +43,10 @@ public class ChatController {
     private final SimpMessagingTemplate messagingTemplate;
     private final RedisChatService redisChatService;
     private final ChattingMessageService chattingMessageService;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final ChatHistoryService chatHistoryService;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ChatReadCursorService chatReadCursorService;
+    private final ChatAttachmentService chatAttachmentService;
 
 //    @MessageMapping("chat/enter") // 현재 세팅의 경우 클라이언트에서 보낼 때 /app/chat/message -> 클라이언트가 채팅을 보낼때 입장이나 등등
 //    public void enter(@Payload ChatMessage message) {
@@ -81,12 +88,24 @@ public class ChatController {
             System.out.println(userId);
 
             message.setSender(userId);
+            try {
+                message.setAttachments(chatAttachmentService.resolve(userId, message.getAttachments()));
+            } catch (IllegalArgumentException e) {
+                log.warn("채팅 첨부 파일 확인 실패. userId={}, {}", userId, e.getMessage());
+                return;
+            }
+            if (message.getMessage() == null) {
+                message.setMessage(""); // 첨부 파일만 보낸 경우
+            }
             message.setMessageId(UUID.randomUUID().toString());
             message.setNickName(chattingService.getNickName(userId));
             message.setCreatedAt(LocalDateTime.now().toString());
             log.warn("메세지 등록 시간: " + LocalDateTime.now());
 
-            redisChatService.saveMessageToRedis(message.getChat_id(), message);
+            // 순번 발급과 Redis 저장이 끝난 뒤에만 방송
+            long seq = chatHistoryService.append(message.getChat_id(), message);
+            chatReadCursorService.onSent(message.getChat_id(), userId, seq);
+            chatRoomSummaryService.onMessage(message);
             messagingTemplate.convertAndSend("/all/chat/" + message.getChat_id(), message);
             System.out.println("메세지 전송된 채팅방 아이디 : " + message.getChat_id());
             System.out.println("메세지 내용 : " + message.getMessage());
@@ -96,26 +115,48 @@ public class ChatController {
         }
     }
 
-    @GetMapping("/load/messages/{roomId}")
-    @ResponseBody
-    public List<ChatMessage> getMessages(@PathVariable String roomId) {
-        String key = "chatroom:" + roomId;
+    // 채팅 첨부 파일 업로드, 응답의 fileId 를 메시지 attachments 에 담아 전송
+    @PostMapping(value = "/chat/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> uploadAttachment(@RequestParam String roomId,
+                                              @RequestPart("file") MultipartFile file,
+                                              Authentication authentication) {
+        String userId = (String) authentication.getPrincipal();
+        if (!chatRoomSummaryService.isMember(roomId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("채팅방 멤버만 파일을 올릴 수 있습니다.");
+        }
+        return ResponseEntity.ok(chatAttachmentService.upload(userId, file));
+    }
 
-        //Flutter에서는 메세지를 Map으로 파싱하려고 함 -> 역직렬화 필요
-        List<String> rawMessages = redisTemplate.opsForList().range(key, 0, -1);
-//        ObjectMapper mapper = new ObjectMapper();
-        List<ChatMessage> messages = new ArrayList<>();
+    // 읽음 위치 갱신 (/app/chat/read), 서버에서 모아서 주기적으로 반영
+    @MessageMapping("/chat/read")
+    public void read(@Payload ChatReadRequest request, Principal principal) {
+        if (principal == null || request.getChatroomId() == null || request.getSeq() == null) {
+            return;
+        }
+        if (!chatRoomSummaryService.isMember(request.getChatroomId(), principal.getName())) {
+            log.warn("채팅방 멤버가 아닌 사용자의 읽음 요청. roomId={}, userId={}", request.getChatroomId(), principal.getName());
+            return;
+        }
+        chatReadCursorService.onRead(request.getChatroomId(), principal.getName(), request.getSeq());
+    }
 
-        for(String json : rawMessages){
-            try {
-                ChatMessage message = objectMapper.readValue(json, ChatMessage.class); //Jackson
-                messages.add(message);
-            }catch (JsonProcessingException e) {
-                e.printStackTrace();
-            }
+    // 채팅 내역 페이지 조회 (최신순), before 에 이전 응답의 nextCursor 를 넘기면 더 오래된 메시지
+    // afterSeq 를 넘기면 그 순번 이후 놓친 메시지만 오래된 순으로 (재접속 시), 더 있으면 nextCursor 를 다시 afterSeq 로
+    @GetMapping("/load/messages/{roomId}")
+    @ResponseBody
+    public ChatHistoryResponse getMessages(@PathVariable String roomId,
+                                           @RequestParam(required = false) String before,
+                                           @RequestParam(required = false) Long afterSeq,
+                                           @RequestParam(defaultValue = "50") int limit,
+                                           Authentication authentication) {
+        if (afterSeq != null) {
+            return chatHistoryService.getMessagesAfter(roomId, afterSeq, limit);
+        }
+        // 첫 페이지를 연 시점에 안읽은 수 초기화
+        if (before == null && authentication != null && authentication.getPrincipal() instanceof String userId) {
+            chatRoomSummaryService.markRead(roomId, userId);
         }
-        System.out.println(messages);
-        return messages;
+        return chatHistoryService.getMessages(roomId, before, limit);
     }
 
     @GetMapping("/load/members/{roomId}")
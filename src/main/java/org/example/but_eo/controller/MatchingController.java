@@ -50,6 +50,25 @@ public class MatchingController {
         return ResponseEntity.ok(result);
     }
 
+    // 주변 WAITING 매치 (가까운 순, event 생략 시 전 종목)
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyMatchingResponse>> getNearbyMatchings(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) String event,
+            @RequestParam(defaultValue = "20") int limit) {
+        Matching.Match_Type parsedType = null;
+        if (event != null && !event.isBlank()) {
+            try {
+                parsedType = Matching.Match_Type.from(event);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(null);
+            }
+        }
+        return ResponseEntity.ok(matchingService.getNearbyMatchings(lat, lng, radiusKm, parsedType, limit));
+    }
+
     @GetMapping("/{matchId}")
     public ResponseEntity<MatchingDetailResponse> getMatchDetail(@PathVariable String matchId) {
         MatchingDetailResponse response = matchingService.getMatchDetail(matchId);
@@ -108,6 +127,16 @@ public class MatchingController {
         return ResponseEntity.ok(result);
     }
 
+    // 팀 ID로 매치 리스트 조회 (페이징)
+    @GetMapping("/team/{teamId}/page")
+    public ResponseEntity<Page<MatchingListResponse>> getTeamMatchingPage(
+            @PathVariable String teamId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<MatchingListResponse> result = matchingService.getMatchingsByTeamId(teamId, page, size);
+        return ResponseEntity.ok(result);
+    }
+
     // 도전 수락 (리더만 가능)
     @PatchMapping("/team/{teamId}/matchings/{matchId}/accept/{challengerTeamId}")
     public ResponseEntity<?> acceptChallengeByTeam(
@@ -186,12 +215,25 @@ public class MatchingController {
 
     @PostMapping("/auto")
     public ResponseEntity<?> requestAutoMatch(@RequestBody RequestAutoMatch requestAutoMatch, Authentication authentication) {
-        if(matchingService.requestAutoMatch(requestAutoMatch)) {
-            return ResponseEntity.ok("매칭 요청 완료");
-        } else {
-            log.warn("매칭 요청 실패");
-            return ResponseEntity.notFound().build();
+        try {
+            if(matchingService.requestAutoMatch(requestAutoMatch)) {
+                return ResponseEntity.ok("매칭 요청 완료");
+            } else {
+                log.warn("매칭 요청 실패");
+                return ResponseEntity.notFound().build();
+            }
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/auto/{teamId}")
+    public ResponseEntity<?> cancelAutoMatch(@PathVariable String teamId) {
+        String userId = SecurityUtil.getCurrentUserId();
+        if (matchingService.cancelAutoMatch(teamId, userId)) {
+            return ResponseEntity.ok("자동 매칭 대기가 취소되었습니다.");
         }
+        return ResponseEntity.notFound().build();
     }
 
     @PostMapping("auto/{matchId}/respond")
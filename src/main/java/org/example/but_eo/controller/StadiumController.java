@@ -1,15 +1,23 @@
 package org.example.but_eo.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.but_eo.dto.NearbyStadiumResponse;
+import org.example.but_eo.dto.StadiumAvailabilityResponse;
+import org.example.but_eo.dto.StadiumClosureRequest;
+import org.example.but_eo.dto.StadiumPageResponse;
 import org.example.but_eo.dto.StadiumRequest;
 import org.example.but_eo.dto.StadiumResponse;
+import org.example.but_eo.dto.StadiumSlotRequest;
+import org.example.but_eo.service.StadiumAvailabilityService;
 import org.example.but_eo.service.StadiumService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,6 +26,7 @@ import java.util.List;
 public class StadiumController {
 
     private final StadiumService stadiumService;
+    private final StadiumAvailabilityService stadiumAvailabilityService;
 
     // 생성 - form-data 방식 (이미지 포함)
     @PostMapping(value = "/create", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -30,6 +39,8 @@ public class StadiumController {
             @RequestParam("stadiumTel") String stadiumTel,
             @RequestParam("stadiumCost") int stadiumCost,
             @RequestPart(value = "images", required = false) List<MultipartFile> images,
+            @RequestParam(value = "latitude", required = false) Double latitude,
+            @RequestParam(value = "longitude", required = false) Double longitude,
             Authentication auth) {
 
         String userId = (String) auth.getPrincipal();
@@ -42,6 +53,8 @@ public class StadiumController {
         request.setAvailableHours(availableHours);
         request.setStadiumTel(stadiumTel);
         request.setStadiumCost(stadiumCost);
+        request.setLatitude(latitude);
+        request.setLongitude(longitude);
         request.setImageFiles(images);
 
         stadiumService.createStadium(request, userId);
@@ -74,10 +87,53 @@ public class StadiumController {
         return ResponseEntity.ok("경기장 삭제 완료");
     }
 
-    // 전체 조회 (StadiumResponse DTO로 반환)
+    // 목록 조회 (지역/이름 검색 + 페이지)
     @GetMapping
-    public ResponseEntity<List<StadiumResponse>> getAllStadiums() {
-        return ResponseEntity.ok(stadiumService.getAll());
+    public ResponseEntity<StadiumPageResponse> getStadiums(
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(stadiumService.getStadiums(region, q, page, size));
+    }
+
+    // 주변 경기장 (가까운 순)
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyStadiumResponse>> getNearbyStadiums(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(stadiumService.getNearbyStadiums(lat, lng, radiusKm, limit));
+    }
+
+    // 기간 내 슬롯별 이용 가능 여부 (최대 31일)
+    @GetMapping("/{stadiumId}/availability")
+    public ResponseEntity<StadiumAvailabilityResponse> getAvailability(
+            @PathVariable String stadiumId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(stadiumAvailabilityService.getAvailability(stadiumId, from, to));
+    }
+
+    // 주간 슬롯 교체
+    @PutMapping("/{stadiumId}/slots")
+    public ResponseEntity<String> replaceSlots(@PathVariable String stadiumId,
+                                               @RequestBody List<StadiumSlotRequest> slots,
+                                               Authentication auth) {
+        String userId = (String) auth.getPrincipal();
+        stadiumService.replaceSlots(stadiumId, slots, userId);
+        return ResponseEntity.ok("경기장 이용 시간 수정 완료");
+    }
+
+    // 휴무 등록
+    @PostMapping("/{stadiumId}/closures")
+    public ResponseEntity<String> addClosure(@PathVariable String stadiumId,
+                                             @RequestBody StadiumClosureRequest req,
+                                             Authentication auth) {
+        String userId = (String) auth.getPrincipal();
+        stadiumService.addClosure(stadiumId, req, userId);
+        return ResponseEntity.ok("경기장 휴무 등록 완료");
     }
 
     // 단건 조회
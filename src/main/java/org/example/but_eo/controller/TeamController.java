@@ -2,9 +2,14 @@ package org.example.but_eo.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.but_eo.dto.TeamJoinRequestDto;
+import org.example.but_eo.dto.TeamPageResponse;
+import org.example.but_eo.dto.TeamRankResponse;
+import org.example.but_eo.dto.TeamRankingResponse;
 import org.example.but_eo.dto.TeamResponse;
+import org.example.but_eo.dto.TeamSummary;
 import org.example.but_eo.dto.UpdateTeamRequest;
 import org.example.but_eo.entity.Team;
+import org.example.but_eo.service.LeaderboardService;
 import org.example.but_eo.service.TeamService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +25,7 @@ import java.util.List;
 public class TeamController {
 
     private final TeamService teamService;
+    private final LeaderboardService leaderboardService;
 
     // 팀 생성
     @PostMapping(value = "/create", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -31,13 +37,15 @@ public class TeamController {
             @RequestParam("team_case") String teamCaseStr,
             @RequestParam("team_description") String teamDescription,
             @RequestPart(value = "team_img", required = false) MultipartFile teamImg,
+            @RequestParam(value = "latitude", required = false) Double latitude,
+            @RequestParam(value = "longitude", required = false) Double longitude,
             Authentication authentication) {
 
         Team.Event event = Team.Event.valueOf(eventStr);
         Team.Team_Case teamCase = Team.Team_Case.valueOf(teamCaseStr);
         String userId = (String) authentication.getPrincipal();
 
-        teamService.createTeam(teamName, event, region, memberAge, teamCase, teamDescription, teamImg, userId);
+        teamService.createTeam(teamName, event, region, memberAge, teamCase, teamDescription, teamImg, latitude, longitude, userId);
         return ResponseEntity.ok("팀 생성 성공");
     }
 
@@ -63,17 +71,36 @@ public class TeamController {
 
     // 팀 전체 조회 / 필터 검색
     @GetMapping
-    public ResponseEntity<List<TeamResponse>> getTeamsWithFilter(
+    public ResponseEntity<TeamPageResponse> getTeamsWithFilter(
             @RequestParam(required = false) String event,
             @RequestParam(required = false) String region,
             @RequestParam(required = false) String teamType,
             @RequestParam(required = false) String teamCase,
-            @RequestParam(required = false) String teamName) {
+            @RequestParam(required = false) String teamName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
-        List<TeamResponse> teams = teamService.getFilteredTeams(event, region, teamType, teamCase, teamName);
+        TeamPageResponse teams = teamService.getFilteredTeams(event, region, teamType, teamCase, teamName, cursor, size);
         return ResponseEntity.ok(teams);
     }
 
+    // 종목/지역별 랭킹 (region 생략 시 종목 전체)
+    @GetMapping("/rankings")
+    public ResponseEntity<List<TeamRankingResponse>> getRankings(
+            @RequestParam String event,
+            @RequestParam(required = false) String region,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(leaderboardService.getRankings(event, region, offset, limit));
+    }
+
+    // 팀 순위 조회
+    @GetMapping("/{teamId}/rank")
+    public ResponseEntity<TeamRankResponse> getTeamRank(@PathVariable String teamId) {
+        return ResponseEntity.ok(leaderboardService.getTeamRank(teamId));
+    }
+
     // 팀 디테일조회
     @GetMapping("/team/{teamId}")
     public ResponseEntity<TeamResponse> getTeamDetail(
@@ -95,17 +122,17 @@ public class TeamController {
 
     // 유저가 리더로 있는 팀 목록 조회
     @GetMapping("/my-leader-teams")
-    public ResponseEntity<List<TeamResponse>> getMyLeaderTeams(Authentication authentication) {
+    public ResponseEntity<List<TeamSummary>> getMyLeaderTeams(Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
-        List<TeamResponse> teams = teamService.getTeamsWhereUserIsLeader(userId);
+        List<TeamSummary> teams = teamService.getTeamsWhereUserIsLeader(userId);
         return ResponseEntity.ok(teams);
     }
 
     // 내가 속한 팀 목록 조회 (리더가 아니어도 조회 가능)
     @GetMapping("/my-teams")
-    public ResponseEntity<List<TeamResponse>> getMyTeams(Authentication authentication) {
+    public ResponseEntity<List<TeamSummary>> getMyTeams(Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
-        List<TeamResponse> teams = teamService.getTeamsWhereUserIsMember(userId);
+        List<TeamSummary> teams = teamService.getTeamsWhereUserIsMember(userId);
         return ResponseEntity.ok(teams);
     }
     
@@ -0,0 +1,22 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 채팅 메시지 첨부 파일 (STOMP 프레임에는 URL 만 싣고 파일 내용은 /uploads 로 따로 받음)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatAttachment {
+    private String fileId;
+    private String url;
+    private String thumbnailUrl; // 이미지면 썸네일(아직 없으면 원본), 그 외 null
+    private String fileName;
+    private String contentType;
+    private Long size;
+}
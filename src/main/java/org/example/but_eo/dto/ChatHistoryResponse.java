@@ -0,0 +1,18 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponse {
+    private List<ChatMessage> messages; // 최신순
+    private String nextCursor;          // 다음(더 오래된) 페이지 요청 시 before 값, 없으면 null
+    private boolean hasMore;
+}
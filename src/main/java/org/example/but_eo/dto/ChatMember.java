@@ -12,4 +12,5 @@ import lombok.Setter;
 public class ChatMember {
     String nickName;
     String profile;
+    String profileThumbnail;
 }
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -21,6 +22,8 @@ public class ChatMessage {
     private String nickName;
     private String message;
     private String createdAt;
+    private Long seq; // 채팅방 내 메시지 순번 (1부터 증가, 도입 이전 메시지는 null)
+    private List<ChatAttachment> attachments; // 보낼 때는 fileId 만, 서버가 저장된 파일 정보로 채움
 
 //    private String chatRoomId; //채팅방 아이디
 //    private String senderId; //메세지 전송자 아이디
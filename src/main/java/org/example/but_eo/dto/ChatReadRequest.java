@@ -0,0 +1,13 @@
+package org.example.but_eo.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChatReadRequest {
+    private String chatroomId;
+    private Long seq; // 마지막으로 화면에 표시한 메시지 순번
+}
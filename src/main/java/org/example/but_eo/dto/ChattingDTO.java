@@ -15,5 +15,7 @@ public class ChattingDTO {
 
     private String lastMessage; // 마지막 메시지
     private String lastMessageTime; // 마지막 메시지 시간
+    private String lastSenderNickName; // 마지막 메시지 보낸 사람
+    private int unreadCount; // 안읽은 메시지 수
 
 }
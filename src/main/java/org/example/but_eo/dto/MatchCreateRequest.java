@@ -13,4 +13,5 @@ public class MatchCreateRequest {
     private String loan;      // "true" or "false"
     private String region;
     private String etc;
+    private String stadiumId; // 선택. 지정하면 해당 경기장 슬롯을 함께 예약
 }
@@ -0,0 +1,15 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.but_eo.entity.Matching;
+
+// 위치 인덱스 재구축용 (생성자 프로젝션)
+@Getter
+@AllArgsConstructor
+public class MatchGeoPoint {
+    private String matchId;
+    private Matching.Match_Type matchType;
+    private Double latitude;
+    private Double longitude;
+}
@@ -0,0 +1,11 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyMatchingResponse {
+    private MatchingListResponse matching;
+    private double distanceKm;
+}
@@ -0,0 +1,11 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyStadiumResponse {
+    private StadiumResponse stadium;
+    private double distanceKm;
+}
@@ -10,4 +10,5 @@ public class RequestAutoMatch {
     private String sportType;
     private String region;
     private int rating;
+    private long enqueuedAt; // 대기열에 들어간 시각 (ms), 대기열에서 꺼낼 때 채워짐
 }
@@ -0,0 +1,26 @@
+package org.example.but_eo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class StadiumAvailabilityResponse {
+    private String stadiumId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<SlotDto> slots; // 날짜, 시작 시간 순
+
+    @Getter
+    @Builder
+    public static class SlotDto {
+        private LocalDate date;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private boolean available;
+    }
+}
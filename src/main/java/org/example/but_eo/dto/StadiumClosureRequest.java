@@ -0,0 +1,12 @@
+package org.example.but_eo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StadiumClosureRequest {
+    private String startAt; // yyyy-MM-ddTHH:mm
+    private String endAt;   // yyyy-MM-ddTHH:mm
+    private String reason;
+}
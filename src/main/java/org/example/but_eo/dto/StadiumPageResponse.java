@@ -0,0 +1,20 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StadiumPageResponse {
+    private List<StadiumResponse> stadiums; // 이름순
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasNext;
+}
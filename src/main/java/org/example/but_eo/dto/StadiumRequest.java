@@ -16,6 +16,8 @@ public class StadiumRequest {
     private String availableHours;
     private String stadiumTel;
     private Integer stadiumCost;
+    private Double latitude;
+    private Double longitude;
 
     private List<MultipartFile> imageFiles; // 최대 10장
 }
@@ -25,4 +25,6 @@ public class StadiumResponse {
     private String ownerNickname; // optional
 
     private List<String> imageUrls;
+    private List<String> thumbnailUrls; // imageUrls 와 같은 순서, 파생본이 없으면 원본
+    private List<String> mediumUrls;
 }
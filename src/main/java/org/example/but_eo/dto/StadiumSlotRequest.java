@@ -0,0 +1,12 @@
+package org.example.but_eo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StadiumSlotRequest {
+    private String dayOfWeek; // MONDAY ~ SUNDAY
+    private String startTime; // HH:mm
+    private String endTime;   // HH:mm
+}
@@ -0,0 +1,15 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// StorageService 저장 결과
+@Getter
+@AllArgsConstructor
+public class StoredFile {
+    private String url;          // /uploads/{category}/ab/{sha256}.{ext}
+    private String sha256;
+    private long size;
+    private String contentType;
+    private String originalName;
+}
@@ -0,0 +1,18 @@
+package org.example.but_eo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamPageResponse {
+    private List<TeamSummary> teams;    // 레이팅 높은 순
+    private String nextCursor;          // 다음 페이지 요청 시 cursor 값, 없으면 null
+    private boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package org.example.but_eo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.example.but_eo.entity.Team;
+
+@Getter
+@Setter
+@Builder
+public class TeamRankResponse {
+    private String teamId;
+    private Team.Event event;
+    private String region;
+    private int rating;
+    private Long regionRank;  // 같은 종목 + 지역 내 순위 (1부터, 순위 없으면 null)
+    private long regionTotal;
+    private Long eventRank;   // 같은 종목 전체 순위
+    private long eventTotal;
+}
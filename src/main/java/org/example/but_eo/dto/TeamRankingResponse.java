@@ -0,0 +1,24 @@
+package org.example.but_eo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.example.but_eo.entity.Team;
+
+@Getter
+@Setter
+@Builder
+public class TeamRankingResponse {
+    private long rank;
+    private String teamId;
+    private String teamName;
+    private String teamImg;
+    private String teamImgThumbnail;
+    private Team.Event event;
+    private String region;
+    private int rating;
+    private int matchCount;
+    private int winCount;
+    private int loseCount;
+    private int drawCount;
+}
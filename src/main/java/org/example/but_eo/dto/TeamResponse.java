@@ -22,6 +22,8 @@ public class TeamResponse {
     private int rating;
     private String teamDescription;
     private String teamImg;
+    private String teamImgThumbnail; // 파생본 URL은 서비스에서 채움
+    private String teamImgMedium;
     private Event event;
     private Team_Type teamType;
     private Team_Case teamCase;
@@ -38,7 +40,6 @@ public class TeamResponse {
     private double avgReviewRating;
 
     private List<MemberDto> members;
-    private List<String> matchIds;
 
     @Getter
     @Builder
@@ -47,7 +48,9 @@ public class TeamResponse {
         private boolean isLeader;
     }
 
+    // 팀 상세용 (멤버 포함). 매치 목록은 /api/matchings/team/{teamId}/page 로 따로 페이지 조회
     public static TeamResponse from(Team team) {
+        List<TeamMember> members = team.getTeamMemberList();
         return TeamResponse.builder()
                 .teamId(team.getTeamId())
                 .teamName(team.getTeamName())
@@ -60,22 +63,19 @@ public class TeamResponse {
                 .teamType(team.getTeamType())
                 .teamCase(team.getTeamCase())
 
-                .totalMembers(team.getTeamMemberList() != null ? team.getTeamMemberList().size() : 0)
+                .totalMembers(members.size())
                 .matchCount(team.getMatchCount())
                 .winCount(team.getWinCount())
                 .loseCount(team.getLoseCount())
                 .drawCount(team.getDrawCount())
                 .totalReview(team.getTotalReview())
 
-                .members(team.getTeamMemberList().stream()
+                .members(members.stream()
                         .map(tm -> MemberDto.builder()
                                 .name(tm.getUser().getName())
                                 .isLeader(tm.getType() == TeamMember.Type.LEADER)
                                 .build())
                         .toList())
-                .matchIds(team.getMatchingList().stream()
-                        .map(m -> m.getMatchId())
-                        .toList())
                 .build();
     }
 
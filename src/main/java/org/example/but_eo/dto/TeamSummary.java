@@ -0,0 +1,34 @@
+package org.example.but_eo.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.example.but_eo.entity.Team;
+
+/**
+ * 팀 목록 카드용 요약 (생성자 프로젝션, 컬렉션 없음).
+ * 멤버 목록/매치 목록이 필요하면 팀 상세(TeamResponse)와 매치 페이지 API 사용.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TeamSummary {
+    private final String teamId;
+    private final String teamName;
+    private final String teamImg;
+    private final String region;
+    private final Team.Event event;
+    private final Team.Team_Type teamType;
+    private final Team.Team_Case teamCase;
+    private final int memberAge;
+    private final int rating;
+    private final int totalMembers;
+    private final int matchCount;
+    private final int winCount;
+    private final int loseCount;
+    private final int drawCount;
+    private final int totalReview;
+
+    // 목록 카드용 썸네일 (파생본이 아직 없으면 원본, 서비스에서 채움)
+    @Setter
+    private String teamImgThumbnail;
+}
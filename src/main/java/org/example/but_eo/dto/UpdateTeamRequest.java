@@ -14,5 +14,7 @@ public class UpdateTeamRequest {
     private String teamDescription;
     private MultipartFile teamImg;
     private String teamType;
+    private Double latitude;
+    private Double longitude;
 }
 
@@ -21,6 +21,7 @@ public class UserInfoResponseDto {
     private String preferSports;
     private String gender;
     private String profile;
+    private String profileThumbnail; // 목록용 썸네일 (없으면 원본)
     private String birth;
     private int badmintonScore;
     private int tennisScore;
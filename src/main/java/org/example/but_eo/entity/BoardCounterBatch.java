@@ -0,0 +1,25 @@
+package org.example.but_eo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영한 게시글 카운터 flush 배치 ID.
+ * 같은 트랜잭션에서 증감분과 함께 기록해, 같은 배치를 다시 읽어도 두 번 반영하지 않는다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(indexes = @Index(name = "idx_board_counter_batch_applied", columnList = "applied_at"))
+public class BoardCounterBatch {
+
+    @Id
+    @Column(length = 64, nullable = false)
+    private String batchId;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
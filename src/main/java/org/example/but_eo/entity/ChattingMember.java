@@ -30,4 +30,7 @@ public class ChattingMember {
 
     @Column(nullable = false)
     private boolean readCheck;
+
+    // 마지막으로 읽은 메시지 순번 (Redis 읽음 커서를 주기적으로 저장, 없으면 null)
+    private Long lastReadSeq;
 }
@@ -11,6 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_chatting_message_chat_created", columnList = "chat_id, created_at, message_id"),
+        @Index(name = "idx_chatting_message_chat_seq", columnList = "chat_id, seq")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -36,6 +40,9 @@ public class ChattingMessage {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 채팅방 내 메시지 순번 (재접속 시 빠진 메시지만 조회)
+    private Long seq;
+
     @OneToMany(mappedBy = "chattingMessage")
     private List<ChattingMessageMapping> chattingMessageMappinglist = new ArrayList<>();
 
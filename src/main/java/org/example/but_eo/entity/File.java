@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_file_path", columnList = "file_path"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -34,6 +35,15 @@ public class File {
     @Column(nullable = false)
     private LocalDateTime createdAt; //파일 생성일
 
+    @Column(nullable = true)
+    private Long fileSize; //파일 크기 (byte)
+
+    @Column(length = 100, nullable = true)
+    private String contentType; //MIME 타입
+
+    @Column(length = 64, nullable = true)
+    private String sha256; //내용 해시 (같은 내용 파일은 같은 경로 공유)
+
     @OneToMany(mappedBy = "file")
     private List<BoardMapping> boardMappingList = new ArrayList<>();
 
@@ -51,4 +61,5 @@ public class File {
         this.filePath = filePath;
         this.createdAt = createdAt;
     }
+
 }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_stadium_region_name", columnList = "stadium_region, stadium_name"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,6 +38,15 @@ public class Stadium {
     @Column(nullable = true)
     private int stadiumCost; // 대여 금액
 
+    @Column(nullable = true)
+    private Double latitude; // 위도 (주변 검색용)
+
+    @Column(nullable = true)
+    private Double longitude; // 경도
+
+    @Column(nullable = false)
+    private boolean customSlots; // 슬롯을 직접 지정했으면 true (이용 가능일/시간을 바꿔도 슬롯을 다시 만들지 않음)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private Users owner;
@@ -46,4 +56,13 @@ public class Stadium {
 
     @OneToMany(mappedBy = "stadium", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StadiumMapping> stadiumMappingList = new ArrayList<>();
+
+    @OneToMany(mappedBy = "stadium", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<StadiumSlot> slotList = new ArrayList<>();
+
+    @OneToMany(mappedBy = "stadium", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<StadiumClosure> closureList = new ArrayList<>();
+
+    @OneToMany(mappedBy = "stadium", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<StadiumBooking> bookingList = new ArrayList<>();
 }
\ No newline at end of file
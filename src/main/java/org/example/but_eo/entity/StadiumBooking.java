@@ -0,0 +1,40 @@
+package org.example.but_eo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 매치가 잡은 경기장 슬롯. (경기장, 시작 시각) 유니크로 같은 슬롯 이중 예약을 DB에서 막는다
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_stadium_booking_slot", columnNames = {"stadium_id", "start_at"}),
+        indexes = @Index(name = "idx_stadium_booking_stadium_end", columnList = "stadium_id, end_at")
+)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StadiumBooking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String bookingId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stadium_id", nullable = false)
+    private Stadium stadium;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_id", nullable = false, unique = true)
+    private Matching matching;
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endAt;
+
+    private LocalDateTime createdAt;
+}
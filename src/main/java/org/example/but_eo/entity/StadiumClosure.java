@@ -0,0 +1,34 @@
+package org.example.but_eo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 주간 슬롯의 예외 (휴무/공사 등으로 막힌 구간)
+@Entity
+@Table(indexes = @Index(name = "idx_stadium_closure_stadium_end", columnList = "stadium_id, end_at"))
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StadiumClosure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String closureId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stadium_id", nullable = false)
+    private Stadium stadium;
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(length = 100)
+    private String reason;
+}
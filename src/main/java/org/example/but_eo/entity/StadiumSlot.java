@@ -0,0 +1,36 @@
+package org.example.but_eo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// 경기장 주간 반복 이용 슬롯 (예: 월요일 09:00~11:00). 같은 요일 안에서는 겹치지 않는다
+@Entity
+@Table(indexes = @Index(name = "idx_stadium_slot_stadium_day", columnList = "stadium_id, day_of_week"))
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StadiumSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String slotId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stadium_id", nullable = false)
+    private Stadium stadium;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+}
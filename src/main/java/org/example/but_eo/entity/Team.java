@@ -9,6 +9,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_team_state_event_region", columnList = "state, event, region"),
+        @Index(name = "idx_team_state_rating", columnList = "state, rating, team_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -58,11 +62,25 @@ public class Team {
     @Column(length = 30, nullable = false)
     private String region;
 
+    @Column(nullable = true)
+    private Double latitude; // 활동 지역 위도 (주변 매치 검색용)
+
+    @Column(nullable = true)
+    private Double longitude; // 활동 지역 경도
+
     @Column(nullable = false)
     private int memberAge; // 팀 평균 연령
 
     @Column(nullable = false)
-    private int rating; // 팀 점수
+    private int rating; // 팀 점수 (표시/정렬용 정수)
+
+    private Double ratingExact; // 반올림 전 레이팅, 다음 경기 계산은 이 값에서 이어감 (없으면 rating)
+
+    @Column(nullable = false, columnDefinition = "double default 350")
+    private double ratingDeviation = 350; // Glicko-2 레이팅 편차 (RD)
+
+    @Column(nullable = false, columnDefinition = "double default 0.06")
+    private double ratingVolatility = 0.06; // Glicko-2 변동성
 
     public enum Team_Case {
         TEENAGER("청소년"),
@@ -0,0 +1,93 @@
+package org.example.but_eo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardCounterJdbcRepository {
+
+    // 읽지 않고 증감만 하므로 동시에 여러 요청이 와도 값이 유실되지 않음
+    private static final String ADD_COUNTS_SQL = """
+            UPDATE board
+            SET like_count = GREATEST(like_count + ?, 0), comment_count = GREATEST(comment_count + ?, 0)
+            WHERE board_id = ?
+            """;
+
+    // 다른 인스턴스가 같은 배치를 반영 중이면 커밋될 때까지 기다렸다가 0 을 받음
+    private static final String INSERT_BATCH_SQL = """
+            INSERT IGNORE INTO board_counter_batch (batch_id, applied_at) VALUES (?, NOW())
+            """;
+
+    private static final String BATCH_APPLIED_SQL = """
+            SELECT COUNT(*) FROM board_counter_batch WHERE batch_id = ?
+            """;
+
+    private static final String DELETE_BATCHES_SQL = """
+            DELETE FROM board_counter_batch WHERE applied_at < ?
+            """;
+
+    private static final String INSERT_LIKE_SQL = """
+            INSERT IGNORE INTO board_like (user_hash_id, board_id, liked_at) VALUES (?, ?, NOW())
+            """;
+
+    private static final String DELETE_LIKE_SQL = """
+            DELETE FROM board_like WHERE user_hash_id = ? AND board_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // rows: [boardId, likeDelta, commentDelta]
+    public void batchAddCounts(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(ADD_COUNTS_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, (Long) row[1]);
+            ps.setLong(2, (Long) row[2]);
+            ps.setString(3, (String) row[0]);
+        });
+    }
+
+    // 배치 ID 기록과 증감을 한 트랜잭션으로. 이미 반영된 배치면 false
+    @Transactional
+    public boolean applyBatch(String batchId, List<Object[]> rows) {
+        if (jdbcTemplate.update(INSERT_BATCH_SQL, batchId) == 0) {
+            return false;
+        }
+        if (!rows.isEmpty()) {
+            batchAddCounts(rows);
+        }
+        return true;
+    }
+
+    // 호출한 트랜잭션의 스냅샷 기준
+    public boolean isBatchApplied(String batchId) {
+        Integer count = jdbcTemplate.queryForObject(BATCH_APPLIED_SQL, Integer.class, batchId);
+        return count != null && count > 0;
+    }
+
+    // Redis 에 쌓지 못한 증감분을 바로 반영 (afterCommit 에서 호출되므로 새 트랜잭션)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void addCounts(String boardId, long likeDelta, long commentDelta) {
+        jdbcTemplate.update(ADD_COUNTS_SQL, likeDelta, commentDelta, boardId);
+    }
+
+    public int deleteBatchesBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_BATCHES_SQL, Timestamp.valueOf(before));
+    }
+
+    // 새로 추가되었으면 true (이미 눌렀으면 false)
+    public boolean insertLike(String userHashId, String boardId) {
+        return jdbcTemplate.update(INSERT_LIKE_SQL, userHashId, boardId) == 1;
+    }
+
+    // 실제로 삭제되었으면 true
+    public boolean deleteLike(String userHashId, String boardId) {
+        return jdbcTemplate.update(DELETE_LIKE_SQL, userHashId, boardId) == 1;
+    }
+}
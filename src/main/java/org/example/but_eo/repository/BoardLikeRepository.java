@@ -2,6 +2,11 @@ package org.example.but_eo.repository;
 
 import org.example.but_eo.entity.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BoardLikeRepository extends JpaRepository<BoardLike, BoardLikeKey> {
     boolean existsByUserAndBoard(Users user, Board board);
@@ -9,4 +14,8 @@ public interface BoardLikeRepository extends JpaRepository<BoardLike, BoardLikeK
     boolean existsByUser_UserHashIdAndBoard_BoardId(String userHashId, String boardId);
 
     void deleteAllByBoard_BoardId(String boardId);
+
+    // 목록 페이지의 게시글 중 유저가 좋아요 누른 게시글 ID (페이지당 한 번)
+    @Query("SELECT bl.board.boardId FROM BoardLike bl WHERE bl.user.userHashId = :userHashId AND bl.board.boardId IN :boardIds")
+    List<String> findLikedBoardIds(@Param("userHashId") String userHashId, @Param("boardIds") Collection<String> boardIds);
 }
@@ -4,25 +4,34 @@ import org.example.but_eo.entity.Board;
 import org.example.but_eo.entity.Users;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, String> {
 
+    // 목록 조회는 작성자를 함께 조인 (게시글마다 유저 조회 방지)
+    @EntityGraph(attributePaths = "user")
     Page<Board> findByEventAndCategoryAndState(Board.Event event, Board.Category category, Board.State state, Pageable pageable);
 
+    @EntityGraph(attributePaths = "user")
     List<Board> findTop5ByStateOrderByCreatedAtDesc(Board.State state);
 
     Optional<Board> findById(String boardId);
 
+    @EntityGraph(attributePaths = "user")
     Page<Board> findByUser_UserHashIdAndState(String userHashId, Board.State state, Pageable pageable);
 
     void deleteAllByUser(Users user);
 
+    @EntityGraph(attributePaths = "user")
+    List<Board> findByBoardIdIn(Collection<String> boardIds);
+
     Page<Board> findByTitleContainingAndUser_NameContaining(String title, String name, Pageable pageable);
 
 
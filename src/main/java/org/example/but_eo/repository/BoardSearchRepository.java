@@ -0,0 +1,68 @@
+package org.example.but_eo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.entity.Board;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 전문 검색 (board.title, board.content 에 ngram 파서 FULLTEXT 인덱스, BoardSearchIndexInitializer 에서 생성).
+ * 정렬: 관련도(score) DESC, board_id DESC / 커서: 직전 페이지 마지막 행의 (score, board_id)
+ * score 는 소수점 6자리 DECIMAL 로 반올림해 정렬/비교/커서가 모두 같은 값을 쓴다 (DOUBLE 값은 커서 문자열을 오가며 달라질 수 있음).
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardSearchRepository {
+
+    public static final String INDEX_NAME = "ft_board_title_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static class SearchHit {
+        public final String boardId;
+        public final BigDecimal score;
+
+        public SearchHit(String boardId, BigDecimal score) {
+            this.boardId = boardId;
+            this.score = score;
+        }
+    }
+
+    public List<SearchHit> search(String query, Board.Event event, Board.Category category,
+                                  BigDecimal cursorScore, String cursorBoardId, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT b.board_id, CAST(MATCH(b.title, b.content) AGAINST (? IN NATURAL LANGUAGE MODE) AS DECIMAL(20, 6)) AS score
+                FROM board b
+                WHERE MATCH(b.title, b.content) AGAINST (? IN NATURAL LANGUAGE MODE)
+                  AND b.state = 'PUBLIC'
+                """);
+        List<Object> params = new ArrayList<>();
+        params.add(query);
+        params.add(query);
+
+        if (event != null) {
+            sql.append(" AND b.event = ?");
+            params.add(event.name());
+        }
+        if (category != null) {
+            sql.append(" AND b.category = ?");
+            params.add(category.name());
+        }
+        if (cursorScore != null && cursorBoardId != null) {
+            sql.append(" HAVING score < ? OR (score = ? AND board_id < ?)");
+            params.add(cursorScore);
+            params.add(cursorScore);
+            params.add(cursorBoardId);
+        }
+        sql.append(" ORDER BY score DESC, b.board_id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new SearchHit(rs.getString(1), rs.getBigDecimal(2)),
+                params.toArray());
+    }
+}
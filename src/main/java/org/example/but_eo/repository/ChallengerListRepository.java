@@ -3,8 +3,11 @@ package org.example.but_eo.repository;
 import org.example.but_eo.entity.ChallengerKey;
 import org.example.but_eo.entity.ChallengerList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,4 +17,12 @@ public interface ChallengerListRepository extends JpaRepository<ChallengerList,
 
     void deleteAllByMatching_MatchId(String matchId);
 
+    // 여러 매치의 도전 신청을 팀과 함께 한 번에 조회 (목록 응답용)
+    @Query("""
+        SELECT c FROM ChallengerList c
+        JOIN FETCH c.team
+        WHERE c.challengerKey.matchId IN :matchIds
+    """)
+    List<ChallengerList> findAllWithTeamByMatchIdIn(@Param("matchIds") Collection<String> matchIds);
+
 }
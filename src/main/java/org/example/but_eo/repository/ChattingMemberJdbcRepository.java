@@ -0,0 +1,33 @@
+package org.example.but_eo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChattingMemberJdbcRepository {
+
+    // 커서는 앞으로만 이동 (다른 서버가 먼저 더 큰 값을 저장했을 수 있음), 나간 멤버는 대상 행이 없어 무시됨
+    private static final String UPDATE_LAST_READ_SQL = """
+            UPDATE chatting_member
+            SET last_read_seq = GREATEST(COALESCE(last_read_seq, 0), ?)
+            WHERE chat_id = ? AND user_hash_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ReadCursor(String chatId, String userHashId, long lastReadSeq) {
+    }
+
+    public void batchUpdateLastReadSeq(List<ReadCursor> cursors) {
+        if (cursors.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, cursors, cursors.size(), (ps, c) -> {
+            ps.setLong(1, c.lastReadSeq());
+            ps.setString(2, c.chatId());
+            ps.setString(3, c.userHashId());
+        });
+    }
+}
@@ -26,6 +26,10 @@ public interface ChattingMemberRepository extends JpaRepository<ChattingMember,
     List<ChattingMember> findByUserHashId(@Param("userHashId") String userHashId);
 //    List<ChattingMember> findAllByUser(Users user);
 
+    // 유저의 채팅방 목록 (채팅방 정보 함께 조회)
+    @Query("SELECT cm FROM ChattingMember cm JOIN FETCH cm.chatting WHERE cm.chattingMemberKey.userHashId = :userHashId")
+    List<ChattingMember> findWithChattingByUserHashId(@Param("userHashId") String userHashId);
+
     @Modifying
     @Query(value = "DELETE FROM chatting_member WHERE user_hash_id = :userHashId AND chat_id = :chatId", nativeQuery = true)
     @Transactional
@@ -0,0 +1,90 @@
+package org.example.but_eo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.entity.ChattingMessage;
+import org.example.but_eo.entity.ChattingMessageMappingKey;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChattingMessageJdbcRepository {
+
+    // 재시도로 이미 저장된 messageId 만 무시 (FK 등 다른 오류는 예외로 드러냄)
+    private static final String INSERT_SQL = """
+            INSERT INTO chatting_message (message_id, sender, chat_id, message, created_at, seq)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE message_id = message_id
+            """;
+
+    private static final String INSERT_MAPPING_SQL = """
+            INSERT INTO chatting_message_mapping (message_id, file_id)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE file_id = file_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배치 INSERT 후 DB 가 거부한 메시지 반환 (방을 나간 멤버 등 FK 위반).
+     * 배치 중 한 행이라도 거부되면 (rewriteBatchedStatements 로 여러 행이 한 문장이므로) 한 건씩 다시 넣어 거부된 행만 골라낸다.
+     * 이미 들어간 행은 중복 키로 무시되므로 다시 실행해도 안전하다.
+     */
+    public List<ChattingMessage> batchInsert(List<ChattingMessage> messages) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), this::bindMessage);
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            List<ChattingMessage> rejected = new ArrayList<>();
+            for (ChattingMessage message : messages) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bindMessage(ps, message));
+                } catch (DataIntegrityViolationException rowError) {
+                    rejected.add(message);
+                }
+            }
+            return rejected;
+        }
+    }
+
+    // 거부된 매핑 반환 (파일이 삭제된 경우 등)
+    public List<ChattingMessageMappingKey> batchInsertMappings(List<ChattingMessageMappingKey> mappings) {
+        if (mappings.isEmpty()) return List.of();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_MAPPING_SQL, mappings, mappings.size(), this::bindMapping);
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            List<ChattingMessageMappingKey> rejected = new ArrayList<>();
+            for (ChattingMessageMappingKey mapping : mappings) {
+                try {
+                    jdbcTemplate.update(INSERT_MAPPING_SQL, ps -> bindMapping(ps, mapping));
+                } catch (DataIntegrityViolationException rowError) {
+                    rejected.add(mapping);
+                }
+            }
+            return rejected;
+        }
+    }
+
+    private void bindMessage(PreparedStatement ps, ChattingMessage m) throws SQLException {
+        ps.setString(1, m.getMessageId());
+        ps.setString(2, m.getChattingMember().getChattingMemberKey().getUserHashId());
+        ps.setString(3, m.getChattingMember().getChattingMemberKey().getChatId());
+        ps.setString(4, m.getMessage());
+        ps.setTimestamp(5, Timestamp.valueOf(m.getCreatedAt()));
+        ps.setObject(6, m.getSeq(), Types.BIGINT);
+    }
+
+    private void bindMapping(PreparedStatement ps, ChattingMessageMappingKey m) throws SQLException {
+        ps.setString(1, m.getMessageId());
+        ps.setString(2, m.getFileId());
+    }
+}
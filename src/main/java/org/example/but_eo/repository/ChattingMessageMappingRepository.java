@@ -0,0 +1,19 @@
+package org.example.but_eo.repository;
+
+import org.example.but_eo.entity.ChattingMessageMapping;
+import org.example.but_eo.entity.ChattingMessageMappingKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChattingMessageMappingRepository extends JpaRepository<ChattingMessageMapping, ChattingMessageMappingKey> {
+
+    // 채팅 내역 페이지의 첨부 파일을 한 번에 조회
+    @Query("SELECT m FROM ChattingMessageMapping m JOIN FETCH m.file WHERE m.chattingMessageMappingkey.messageId IN :messageIds")
+    List<ChattingMessageMapping> findAllWithFileByMessageIds(@Param("messageIds") Collection<String> messageIds);
+}
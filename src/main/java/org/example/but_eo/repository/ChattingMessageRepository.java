@@ -1,11 +1,14 @@
 package org.example.but_eo.repository;
 
-import io.lettuce.core.dynamic.annotation.Param;
 import org.example.but_eo.entity.ChattingMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +20,57 @@ public interface ChattingMessageRepository extends JpaRepository<ChattingMessage
 
     @Query(value = "SELECT * FROM chatting_message WHERE chat_id = :chatId ORDER BY created_at DESC LIMIT 1", nativeQuery = true)
     Optional<ChattingMessage> findLastMessageByChatIdNative(@Param("chatId") String chatId);
+
+    // 여러 채팅방의 마지막 메시지를 한 번에 조회 (채팅방 목록 요약 재구성용)
+    @Query("""
+        SELECT m FROM ChattingMessage m
+        JOIN FETCH m.chattingMember cm
+        JOIN FETCH cm.user
+        WHERE cm.chattingMemberKey.chatId IN :chatIds
+          AND m.createdAt = (
+              SELECT MAX(m2.createdAt) FROM ChattingMessage m2
+              WHERE m2.chattingMember.chattingMemberKey.chatId = cm.chattingMemberKey.chatId
+          )
+    """)
+    List<ChattingMessage> findLastMessagesByChatIds(@Param("chatIds") Collection<String> chatIds);
+
+    // 채팅 내역 최신 페이지 (chat_id, created_at, message_id 인덱스 사용)
+    @Query("""
+        SELECT m FROM ChattingMessage m
+        JOIN FETCH m.chattingMember cm
+        JOIN FETCH cm.user
+        WHERE cm.chattingMemberKey.chatId = :chatId
+        ORDER BY m.createdAt DESC, m.messageId DESC
+    """)
+    List<ChattingMessage> findLatestPage(@Param("chatId") String chatId, Pageable pageable);
+
+    // 커서(createdAt, messageId)보다 오래된 채팅 내역 페이지 (keyset)
+    @Query("""
+        SELECT m FROM ChattingMessage m
+        JOIN FETCH m.chattingMember cm
+        JOIN FETCH cm.user
+        WHERE cm.chattingMemberKey.chatId = :chatId
+          AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.messageId < :messageId))
+        ORDER BY m.createdAt DESC, m.messageId DESC
+    """)
+    List<ChattingMessage> findPageBefore(@Param("chatId") String chatId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("messageId") String messageId,
+                                         Pageable pageable);
+
+    // 순번 이후 메시지 (오래된 순, chat_id, seq 인덱스 사용)
+    @Query("""
+        SELECT m FROM ChattingMessage m
+        JOIN FETCH m.chattingMember cm
+        JOIN FETCH cm.user
+        WHERE cm.chattingMemberKey.chatId = :chatId
+          AND m.seq > :afterSeq
+        ORDER BY m.seq ASC
+    """)
+    List<ChattingMessage> findPageAfterSeq(@Param("chatId") String chatId,
+                                           @Param("afterSeq") long afterSeq,
+                                           Pageable pageable);
+
+    @Query(value = "SELECT MAX(seq) FROM chatting_message WHERE chat_id = :chatId", nativeQuery = true)
+    Long findMaxSeq(@Param("chatId") String chatId);
 }
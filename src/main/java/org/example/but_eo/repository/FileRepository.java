@@ -8,5 +8,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FileRepository extends JpaRepository<File, String> {
     void deleteAllByUserHashId(Users user);
+
+    boolean existsByFilePath(String filePath);
 }
 
@@ -1,12 +1,17 @@
 package org.example.but_eo.repository;
 
+import org.example.but_eo.dto.MatchGeoPoint;
 import org.example.but_eo.entity.Matching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,23 +24,47 @@ public interface MatchingRepository extends JpaRepository<Matching, String> {
     // 상태 기반 최신순 조회
     List<Matching> findByStateOrderByMatchDateDesc(Matching.State state);
 
-    // 팀 ID로 매치 목록
+    // 팀 ID로 매치 목록 (목록 응답용: 팀/경기장 한 번에 조인)
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     List<Matching> findByTeam_TeamId(String teamId);
 
     //경기장 기준으로 지역가져옴
     Page<Matching> findByMatchTypeAndStadium_StadiumRegionAndState(Matching.Match_Type matchType, String region, Matching.State state, Pageable pageable);
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     Page<Matching> findByMatchTypeAndState(Matching.Match_Type matchType, Matching.State state, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     Page<Matching> findByMatchRegionAndState(String matchRegion, Matching.State state, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     Page<Matching> findByMatchTypeAndMatchRegionAndState(Matching.Match_Type matchType, String matchRegion, Matching.State state, Pageable pageable);
 
     // 기본 상태 필터
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     Page<Matching> findByState(Matching.State state, Pageable pageable);
 
+    // 도전 신청을 받는 매치 좌표 (경기장 좌표 우선, 없으면 주최 팀 좌표)
+    @Query("""
+    SELECT new org.example.but_eo.dto.MatchGeoPoint(
+        m.matchId, m.matchType,
+        COALESCE(s.latitude, t.latitude), COALESCE(s.longitude, t.longitude))
+    FROM Matching m
+    JOIN m.team t
+    LEFT JOIN m.stadium s
+    WHERE m.state = :state
+      AND m.challengerTeam IS NULL
+      AND COALESCE(s.latitude, t.latitude) IS NOT NULL
+    """)
+    List<MatchGeoPoint> findOpenGeoPoints(@Param("state") Matching.State state);
+
+    // 주변 검색 결과 ID 목록으로 조회
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
+    List<Matching> findAllByMatchIdIn(Collection<String> matchIds);
+
     // 매치 중복 등록 방지
     boolean existsByTeam_TeamIdAndMatchDate(String teamId, LocalDateTime matchDate);
 
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     List<Matching> findByTeam_TeamIdAndState(String teamId, Matching.State state);
 
     Optional<Matching> findTopByTeam_TeamIdInAndStateOrderByMatchDateDesc(List<String> teamIds, Matching.State state);
@@ -48,11 +77,24 @@ public interface MatchingRepository extends JpaRepository<Matching, String> {
     Optional<Matching> findTopByChallengerTeam_TeamIdInAndStateAndMatchDateAfterOrderByMatchDateAsc(List<String> teamIds, Matching.State state, LocalDateTime matchDate);
 
     // 챌린저로 성공 매치
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     List<Matching> findByChallengerTeam_TeamIdAndState(String teamId, Matching.State state);
 
     List<Matching> findByTeam_TeamIdIn(List<String> teamIds);
     List<Matching> findByChallengerTeam_TeamIdIn(List<String> teamIds);
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
     List<Matching> findByChallengerTeam_TeamId(String teamId);
     Matching findByMatchId(String matchId);
-}
 
+    // 팀이 주최 또는 도전자로 참여한 매치 (팀 상세 화면 매치 목록 페이지)
+    @EntityGraph(attributePaths = {"team", "challengerTeam", "winnerTeam", "loserTeam", "stadium"})
+    @Query(value = """
+            SELECT m FROM Matching m LEFT JOIN m.challengerTeam c
+            WHERE m.team.teamId = :teamId OR c.teamId = :teamId
+            """,
+            countQuery = """
+            SELECT COUNT(m) FROM Matching m LEFT JOIN m.challengerTeam c
+            WHERE m.team.teamId = :teamId OR c.teamId = :teamId
+            """)
+    Page<Matching> findPageByParticipant(@Param("teamId") String teamId, Pageable pageable);
+}
@@ -0,0 +1,80 @@
+package org.example.but_eo.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.component.RatingState;
+import org.example.but_eo.entity.Team;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class RatingJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 결과 등록 시 winner_score 는 주최팀, loser_score 는 도전팀 점수로 저장됨
+    private static final String COMPLETED_MATCHES_SQL = """
+            SELECT m.team_id, m.challenger, t.event, m.winner_score, m.loser_score
+            FROM matching m
+            JOIN team t ON t.team_id = m.team_id
+            WHERE m.state = 'COMPLETE' AND m.challenger IS NOT NULL
+            ORDER BY m.match_date, m.match_id
+            """;
+
+    private static final String RESET_SQL = """
+            UPDATE team SET rating = ?, rating_exact = ?, rating_deviation = ?, rating_volatility = ?
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE team SET rating = ?, rating_exact = ?, rating_deviation = ?, rating_volatility = ? WHERE team_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Getter
+    public static class CompletedMatch {
+        private String hostTeamId;
+        private String challengerTeamId;
+        private Team.Event event;
+        private int hostScore;
+        private int challengerScore;
+    }
+
+    // 완료된 매치를 시간순으로 한 건씩 전달 (MySQL 스트리밍 결과셋, 전달 객체는 재사용되므로 보관하면 안 됨)
+    public void streamCompletedMatches(Consumer<CompletedMatch> consumer) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(Integer.MIN_VALUE);
+
+        CompletedMatch row = new CompletedMatch();
+        streaming.query(COMPLETED_MATCHES_SQL, rs -> {
+            row.hostTeamId = rs.getString(1);
+            row.challengerTeamId = rs.getString(2);
+            row.event = Team.Event.valueOf(rs.getString(3));
+            row.hostScore = rs.getInt(4);
+            row.challengerScore = rs.getInt(5);
+            consumer.accept(row);
+        });
+    }
+
+    public void resetAll(RatingState initial) {
+        jdbcTemplate.update(RESET_SQL,
+                Math.round(initial.getRating()), initial.getRating(), initial.getDeviation(), initial.getVolatility());
+    }
+
+    public void batchUpdate(Map<String, RatingState> ratings) {
+        List<Map.Entry<String, RatingState>> entries = new ArrayList<>(ratings.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, entries, BATCH_SIZE, (ps, e) -> {
+            ps.setLong(1, Math.round(e.getValue().getRating()));
+            ps.setDouble(2, e.getValue().getRating());
+            ps.setDouble(3, e.getValue().getDeviation());
+            ps.setDouble(4, e.getValue().getVolatility());
+            ps.setString(5, e.getKey());
+        });
+    }
+}
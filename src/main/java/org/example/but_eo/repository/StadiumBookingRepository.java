@@ -0,0 +1,33 @@
+package org.example.but_eo.repository;
+
+import org.example.but_eo.entity.StadiumBooking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StadiumBookingRepository extends JpaRepository<StadiumBooking, String> {
+
+    List<StadiumBooking> findAllByStadium_StadiumIdAndEndAtAfter(String stadiumId, LocalDateTime endAt);
+
+    Optional<StadiumBooking> findByMatching_MatchId(String matchId);
+
+    // 시작 시각이 달라도 구간이 겹치면 충돌 (슬롯 구성이 바뀐 뒤의 기존 예약 대비)
+    @Query("""
+    SELECT COUNT(b) > 0 FROM StadiumBooking b
+    WHERE b.stadium.stadiumId = :stadiumId
+      AND b.startAt < :endAt
+      AND b.endAt > :startAt
+    """)
+    boolean existsOverlapping(@Param("stadiumId") String stadiumId,
+                              @Param("startAt") LocalDateTime startAt,
+                              @Param("endAt") LocalDateTime endAt);
+
+    @Modifying
+    @Query("DELETE FROM StadiumBooking b WHERE b.stadium.stadiumId = :stadiumId")
+    int deleteAllByStadiumId(@Param("stadiumId") String stadiumId);
+}
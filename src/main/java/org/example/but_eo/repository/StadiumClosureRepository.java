@@ -0,0 +1,24 @@
+package org.example.but_eo.repository;
+
+import org.example.but_eo.entity.StadiumClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StadiumClosureRepository extends JpaRepository<StadiumClosure, String> {
+
+    List<StadiumClosure> findAllByStadium_StadiumIdAndEndAtAfter(String stadiumId, LocalDateTime endAt);
+
+    @Query("""
+    SELECT COUNT(c) > 0 FROM StadiumClosure c
+    WHERE c.stadium.stadiumId = :stadiumId
+      AND c.startAt < :endAt
+      AND c.endAt > :startAt
+    """)
+    boolean existsOverlapping(@Param("stadiumId") String stadiumId,
+                              @Param("startAt") LocalDateTime startAt,
+                              @Param("endAt") LocalDateTime endAt);
+}
@@ -3,12 +3,18 @@ package org.example.but_eo.repository;
 import org.example.but_eo.entity.StadiumMapping;
 import org.example.but_eo.entity.StadiumMappingKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StadiumMappingRepository extends JpaRepository<StadiumMapping, StadiumMappingKey> {
     List<StadiumMapping> findAllByStadium_StadiumId(String stadiumId);
 
+    // 목록 페이지의 경기장 이미지를 한 번에 조회
+    @Query("SELECT m FROM StadiumMapping m JOIN FETCH m.file WHERE m.stadium.stadiumId IN :stadiumIds")
+    List<StadiumMapping> findAllWithFileByStadiumIds(@Param("stadiumIds") Collection<String> stadiumIds);
 }
@@ -1,10 +1,18 @@
 package org.example.but_eo.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.but_eo.entity.Stadium;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StadiumRepository extends JpaRepository<Stadium, String> {
@@ -14,5 +22,34 @@ public interface StadiumRepository extends JpaRepository<Stadium, String> {
 
     // 이름 포함 검색
     List<Stadium> findByStadiumNameContaining(String keyword);
+
+    // 좌표가 등록된 경기장 (위치 인덱스 재구축용)
+    List<Stadium> findAllByLatitudeIsNotNullAndLongitudeIsNotNull();
+
+    // 주변 검색 결과 ID 목록으로 조회
+    @Query("SELECT s FROM Stadium s JOIN FETCH s.owner WHERE s.stadiumId IN :stadiumIds")
+    List<Stadium> findAllWithOwnerByStadiumIdIn(@Param("stadiumIds") Collection<String> stadiumIds);
+
+    // 주간 슬롯이 하나도 없는 경기장
+    @Query("SELECT s FROM Stadium s WHERE NOT EXISTS (SELECT 1 FROM StadiumSlot sl WHERE sl.stadium = s)")
+    List<Stadium> findAllWithoutSlots();
+
+    // 슬롯 예약 시 같은 경기장 예약끼리 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Stadium s WHERE s.stadiumId = :stadiumId")
+    Optional<Stadium> findByIdForUpdate(@Param("stadiumId") String stadiumId);
+
+    // 목록 페이지 (region/keyword 가 null 이면 조건 없음). owner 는 fetch join 으로 함께 조회
+    @Query(value = """
+    SELECT s FROM Stadium s
+    JOIN FETCH s.owner
+    WHERE (:region IS NULL OR s.stadiumRegion = :region)
+      AND (:keyword IS NULL OR s.stadiumName LIKE CONCAT('%', :keyword, '%'))
+    """, countQuery = """
+    SELECT COUNT(s) FROM Stadium s
+    WHERE (:region IS NULL OR s.stadiumRegion = :region)
+      AND (:keyword IS NULL OR s.stadiumName LIKE CONCAT('%', :keyword, '%'))
+    """)
+    Page<Stadium> findPage(@Param("region") String region, @Param("keyword") String keyword, Pageable pageable);
 }
 
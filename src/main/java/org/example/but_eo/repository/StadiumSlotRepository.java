@@ -0,0 +1,22 @@
+package org.example.but_eo.repository;
+
+import org.example.but_eo.entity.StadiumSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+public interface StadiumSlotRepository extends JpaRepository<StadiumSlot, String> {
+
+    List<StadiumSlot> findAllByStadium_StadiumIdOrderByDayOfWeekAscStartTimeAsc(String stadiumId);
+
+    StadiumSlot findByStadium_StadiumIdAndDayOfWeekAndStartTime(String stadiumId, DayOfWeek dayOfWeek, LocalTime startTime);
+
+    @Modifying
+    @Query("DELETE FROM StadiumSlot s WHERE s.stadium.stadiumId = :stadiumId")
+    int deleteAllByStadiumId(@Param("stadiumId") String stadiumId);
+}
@@ -1,8 +1,10 @@
 package org.example.but_eo.repository;
 
+import org.example.but_eo.dto.TeamSummary;
 import org.example.but_eo.entity.Team;
 import org.example.but_eo.entity.TeamMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -24,6 +26,9 @@ public interface TeamRepository extends JpaRepository<Team, String> {
     // 목록 전체 ACTIVE만 조회
     List<Team> findAllByState(Team.State state);
 
+    // 리더보드 백필용 (teamId 기준 keyset 페이지)
+    List<Team> findTop500ByStateAndTeamIdGreaterThanOrderByTeamIdAsc(Team.State state, String teamId);
+
     // 단일 조회 ACTIVE만
     Optional<Team> findWithMembersByTeamIdAndState(String teamId, Team.State state);
 
@@ -38,4 +43,32 @@ public interface TeamRepository extends JpaRepository<Team, String> {
 
     @Query(value = "SELECT * FROM Team WHERE teamId = :teamA OR teamId = :teamB", nativeQuery = true)
     List<Team> findMatchedTeams(@Param("teamA") String teamA, @Param("teamB") String teamB);
+
+    // 유저가 속한 팀 요약 (type 이 null 이면 역할 무관)
+    @Query("""
+    SELECT new org.example.but_eo.dto.TeamSummary(
+        t.teamId, t.teamName, t.teamImg, t.region, t.event, t.teamType, t.teamCase, t.memberAge,
+        t.rating, t.totalMembers, t.matchCount, t.winCount, t.loseCount, t.drawCount, t.totalReview)
+    FROM TeamMember tm
+    JOIN tm.team t
+    WHERE tm.user.userHashId = :userId
+      AND (:type IS NULL OR tm.type = :type)
+      AND t.state = :state
+    """)
+    List<TeamSummary> findSummariesByMember(@Param("userId") String userId,
+                                            @Param("type") TeamMember.Type type,
+                                            @Param("state") Team.State state);
+
+    // 멤버 수 증감 (동시 가입/탈퇴에도 값이 유실되지 않도록 UPDATE 한 번으로)
+    @Modifying
+    @Query("UPDATE Team t SET t.totalMembers = t.totalMembers + :delta WHERE t.teamId = :teamId")
+    int addTotalMembers(@Param("teamId") String teamId, @Param("delta") int delta);
+
+    // total_members 를 실제 멤버 수로 맞춤
+    @Modifying
+    @Query(value = """
+    UPDATE team t
+    SET t.total_members = (SELECT COUNT(*) FROM team_member tm WHERE tm.team_id = t.team_id)
+    """, nativeQuery = true)
+    int recountTotalMembers();
 }
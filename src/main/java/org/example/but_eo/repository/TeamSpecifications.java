@@ -0,0 +1,50 @@
+package org.example.but_eo.repository;
+
+import org.example.but_eo.entity.Team;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 팀 목록 필터 조건. null 인 조건은 적용하지 않는다.
+ */
+public final class TeamSpecifications {
+
+    private TeamSpecifications() {
+    }
+
+    public static Specification<Team> hasState(Team.State state) {
+        return (root, query, cb) -> cb.equal(root.get("state"), state);
+    }
+
+    public static Specification<Team> hasEvent(Team.Event event) {
+        return (root, query, cb) -> event == null ? null : cb.equal(root.get("event"), event);
+    }
+
+    public static Specification<Team> regionContains(String region) {
+        return (root, query, cb) -> region == null ? null : cb.like(root.get("region"), "%" + region + "%");
+    }
+
+    public static Specification<Team> hasTeamType(Team.Team_Type teamType) {
+        return (root, query, cb) -> teamType == null ? null : cb.equal(root.get("teamType"), teamType);
+    }
+
+    public static Specification<Team> hasTeamCase(Team.Team_Case teamCase) {
+        return (root, query, cb) -> teamCase == null ? null : cb.equal(root.get("teamCase"), teamCase);
+    }
+
+    public static Specification<Team> nameContains(String teamName) {
+        return (root, query, cb) -> teamName == null ? null : cb.like(root.get("teamName"), "%" + teamName + "%");
+    }
+
+    // (rating DESC, teamId DESC) 정렬 기준 커서 다음 행부터
+    public static Specification<Team> after(Integer rating, String teamId) {
+        return (root, query, cb) -> {
+            if (rating == null || teamId == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.lessThan(root.get("rating"), rating),
+                    cb.and(cb.equal(root.get("rating"), rating), cb.lessThan(root.get("teamId"), teamId))
+            );
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.but_eo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.dto.TeamSummary;
+import org.example.but_eo.entity.Team;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TeamSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    // 조건에 맞는 팀 요약을 (rating DESC, teamId DESC) 순으로 limit 건 조회
+    public List<TeamSummary> findSummaries(Specification<Team> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TeamSummary> query = cb.createQuery(TeamSummary.class);
+        Root<Team> t = query.from(Team.class);
+
+        query.select(cb.construct(TeamSummary.class,
+                t.get("teamId"), t.get("teamName"), t.get("teamImg"), t.get("region"),
+                t.get("event"), t.get("teamType"), t.get("teamCase"), t.get("memberAge"),
+                t.get("rating"), t.get("totalMembers"), t.get("matchCount"), t.get("winCount"),
+                t.get("loseCount"), t.get("drawCount"), t.get("totalReview")));
+
+        Predicate predicate = spec.toPredicate(t, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(t.get("rating")), cb.desc(t.get("teamId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
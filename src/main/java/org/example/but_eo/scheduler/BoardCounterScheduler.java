@@ -0,0 +1,46 @@
+package org.example.but_eo.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.service.BoardCounterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCounterScheduler {
+
+    private final BoardCounterService boardCounterService;
+
+    @Value("${board.counter.batch-retention-ms:86400000}")
+    private long batchRetentionMs;
+
+    @Scheduled(fixedDelayString = "${board.counter.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            int updated = boardCounterService.flush();
+            if (updated > 0) {
+                log.debug("게시글 카운터 반영: {}건", updated);
+            }
+        } catch (Exception e) {
+            // flushing 키가 남아 있으므로 다음 주기에 다시 반영
+            log.error("게시글 카운터 반영 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.counter.batch-purge-interval-ms:3600000}")
+    public void purgeAppliedBatches() {
+        try {
+            int deleted = boardCounterService.purgeAppliedBatches(Duration.ofMillis(batchRetentionMs));
+            if (deleted > 0) {
+                log.debug("게시글 카운터 배치 기록 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("게시글 카운터 배치 기록 정리 실패", e);
+        }
+    }
+}
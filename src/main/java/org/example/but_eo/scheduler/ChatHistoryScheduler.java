@@ -2,45 +2,72 @@ package org.example.but_eo.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.but_eo.entity.ChattingMessage;
-import org.example.but_eo.repository.ChattingMessageRepository;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.example.but_eo.dto.ChatMessage;
+import org.example.but_eo.service.ChattingMessageService;
+import org.example.but_eo.service.RedisChatService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChatHistoryScheduler {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChattingMessageRepository chatMessageRepository;
+    private static final int CHUNK_SIZE = 500;           // 한 번에 옮기는 메시지 수
+    private static final int MAX_CHUNKS_PER_ROOM = 20;   // 한 번 실행에서 방 하나가 독점하지 않도록 제한
 
-    @Scheduled(fixedRate = 5 * 60 * 1000) // 5분마다 실행
+    private final RedisChatService redisChatService;
+    private final ChattingMessageService chattingMessageService;
+
+    // 방 플러시 잠금 유지 시간, 한 번의 방 플러시(최대 MAX_CHUNKS_PER_ROOM 청크)보다 충분히 길게
+    @Value("${chat.flush.lock-ttl-ms:60000}")
+    private long lockTtlMillis;
+
+    @Scheduled(fixedDelayString = "${chat.flush.interval-ms:30000}")
     public void flushRedisToDatabase() {
-        Set<String> keys = redisTemplate.keys("chatroom:*");
-        if (keys.isEmpty()) return;
+        redisChatService.forEachPendingRoom(this::flushRoom);
+    }
 
-        for (String key : keys) {
-            try {
-                List<Object> messages = redisTemplate.opsForList().range(key, 0, -1);
-                if (messages == null || messages.isEmpty()) continue;
+    private void flushRoom(String roomId) {
+        // 다른 서버가 이 방을 옮기는 중이면 건너뜀
+        String token = UUID.randomUUID().toString();
+        if (!redisChatService.tryLockFlush(roomId, token, lockTtlMillis)) {
+            return;
+        }
 
-                List<ChattingMessage> entities = messages.stream()
-                        .filter(m -> m instanceof ChattingMessage)
-                        .map(m -> (ChattingMessage) m)
-                        .toList();
+        int saved = 0;
+        try {
+            for (int i = 0; i < MAX_CHUNKS_PER_ROOM; i++) {
+                List<ChatMessage> chunk = redisChatService.drainOldestMessages(roomId, token, CHUNK_SIZE);
+                if (chunk.isEmpty()) break;
 
-                chatMessageRepository.saveAll(entities);
-                redisTemplate.delete(key);
+                List<ChatMessage> rejected = chattingMessageService.saveAll(chunk);
+                if (!rejected.isEmpty()) {
+                    redisChatService.deadLetter(roomId, rejected);
+                    log.error("❌ DB 가 거부한 채팅 메시지 {}건 (chatdead:{} 에 보관) - messageIds: {}",
+                            rejected.size(), roomId, rejected.stream().map(ChatMessage::getMessageId).toList());
+                }
+                if (!redisChatService.ackDrainedMessages(roomId, token)) {
+                    // 잠금이 만료돼 다른 서버가 가져감, 처리중 리스트는 그 서버가 다시 저장 (중복 키는 무시됨)
+                    log.warn("채팅 플러시 잠금 만료 - 채팅방: {}", roomId);
+                    break;
+                }
+                saved += chunk.size() - rejected.size();
 
-                log.info("✅ 저장 완료: {}건, 채널: {}", entities.size(), key);
-            } catch (Exception e) {
-                log.error("❌ 채팅 메시지 플러시 실패 - 키: {}", key, e);
+                if (chunk.size() < CHUNK_SIZE) break;
+            }
+            if (saved > 0) {
+                log.info("✅ 저장 완료: {}건, 채팅방: {}", saved, roomId);
             }
+        } catch (Exception e) {
+            // 처리중 리스트는 그대로 남아 다음 실행에서 재시도
+            log.error("❌ 채팅 메시지 플러시 실패 - 채팅방: {}", roomId, e);
+        } finally {
+            redisChatService.unlockFlush(roomId, token);
         }
     }
-}
\ No newline at end of file
+}
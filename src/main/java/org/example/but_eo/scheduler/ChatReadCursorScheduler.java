@@ -0,0 +1,38 @@
+package org.example.but_eo.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.service.ChatReadCursorService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadCursorScheduler {
+
+    private final ChatReadCursorService chatReadCursorService;
+
+    // 읽음 프레임 묶어서 Redis 반영 (클라이언트가 스크롤 중 자주 보내도 주기당 한 번)
+    @Scheduled(fixedDelayString = "${chat.read.flush-interval-ms:1000}")
+    public void flushPending() {
+        try {
+            chatReadCursorService.flushPending();
+        } catch (Exception e) {
+            log.error("읽음 커서 Redis 반영 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read.persist-interval-ms:60000}")
+    public void persist() {
+        try {
+            int persisted = chatReadCursorService.persistDirty();
+            if (persisted > 0) {
+                log.debug("읽음 커서 DB 저장: {}건", persisted);
+            }
+        } catch (Exception e) {
+            // 실패한 묶음은 dirty 로 되돌려 다음 주기에 다시 저장
+            log.error("읽음 커서 DB 저장 실패", e);
+        }
+    }
+}
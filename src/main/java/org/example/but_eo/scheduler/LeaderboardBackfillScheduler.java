@@ -0,0 +1,19 @@
+package org.example.but_eo.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.service.LeaderboardService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LeaderboardBackfillScheduler {
+
+    private final LeaderboardService leaderboardService;
+
+    // 기동 직후 한 번, 이후 주기적으로 랭킹 키가 사라졌는지 확인
+    @Scheduled(fixedDelayString = "${leaderboard.backfill-check-interval-ms:600000}")
+    public void backfill() {
+        leaderboardService.backfillIfMissing();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.but_eo.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.MatchPairingWorker;
+import org.example.but_eo.component.MatchQueue;
+import org.example.but_eo.component.MatchQueueEvent;
+import org.example.but_eo.component.RegionNeighbors;
+import org.example.but_eo.dto.MatchResultDto;
+import org.example.but_eo.dto.RequestAutoMatch;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.service.TeamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 자동 매칭 대기열 주기 점검.
+ * 1. 오래 기다린 팀은 대기열에서 제거하고 리더에게 CANCEL 알림
+ * 2. 일정 시간 이상 기다린 팀은 인접 지역 대기열까지 범위를 넓혀 매칭
+ * 3. 대기 시간에 따라 점수 범위가 넓어지므로 새 요청이 없어도 같은 지역 페어링을 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchQueueScheduler {
+
+    private static final int MAX_FALLBACK_PAIRS_PER_NEIGHBOR = 50;
+    private static final String MATCH_QUEUE_DESTINATION = "/queue/match";
+
+    private final MatchQueue matchQueue;
+    private final MatchPairingWorker matchPairingWorker;
+    private final RegionNeighbors regionNeighbors;
+    private final TeamService teamService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${match.queue.fallback-after-ms:60000}")
+    private long fallbackAfterMillis;
+
+    @Value("${match.queue.expire-after-ms:600000}")
+    private long expireAfterMillis;
+
+    @Scheduled(fixedDelayString = "${match.queue.sweep-interval-ms:10000}")
+    public void sweep() {
+        for (MatchQueueEvent bucket : matchQueue.getActiveBuckets()) {
+            try {
+                expire(bucket);
+                matchAcrossRegions(bucket);
+                matchPairingWorker.schedule(bucket.getSportType(), bucket.getRegion());
+            } catch (Exception e) {
+                log.error("자동 매칭 대기열 점검 실패. sport={}, region={}", bucket.getSportType(), bucket.getRegion(), e);
+            }
+        }
+    }
+
+    private void expire(MatchQueueEvent bucket) {
+        List<String> expiredTeamIds = matchQueue.expire(bucket.getSportType(), bucket.getRegion(), expireAfterMillis);
+        // 이미 대기열에서 빠졌으므로 알림 하나가 실패해도 나머지 팀 알림과 이후 매칭은 계속
+        for (String teamId : expiredTeamIds) {
+            notifyExpired(teamId);
+        }
+        if (!expiredTeamIds.isEmpty()) {
+            log.info("자동 매칭 대기 만료 {}팀. sport={}, region={}", expiredTeamIds.size(), bucket.getSportType(), bucket.getRegion());
+        }
+    }
+
+    private void notifyExpired(String teamId) {
+        try {
+            messagingTemplate.convertAndSendToUser(
+                    teamService.getLeaderHashId(teamId),
+                    MATCH_QUEUE_DESTINATION,
+                    new MatchResultDto(null, Matching.State.CANCEL, null)
+            );
+        } catch (Exception e) {
+            log.error("자동 매칭 만료 알림 실패. teamId={}", teamId, e);
+        }
+    }
+
+    private void matchAcrossRegions(MatchQueueEvent bucket) {
+        for (String neighbor : regionNeighbors.of(bucket.getRegion())) {
+            for (int i = 0; i < MAX_FALLBACK_PAIRS_PER_NEIGHBOR; i++) {
+                Optional<List<RequestAutoMatch>> pair = matchQueue.tryMatchAcross(
+                        bucket.getSportType(), bucket.getRegion(), neighbor, fallbackAfterMillis);
+                if (pair.isEmpty()) {
+                    break;
+                }
+                matchPairingWorker.createMatchOrRequeue(pair.get().get(0), pair.get().get(1));
+            }
+        }
+    }
+}
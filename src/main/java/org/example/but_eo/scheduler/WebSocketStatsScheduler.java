@@ -0,0 +1,39 @@
+package org.example.but_eo.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.StompOutboundBackpressure;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 세션별 미전송 메시지 수(실행기 대기 + 세션 버퍼)와 느린 소비자로 버린 메시지 수 기록
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketStatsScheduler {
+
+    private static final int TOP_SESSIONS = 5;
+
+    private final StompOutboundBackpressure stompOutboundBackpressure;
+
+    @Scheduled(fixedDelayString = "${websocket.stats.log-interval-ms:60000}")
+    public void log() {
+        Map<String, Integer> pending = stompOutboundBackpressure.pendingBySession();
+        long dropped = stompOutboundBackpressure.drainDroppedCount();
+        if (pending.isEmpty() && dropped == 0) {
+            return;
+        }
+
+        int total = pending.values().stream().mapToInt(Integer::intValue).sum();
+        String top = pending.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(TOP_SESSIONS)
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .toList()
+                .toString();
+        log.info("WebSocket 전송 대기: 세션 {}개, 합계 {}건, 상위 {}, 버린 메시지 {}건",
+                pending.size(), total, top, dropped);
+    }
+}
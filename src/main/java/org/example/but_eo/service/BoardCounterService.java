@@ -0,0 +1,220 @@
+package org.example.but_eo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.repository.BoardCounterJdbcRepository;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 게시글 좋아요/댓글 수 write-behind 카운터.
+ * 요청마다 board 행을 읽고 고쳐 쓰지 않고 Redis 해시(board:counter:pending)에 증감분만 HINCRBY 로 쌓는다.
+ * 필드: {boardId}:like, {boardId}:comment
+ * 스케줄러가 주기적으로 해시를 board:counter:flushing 으로 넘겨 게시글별로 합친 증감분을 UPDATE ... + ? 로 반영한다.
+ * flushing 해시에는 배치 ID 를 함께 두고, DB 반영 시 같은 트랜잭션에서 board_counter_batch 에 기록해
+ * 여러 인스턴스가 같은 배치를 읽거나 반영 후 DEL 전에 죽어도 한 번만 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardCounterService {
+
+    private static final String PENDING_KEY = "board:counter:pending";
+    private static final String FLUSHING_KEY = "board:counter:flushing";
+    private static final String LIKE_FIELD = ":like";
+    private static final String COMMENT_FIELD = ":comment";
+    private static final String BATCH_FIELD = "batch"; // flushing 해시의 배치 ID 필드
+
+    // 이전 flush 의 flushing 해시가 남아 있으면 (반영 여부와 관계없이) 같은 배치 ID 로 다시 넘김
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    // 반영한 배치일 때만 삭제 (다른 인스턴스가 이미 지우고 새 배치를 만들었을 수 있음)
+    private static final DefaultRedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository;
+
+    public void addLike(String boardId, int delta) {
+        incrementAfterCommit(boardId, LIKE_FIELD, delta);
+    }
+
+    public void addComment(String boardId, int delta) {
+        incrementAfterCommit(boardId, COMMENT_FIELD, delta);
+    }
+
+    // 트랜잭션이 롤백되면 카운트도 반영되지 않도록 커밋 후 증가
+    private void incrementAfterCommit(String boardId, String suffix, int delta) {
+        Runnable increment = () -> {
+            try {
+                stringRedisTemplate.opsForHash().increment(PENDING_KEY, boardId + suffix, delta);
+            } catch (Exception e) {
+                // Redis 장애 시 증감분을 잃지 않도록 DB 에 바로 반영
+                log.warn("게시글 카운터 증감 실패, DB 에 직접 반영. boardId={}, field={}, delta={}", boardId, suffix, delta, e);
+                addCountsDirectly(boardId, suffix, delta);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment.run();
+                }
+            });
+        } else {
+            increment.run();
+        }
+    }
+
+    private void addCountsDirectly(String boardId, String suffix, int delta) {
+        try {
+            if (LIKE_FIELD.equals(suffix)) {
+                boardCounterJdbcRepository.addCounts(boardId, delta, 0);
+            } else {
+                boardCounterJdbcRepository.addCounts(boardId, 0, delta);
+            }
+        } catch (Exception e) {
+            log.error("게시글 카운터 DB 직접 반영 실패. boardId={}, field={}, delta={}", boardId, suffix, delta, e);
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분 (boardId -> [like, comment]).
+     * 목록/상세 응답에 더해서 flush 주기 동안에도 정확한 값을 보여준다.
+     * flushing 배치가 이미 커밋되었고 DEL 전이면 그 값은 DB 에 들어 있으므로 더하지 않는다.
+     * 반영 여부는 게시글을 읽은 트랜잭션에서 확인하므로 (REPEATABLE READ) 읽은 카운트와 같은 시점 기준이다.
+     */
+    public Map<String, long[]> getPendingDeltas(Collection<String> boardIds) {
+        Map<String, long[]> result = new HashMap<>();
+        if (boardIds.isEmpty()) {
+            return result;
+        }
+
+        List<String> fields = new ArrayList<>(boardIds.size() * 2);
+        for (String boardId : boardIds) {
+            fields.add(boardId + LIKE_FIELD);
+            fields.add(boardId + COMMENT_FIELD);
+        }
+        String[] fieldArray = fields.toArray(new String[0]);
+
+        List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.hMGet(PENDING_KEY, fieldArray);
+                conn.hMGet(FLUSHING_KEY, fieldArray);
+                conn.hGet(FLUSHING_KEY, BATCH_FIELD);
+                return null;
+            });
+        } catch (Exception e) {
+            // 조회 실패 시 DB 값만으로 응답
+            log.warn("게시글 카운터 조회 실패", e);
+            return result;
+        }
+
+        List<?> pending = (List<?>) results.get(0);
+        List<?> flushing = (List<?>) results.get(1);
+        String flushingBatchId = (String) results.get(2);
+        if (flushingBatchId != null && flushing.stream().anyMatch(Objects::nonNull)
+                && boardCounterJdbcRepository.isBatchApplied(flushingBatchId)) {
+            flushing = Collections.nCopies(fieldArray.length, null);
+        }
+
+        int i = 0;
+        for (String boardId : boardIds) {
+            long like = toLong(pending.get(i)) + toLong(flushing.get(i));
+            long comment = toLong(pending.get(i + 1)) + toLong(flushing.get(i + 1));
+            if (like != 0 || comment != 0) {
+                result.put(boardId, new long[]{like, comment});
+            }
+            i += 2;
+        }
+        return result;
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    // 쌓인 증감분을 게시글별로 합쳐 DB 반영. 반영한 게시글 수 반환
+    @SuppressWarnings("unchecked")
+    public int flush() {
+        List<String> entries = stringRedisTemplate.execute(TAKE_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY),
+                BATCH_FIELD, UUID.randomUUID().toString());
+        if (entries == null || entries.isEmpty()) {
+            return 0;
+        }
+
+        String batchId = null;
+        Map<String, long[]> deltas = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String field = entries.get(i);
+            if (BATCH_FIELD.equals(field)) {
+                batchId = entries.get(i + 1);
+                continue;
+            }
+            long delta = Long.parseLong(entries.get(i + 1));
+            int sep = field.lastIndexOf(':');
+            long[] counts = deltas.computeIfAbsent(field.substring(0, sep), k -> new long[2]);
+            if (field.endsWith(LIKE_FIELD)) {
+                counts[0] += delta;
+            } else {
+                counts[1] += delta;
+            }
+        }
+        if (batchId == null) {
+            throw new IllegalStateException("게시글 카운터 배치 ID 가 없습니다.");
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, counts) -> {
+            if (counts[0] != 0 || counts[1] != 0) {
+                rows.add(new Object[]{boardId, counts[0], counts[1]});
+            }
+        });
+
+        boolean applied = boardCounterJdbcRepository.applyBatch(batchId, rows);
+        stringRedisTemplate.execute(FINISH_SCRIPT, List.of(FLUSHING_KEY), BATCH_FIELD, batchId);
+        if (!applied) {
+            log.info("이미 반영된 게시글 카운터 배치 정리. batchId={}", batchId);
+            return 0;
+        }
+        return rows.size();
+    }
+
+    // 중복 반영 확인용 배치 기록 정리
+    public int purgeAppliedBatches(Duration retention) {
+        return boardCounterJdbcRepository.deleteBatchesBefore(LocalDateTime.now().minus(retention));
+    }
+}
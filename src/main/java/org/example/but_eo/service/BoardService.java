@@ -12,10 +12,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,12 +31,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BoardService {
 
+    private static final long[] NO_DELTA = {0, 0};
+    private static final int MIN_SEARCH_LENGTH = 2; // ngram_token_size 기본값
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final BoardRepository boardRepository;
     private final UsersRepository usersRepository;
     private final BoardMappingRepository boardMappingRepository;
     private final CommentRepository commentRepository;
     private final FileService fileService;
     private final BoardLikeRepository boardLikeRepository;
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository;
+    private final BoardCounterService boardCounterService;
+    private final BoardSearchRepository boardSearchRepository;
 
     // 게시글 생성
     public void createBoard(BoardRequest request, List<MultipartFile> files, String userId) {
@@ -61,22 +75,7 @@ public class BoardService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Board> boards = boardRepository.findByEventAndCategoryAndState(event, category, Board.State.PUBLIC, pageable);
 
-        return boards.stream().map(board -> {
-            boolean isLiked = boardLikeRepository.existsByUser_UserHashIdAndBoard_BoardId(userId, board.getBoardId());
-            return new BoardResponse(
-                    board.getBoardId(),
-                    board.getTitle(),
-                    board.getUser().getUserHashId(),
-                    board.getUser().getName(),
-                    board.getCategory(),
-                    board.getEvent(),
-                    board.getCommentCount(),
-                    board.getLikeCount(),
-                    board.getCreatedAt(),
-                    isLiked
-            );
-        }).toList();
-
+        return toBoardResponses(boards.getContent(), userId);
     }
 
     // 페이징 조회
@@ -84,28 +83,7 @@ public class BoardService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Board> boards = boardRepository.findByEventAndCategoryAndState(event, category, Board.State.PUBLIC, pageable);
 
-        List<BoardResponse> content = boards.stream().map(board -> {
-            //로그 찍기 시작
-            System.out.println("[isLiked 체크] userId(SecurityUtil): " + userId);
-            System.out.println("[isLiked 체크] boardId: " + board.getBoardId());
-
-            boolean isLiked = boardLikeRepository.existsByUser_UserHashIdAndBoard_BoardId(userId, board.getBoardId());
-
-            System.out.println("[isLiked 체크] 결과: " + isLiked);
-
-            return new BoardResponse(
-                    board.getBoardId(),
-                    board.getTitle(),
-                    board.getUser().getUserHashId(),
-                    board.getUser().getName(),
-                    board.getCategory(),
-                    board.getEvent(),
-                    board.getCommentCount(),
-                    board.getLikeCount(),
-                    board.getCreatedAt(),
-                    isLiked
-            );
-        }).toList();
+        List<BoardResponse> content = toBoardResponses(boards.getContent(), userId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("content", content);
@@ -119,6 +97,54 @@ public class BoardService {
 
 
 
+    // 게시글 검색 (제목 + 내용 전문 검색, 관련도 순 keyset 페이지)
+    public BoardSearchResponse searchBoards(String q, Board.Event event, Board.Category category,
+                                            String cursor, int size, String userId) {
+        String query = q == null ? "" : q.trim();
+        if (query.length() < MIN_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("검색어는 2자 이상 입력해주세요.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+
+        BigDecimal cursorScore = null;
+        String cursorBoardId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                cursorScore = new BigDecimal(parts[0]);
+                cursorBoardId = parts[1];
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        List<BoardSearchRepository.SearchHit> hits =
+                boardSearchRepository.search(query, event, category, cursorScore, cursorBoardId, pageSize + 1);
+        boolean hasMore = hits.size() > pageSize;
+        if (hasMore) {
+            hits = hits.subList(0, pageSize);
+        }
+        if (hits.isEmpty()) {
+            return new BoardSearchResponse(List.of(), null, false);
+        }
+
+        // 검색 순서대로 게시글(작성자 포함) 조회
+        Map<String, Board> boardMap = boardRepository.findByBoardIdIn(hits.stream().map(h -> h.boardId).toList()).stream()
+                .collect(Collectors.toMap(Board::getBoardId, b -> b));
+        List<Board> boards = hits.stream()
+                .map(h -> boardMap.get(h.boardId))
+                .filter(Objects::nonNull)
+                .toList();
+
+        BoardSearchRepository.SearchHit last = hits.get(hits.size() - 1);
+        String nextCursor = hasMore
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(
+                        (last.score.toPlainString() + "|" + last.boardId).getBytes(StandardCharsets.UTF_8))
+                : null;
+        return new BoardSearchResponse(toBoardResponses(boards, userId), nextCursor, hasMore);
+    }
+
     //게시판 전체조회 및 필터(관리자 기능)
     public Page<BoardAdminResponse> getBoards(String title, String userName, Pageable pageable) {
         // 검색 조건에 맞게 Users.name 필드를 사용
@@ -151,6 +177,8 @@ public class BoardService {
                         comment.getUser().getProfile()
                 )).toList();
 
+        long[] delta = boardCounterService.getPendingDeltas(List.of(boardId)).getOrDefault(boardId, NO_DELTA);
+
         return new BoardDetailResponse(
                 board.getBoardId(),
                 board.getTitle(),
@@ -161,8 +189,8 @@ public class BoardService {
                 board.getEvent(), // 종목 포함
                 board.getUser().getName(),
                 fileUrls,
-                board.getLikeCount(),
-                board.getCommentCount(),
+                (int) Math.max(board.getLikeCount() + delta[0], 0),
+                (int) Math.max(board.getCommentCount() + delta[1], 0),
                 board.getCreatedAt(),
                 board.getUpdatedAt(),
                 commentResponses
@@ -217,29 +245,21 @@ public class BoardService {
         boardRepository.delete(board);
     }
 
-    // 좋아요 토글
+    // 좋아요 토글 (board 행은 읽거나 잠그지 않고, 좋아요 수는 카운터에 증감분만 기록)
     public void toggleLike(String boardId, String userId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new RuntimeException("게시글이 존재하지 않습니다."));
-
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
-
-        boolean alreadyLiked = boardLikeRepository.existsByUserAndBoard(user, board);
-
-        if (alreadyLiked) {
-            boardLikeRepository.deleteByUserAndBoard(user, board);
-            board.setLikeCount(board.getLikeCount() - 1);
-        } else {
-            BoardLike like = new BoardLike();
-            like.setUser(user);
-            like.setBoard(board);
-            like.setLikedAt(LocalDateTime.now());
-            boardLikeRepository.save(like);
-            board.setLikeCount(board.getLikeCount() + 1);
+        if (!boardRepository.existsById(boardId)) {
+            throw new RuntimeException("게시글이 존재하지 않습니다.");
+        }
+        if (!usersRepository.existsById(userId)) {
+            throw new RuntimeException("유저가 존재하지 않습니다.");
         }
 
-        boardRepository.save(board);
+        // 이미 눌렀으면 취소, 아니면 추가 (동시에 눌러도 실제로 바뀐 행만 카운트)
+        if (boardCounterJdbcRepository.deleteLike(userId, boardId)) {
+            boardCounterService.addLike(boardId, -1);
+        } else if (boardCounterJdbcRepository.insertLike(userId, boardId)) {
+            boardCounterService.addLike(boardId, 1);
+        }
     }
 
     // 특정 게시글에 현재 로그인 유저가 좋아요를 눌렀는지 여부
@@ -252,28 +272,7 @@ public class BoardService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Board> boards = boardRepository.findByUser_UserHashIdAndState(userId, Board.State.PUBLIC, pageable);
 
-        List<BoardResponse> content = boards.stream().map(board -> {
-            // === 로그 찍기 시작 ===
-            System.out.println("[isLiked 체크] userId(SecurityUtil): " + userId);
-            System.out.println("[isLiked 체크] boardId: " + board.getBoardId());
-
-            boolean isLiked = boardLikeRepository.existsByUser_UserHashIdAndBoard_BoardId(userId, board.getBoardId());
-
-            System.out.println("[isLiked 체크] 결과: " + isLiked);
-
-            return new BoardResponse(
-                    board.getBoardId(),
-                    board.getTitle(),
-                    board.getUser().getUserHashId(),
-                    board.getUser().getName(),
-                    board.getCategory(),
-                    board.getEvent(),
-                    board.getCommentCount(),
-                    board.getLikeCount(),
-                    board.getCreatedAt(),
-                    isLiked
-            );
-        }).toList();
+        List<BoardResponse> content = toBoardResponses(boards.getContent(), userId);
 
         Map<String, Object> response = new HashMap<>();
         response.put("content", content);
@@ -289,24 +288,39 @@ public class BoardService {
     public List<BoardResponse> getLatestBoardsForHome(String userId) {
         List<Board> boards = boardRepository.findTop5ByStateOrderByCreatedAtDesc(Board.State.PUBLIC);
 
-        return boards.stream().map(board -> {
-            boolean isLiked = boardLikeRepository.existsByUser_UserHashIdAndBoard_BoardId(userId, board.getBoardId());
-            return new BoardResponse(
+        return toBoardResponses(boards, userId);
+    }
+
+
+    // 목록 응답 변환: 좋아요 여부는 페이지 전체를 IN 쿼리 한 번으로 조회 (작성자는 EntityGraph로 함께 조회됨)
+    private List<BoardResponse> toBoardResponses(List<Board> boards, String userId) {
+        List<String> boardIds = boards.stream().map(Board::getBoardId).toList();
+        Set<String> likedBoardIds = Set.of();
+        if (userId != null && !boards.isEmpty()) {
+            likedBoardIds = new HashSet<>(boardLikeRepository.findLikedBoardIds(userId, boardIds));
+        }
+        // 아직 DB에 반영되지 않은 좋아요/댓글 수 증감분
+        Map<String, long[]> pending = boardCounterService.getPendingDeltas(boardIds);
+
+        List<BoardResponse> responses = new ArrayList<>(boards.size());
+        for (Board board : boards) {
+            long[] delta = pending.getOrDefault(board.getBoardId(), NO_DELTA);
+            responses.add(new BoardResponse(
                     board.getBoardId(),
                     board.getTitle(),
                     board.getUser().getUserHashId(),
                     board.getUser().getName(),
                     board.getCategory(),
                     board.getEvent(),
-                    board.getCommentCount(),
-                    board.getLikeCount(),
+                    (int) Math.max(board.getCommentCount() + delta[1], 0),
+                    (int) Math.max(board.getLikeCount() + delta[0], 0),
                     board.getCreatedAt(),
-                    isLiked
-            );
-        }).toList();
+                    likedBoardIds.contains(board.getBoardId())
+            ));
+        }
+        return responses;
     }
 
-
     //게시판 상태 수정(관리자 기능)
     public void updateBoardState(String boardId, Board.State newState) {
         Board board = boardRepository.findById(boardId)
@@ -0,0 +1,124 @@
+package org.example.but_eo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.component.ImageVariantWorker;
+import org.example.but_eo.dto.ChatAttachment;
+import org.example.but_eo.dto.ChatMessage;
+import org.example.but_eo.dto.StoredFile;
+import org.example.but_eo.entity.ChattingMessageMapping;
+import org.example.but_eo.entity.File;
+import org.example.but_eo.entity.Users;
+import org.example.but_eo.repository.ChattingMessageMappingRepository;
+import org.example.but_eo.repository.FileRepository;
+import org.example.but_eo.repository.UsersRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅 첨부 파일: 먼저 업로드해 fileId 를 받고, 메시지에는 fileId 만 담아 보낸다.
+ * 파일 내용은 STOMP 프레임에 싣지 않고 /uploads/chats/** 로 따로 내려받으며, 썸네일은 ImageVariantWorker 가 메시지 전송과 무관하게 만든다.
+ * 메시지-파일 매핑은 채팅 메시지와 함께 Redis -> MySQL 플러시 때 저장된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatAttachmentService {
+
+    private static final int MAX_ATTACHMENTS = 10;
+
+    private final StorageService storageService;
+    private final FileRepository fileRepository;
+    private final UsersRepository usersRepository;
+    private final ChattingMessageMappingRepository chattingMessageMappingRepository;
+    private final ImageVariantWorker imageVariantWorker;
+
+    @Transactional
+    public ChatAttachment upload(String userId, MultipartFile multipartFile) {
+        if (multipartFile == null || multipartFile.isEmpty()) {
+            throw new IllegalArgumentException("첨부할 파일이 없습니다.");
+        }
+        Users user = usersRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+
+        StoredFile stored = storageService.store(multipartFile, StorageService.CHATS);
+        File file = fileRepository.save(storageService.toFileRecord(user, stored));
+        if (isImage(file)) {
+            imageVariantWorker.schedule(file.getFilePath());
+        }
+        return toAttachment(file);
+    }
+
+    // 보낸 사람이 업로드한 파일인지 확인하고 저장된 정보로 첨부 목록을 다시 만듦 (클라이언트가 보낸 URL 은 쓰지 않음)
+    @Transactional(readOnly = true)
+    public List<ChatAttachment> resolve(String userId, List<ChatAttachment> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return null;
+        }
+        Set<String> fileIds = new LinkedHashSet<>();
+        for (ChatAttachment attachment : requested) {
+            if (attachment.getFileId() != null) {
+                fileIds.add(attachment.getFileId());
+            }
+        }
+        if (fileIds.size() > MAX_ATTACHMENTS) {
+            throw new IllegalArgumentException("첨부 파일은 최대 " + MAX_ATTACHMENTS + "개입니다.");
+        }
+
+        Map<String, File> files = new HashMap<>();
+        for (File file : fileRepository.findAllById(fileIds)) {
+            files.put(file.getFileId(), file);
+        }
+
+        List<ChatAttachment> attachments = new ArrayList<>();
+        for (String fileId : fileIds) {
+            File file = files.get(fileId);
+            if (file == null || !file.getUserHashId().getUserHashId().equals(userId)) {
+                throw new IllegalArgumentException("첨부할 수 없는 파일입니다.");
+            }
+            attachments.add(toAttachment(file));
+        }
+        return attachments;
+    }
+
+    // MySQL 에서 읽은 메시지들의 첨부 파일을 한 번에 채움
+    @Transactional(readOnly = true)
+    public void fillAttachments(List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Map<String, ChatMessage> byId = new HashMap<>();
+        for (ChatMessage message : messages) {
+            byId.put(message.getMessageId(), message);
+        }
+
+        for (ChattingMessageMapping mapping : chattingMessageMappingRepository.findAllWithFileByMessageIds(byId.keySet())) {
+            ChatMessage message = byId.get(mapping.getChattingMessageMappingkey().getMessageId());
+            if (message.getAttachments() == null) {
+                message.setAttachments(new ArrayList<>());
+            }
+            message.getAttachments().add(toAttachment(mapping.getFile()));
+        }
+    }
+
+    private ChatAttachment toAttachment(File file) {
+        return ChatAttachment.builder()
+                .fileId(file.getFileId())
+                .url(file.getFilePath())
+                .thumbnailUrl(isImage(file) ? imageVariantWorker.urlOf(file.getFilePath(), ImageVariantWorker.Variant.THUMB) : null)
+                .fileName(file.getFileName())
+                .contentType(file.getContentType())
+                .size(file.getFileSize())
+                .build();
+    }
+
+    private boolean isImage(File file) {
+        return file.getContentType() != null && file.getContentType().startsWith("image/");
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.but_eo.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.dto.ChatHistoryResponse;
+import org.example.but_eo.dto.ChatMessage;
+import org.example.but_eo.entity.ChattingMessage;
+import org.example.but_eo.repository.ChattingMessageRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅 내역 페이지 조회.
+ * 최신 메시지는 Redis 리스트(아직 DB로 옮겨지지 않은 부분)에서, 그보다 오래된 메시지는 DB 로 옮기는 중인 리스트와 MySQL(keyset)을 합쳐 읽는다.
+ * 커서는 마지막으로 내려준 메시지의 (createdAt, messageId) 와 Redis 인덱스 힌트를 담고 있어
+ * 그 사이 새 메시지가 쌓이거나 플러시로 메시지가 DB로 옮겨져도 같은 위치에서 이어서 읽는다.
+ * 재접속한 클라이언트는 마지막으로 받은 seq 이후 메시지만 getMessagesAfter 로 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryService {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int REDIS_WINDOW = 100;
+    private static final int DB_TIER = -1; // 커서가 이미 MySQL 구간에 있음
+    private static final Comparator<ChatMessage> NEWEST_FIRST = Comparator
+            .comparing((ChatMessage m) -> LocalDateTime.parse(m.getCreatedAt()))
+            .thenComparing(ChatMessage::getMessageId)
+            .reversed();
+
+    private final RedisChatService redisChatService;
+    private final ChattingMessageRepository chattingMessageRepository;
+    private final ChatAttachmentService chatAttachmentService;
+
+    @Transactional(readOnly = true)
+    public ChatHistoryResponse getMessages(String roomId, String before, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        HistoryCursor cursor = (before == null || before.isBlank()) ? null : decode(before);
+
+        List<ChatMessage> page = new ArrayList<>(size);
+        int nextRedisIndex = DB_TIER;
+
+        // 1. Redis (최근 메시지, 0번이 가장 최신)
+        if (cursor == null || cursor.getRedisIndex() != DB_TIER) {
+            long start = cursor == null ? 0 : cursor.getRedisIndex();
+            while (page.size() < size) {
+                List<ChatMessage> window = redisChatService.getMessages(roomId, start, start + REDIS_WINDOW - 1);
+                for (int i = 0; i < window.size() && page.size() < size; i++) {
+                    ChatMessage message = window.get(i);
+                    // 커서 이후 새로 쌓인 메시지(인덱스가 밀린 부분)는 건너뜀
+                    if (cursor == null || isOlderThan(message, cursor)) {
+                        page.add(message);
+                        nextRedisIndex = (int) (start + i + 1);
+                    }
+                }
+                if (window.size() < REDIS_WINDOW) {
+                    break;
+                }
+                start += REDIS_WINDOW;
+            }
+        }
+
+        // 2. DB 로 옮기는 중인 메시지 + MySQL (Redis 에서 부족한 만큼)
+        // 옮기는 중인 메시지는 방 리스트보다 오래됐지만 아직 MySQL 에 없을 수 있으므로 둘을 합쳐 정렬
+        if (page.size() < size) {
+            int remaining = size - page.size();
+            HistoryCursor anchor = page.isEmpty() ? cursor : toCursor(page.get(page.size() - 1), DB_TIER);
+
+            Set<String> seen = new HashSet<>();
+            page.forEach(m -> seen.add(m.getMessageId()));
+            List<ChatMessage> older = new ArrayList<>();
+            for (ChatMessage message : redisChatService.getDrainingMessages(roomId)) {
+                if ((anchor == null || isOlderThan(message, anchor)) && seen.add(message.getMessageId())) {
+                    older.add(message);
+                }
+            }
+
+            List<ChattingMessage> rows = anchor == null
+                    ? chattingMessageRepository.findLatestPage(roomId, PageRequest.of(0, remaining))
+                    : chattingMessageRepository.findPageBefore(roomId, anchor.getCreatedAt(), anchor.getMessageId(), PageRequest.of(0, remaining));
+            List<ChatMessage> fromDb = new ArrayList<>();
+            for (ChattingMessage row : rows) {
+                if (seen.add(row.getMessageId())) {
+                    fromDb.add(toDto(row));
+                }
+            }
+            chatAttachmentService.fillAttachments(fromDb);
+            older.addAll(fromDb);
+
+            older.sort(NEWEST_FIRST);
+            page.addAll(older.size() > remaining ? older.subList(0, remaining) : older);
+            nextRedisIndex = DB_TIER;
+        }
+
+        boolean hasMore = page.size() == size;
+        String nextCursor = hasMore ? encode(toCursor(page.get(page.size() - 1), nextRedisIndex)) : null;
+        return new ChatHistoryResponse(page, nextCursor, hasMore);
+    }
+
+    // 채팅방 메시지 순번 발급 + Redis 저장 (한 스크립트로, 순번 키가 없으면 저장된 최대 순번에서 이어감)
+    public long append(String roomId, ChatMessage message) {
+        return redisChatService.appendWithNextSeq(roomId, message, () -> lastSeq(roomId));
+    }
+
+    // afterSeq 보다 큰 순번의 메시지 (오래된 순), 더 있으면 nextCursor 에 마지막 순번
+    @Transactional(readOnly = true)
+    public ChatHistoryResponse getMessagesAfter(String roomId, long afterSeq, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Map<String, ChatMessage> candidates = new HashMap<>();
+
+        // 1. Redis 리스트는 최신순이므로 afterSeq 이하 순번이 나온 창까지만 읽음
+        long start = 0;
+        while (true) {
+            List<ChatMessage> window = redisChatService.getMessages(roomId, start, start + REDIS_WINDOW - 1);
+            boolean reachedBoundary = false;
+            for (ChatMessage message : window) {
+                if (message.getSeq() == null || message.getSeq() <= afterSeq) {
+                    reachedBoundary = true;
+                } else {
+                    candidates.put(message.getMessageId(), message);
+                }
+            }
+            if (reachedBoundary || window.size() < REDIS_WINDOW) {
+                break;
+            }
+            start += REDIS_WINDOW;
+        }
+        // 2. DB 로 옮기는 중인 메시지
+        for (ChatMessage message : redisChatService.getDrainingMessages(roomId)) {
+            if (message.getSeq() != null && message.getSeq() > afterSeq) {
+                candidates.put(message.getMessageId(), message);
+            }
+        }
+        // 3. MySQL (가장 오래된 쪽부터 size + 1 개면 충분)
+        List<ChatMessage> fromDb = new ArrayList<>();
+        for (ChattingMessage row : chattingMessageRepository.findPageAfterSeq(roomId, afterSeq, PageRequest.of(0, size + 1))) {
+            if (!candidates.containsKey(row.getMessageId())) {
+                fromDb.add(toDto(row));
+            }
+        }
+        chatAttachmentService.fillAttachments(fromDb);
+        fromDb.forEach(message -> candidates.put(message.getMessageId(), message));
+
+        List<ChatMessage> sorted = new ArrayList<>(candidates.values());
+        sorted.sort(Comparator.comparingLong(ChatMessage::getSeq));
+        boolean hasMore = sorted.size() > size;
+        List<ChatMessage> page = hasMore ? new ArrayList<>(sorted.subList(0, size)) : sorted;
+        String nextCursor = hasMore ? String.valueOf(page.get(page.size() - 1).getSeq()) : null;
+        return new ChatHistoryResponse(page, nextCursor, hasMore);
+    }
+
+    // 저장된 메시지 중 가장 큰 순번 (Redis 최신 메시지, 저장 중 메시지, MySQL 순)
+    private long lastSeq(String roomId) {
+        long last = 0;
+        for (ChatMessage message : redisChatService.getMessages(roomId, 0, 0)) {
+            if (message.getSeq() != null) {
+                last = Math.max(last, message.getSeq());
+            }
+        }
+        for (ChatMessage message : redisChatService.getDrainingMessages(roomId)) {
+            if (message.getSeq() != null) {
+                last = Math.max(last, message.getSeq());
+            }
+        }
+        Long stored = chattingMessageRepository.findMaxSeq(roomId);
+        return stored != null ? Math.max(last, stored) : last;
+    }
+
+    private boolean isOlderThan(ChatMessage message, HistoryCursor cursor) {
+        int cmp = LocalDateTime.parse(message.getCreatedAt()).compareTo(cursor.getCreatedAt());
+        return cmp < 0 || (cmp == 0 && message.getMessageId().compareTo(cursor.getMessageId()) < 0);
+    }
+
+    private HistoryCursor toCursor(ChatMessage message, int redisIndex) {
+        return new HistoryCursor(LocalDateTime.parse(message.getCreatedAt()), message.getMessageId(), redisIndex);
+    }
+
+    private ChatMessage toDto(ChattingMessage entity) {
+        return new ChatMessage(
+                entity.getMessageId(),
+                entity.getChattingMember().getChattingMemberKey().getChatId(),
+                entity.getChattingMember().getChattingMemberKey().getUserHashId(),
+                entity.getChattingMember().getUser().getName(),
+                entity.getMessage(),
+                entity.getCreatedAt().toString(),
+                entity.getSeq(),
+                null
+        );
+    }
+
+    private String encode(HistoryCursor cursor) {
+        String raw = cursor.getCreatedAt() + "|" + cursor.getMessageId() + "|" + cursor.getRedisIndex();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private HistoryCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new HistoryCursor(LocalDateTime.parse(parts[0]), parts[1], Integer.parseInt(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class HistoryCursor {
+        private final LocalDateTime createdAt;
+        private final String messageId;
+        private final int redisIndex;
+    }
+}
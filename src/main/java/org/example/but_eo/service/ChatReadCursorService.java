@@ -0,0 +1,165 @@
+package org.example.but_eo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.repository.ChattingMemberJdbcRepository;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 멤버별 읽음 커서 (마지막으로 읽은 메시지 seq).
+ * chatroom:{roomId}:read 해시(field = userId)에 보관하고, 안읽은 수는 방 순번(chatroom:{roomId}:seq) - 커서 로 계산한다.
+ * 읽음 프레임은 서버 메모리에서 방/유저별 최대값으로 모았다가 flushPending 주기로 Redis 에 반영하고,
+ * 바뀐 커서는 chatread:dirty 에 표시해 두었다가 persistDirty 주기로 ChattingMember.lastReadSeq 에 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatReadCursorService {
+
+    private static final String DIRTY_KEY = "chatread:dirty"; // "{roomId}|{userId}"
+    private static final String LATEST = "-1";                 // 방의 현재 순번까지 읽음
+    private static final int PERSIST_BATCH = 500;
+
+    // 커서는 앞으로만 이동, 방 순번을 넘을 수 없음. 바뀌면 1
+    private static final DefaultRedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>("""
+            local roomSeq = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local seq = tonumber(ARGV[2])
+            if seq < 0 or seq > roomSeq then seq = roomSeq end
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '-1')
+            if seq > current then
+                redis.call('HSET', KEYS[1], ARGV[1], seq)
+                redis.call('SADD', KEYS[3], ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChattingMemberJdbcRepository chattingMemberJdbcRepository;
+
+    // 아직 Redis 에 반영하지 않은 읽음 프레임 ("{roomId}|{userId}" -> 최대 seq)
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    public static String readKey(String roomId) {
+        return "chatroom:" + roomId + ":read";
+    }
+
+    // /app/chat/read 프레임: 바로 쓰지 않고 모아 둠
+    public void onRead(String roomId, String userId, long seq) {
+        if (seq < 0) {
+            throw new IllegalArgumentException("잘못된 메시지 순번입니다.");
+        }
+        pending.merge(member(roomId, userId), seq, Math::max);
+    }
+
+    // 보낸 메시지는 보낸 사람에게 안읽음으로 잡히지 않도록 바로 커서 이동
+    public void onSent(String roomId, String userId, long seq) {
+        advance(roomId, userId, String.valueOf(seq));
+    }
+
+    // 채팅방을 열었을 때: 현재 마지막 메시지까지 읽음
+    public void markAllRead(String roomId, String userId) {
+        pending.remove(member(roomId, userId));
+        advance(roomId, userId, LATEST);
+    }
+
+    // 새 멤버는 참여 시점까지 읽은 것으로 시작 (이전 메시지가 안읽음으로 잡히지 않도록)
+    public void initMembers(String roomId, Collection<String> userIds) {
+        String seq = stringRedisTemplate.opsForValue().get(RedisChatService.seqKey(roomId));
+        String start = seq != null ? seq : "0";
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String userId : userIds) {
+                conn.hSetNX(readKey(roomId), userId, start);
+            }
+            return null;
+        });
+    }
+
+    public void removeMember(String roomId, String userId) {
+        pending.remove(member(roomId, userId));
+        stringRedisTemplate.opsForHash().delete(readKey(roomId), userId);
+        stringRedisTemplate.opsForSet().remove(DIRTY_KEY, member(roomId, userId));
+    }
+
+    // 모아 둔 읽음 프레임을 Redis 커서에 반영
+    public int flushPending() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<String> members = new ArrayList<>(pending.keySet());
+        int flushed = 0;
+        for (String member : members) {
+            Long seq = pending.remove(member);
+            if (seq == null) {
+                continue;
+            }
+            String[] parts = member.split("\\|", 2);
+            try {
+                advance(parts[0], parts[1], String.valueOf(seq));
+                flushed++;
+            } catch (Exception e) {
+                pending.merge(member, seq, Math::max); // 다음 주기에 다시 시도
+                throw e;
+            }
+        }
+        return flushed;
+    }
+
+    // 바뀐 커서를 ChattingMember.last_read_seq 에 저장 (Redis 초기화 시 복구용)
+    public int persistDirty() {
+        int persisted = 0;
+        while (true) {
+            List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, PERSIST_BATCH);
+            if (members == null || members.isEmpty()) {
+                return persisted;
+            }
+
+            List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (String member : members) {
+                    String[] parts = member.split("\\|", 2);
+                    conn.hGet(readKey(parts[0]), parts[1]);
+                }
+                return null;
+            });
+
+            List<ChattingMemberJdbcRepository.ReadCursor> cursors = new ArrayList<>();
+            for (int i = 0; i < members.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    String[] parts = members.get(i).split("\\|", 2);
+                    cursors.add(new ChattingMemberJdbcRepository.ReadCursor(parts[0], parts[1], Long.parseLong(value.toString())));
+                }
+            }
+            try {
+                chattingMemberJdbcRepository.batchUpdateLastReadSeq(cursors);
+            } catch (RuntimeException e) {
+                stringRedisTemplate.opsForSet().add(DIRTY_KEY, members.toArray(new String[0]));
+                throw e;
+            }
+            persisted += cursors.size();
+            if (members.size() < PERSIST_BATCH) {
+                return persisted;
+            }
+        }
+    }
+
+    private void advance(String roomId, String userId, String seq) {
+        stringRedisTemplate.execute(ADVANCE_SCRIPT,
+                List.of(readKey(roomId), RedisChatService.seqKey(roomId), DIRTY_KEY),
+                userId, seq, member(roomId, userId));
+    }
+
+    private static String member(String roomId, String userId) {
+        return roomId + "|" + userId;
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.but_eo.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.dto.ChatMessage;
+import org.example.but_eo.entity.ChattingMember;
+import org.example.but_eo.entity.ChattingMessage;
+import org.example.but_eo.repository.ChattingMemberRepository;
+import org.example.but_eo.repository.ChattingMessageRepository;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방 목록용 요약 (마지막 메시지, 시간, 보낸 사람 닉네임, 멤버별 안읽은 수).
+ * chatroom:{roomId}:summary 해시에 보관하고 메시지 전송 시 갱신, 목록 조회는 파이프라인 한 번으로 처리.
+ * 안읽은 수는 방 순번 - 읽음 커서(ChatReadCursorService)로 계산하므로 메시지 전송 시 멤버별로 갱신할 것이 없다.
+ * 해시가 없는 방(Redis 초기화 등)은 MySQL 마지막 메시지로 한 번에 다시 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomSummaryService {
+
+    private static final String LAST_MESSAGE = "lastMessage";
+    private static final String LAST_MESSAGE_TIME = "lastMessageTime"; // 메시지가 없는 방은 "" 로 표시
+    private static final String LAST_SENDER = "lastSender";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChattingMemberRepository chattingMemberRepository;
+    private final ChattingMessageRepository chattingMessageRepository;
+    private final ChatReadCursorService chatReadCursorService;
+
+    // 메시지 전송 시 요약 갱신 (안읽은 수는 메시지 순번으로 계산)
+    public void onMessage(ChatMessage message) {
+        Map<String, String> summary = new HashMap<>();
+        summary.put(LAST_MESSAGE, previewOf(message));
+        summary.put(LAST_MESSAGE_TIME, message.getCreatedAt());
+        summary.put(LAST_SENDER, message.getNickName());
+        stringRedisTemplate.opsForHash().putAll(summaryKey(message.getChat_id()), summary);
+    }
+
+    // 첨부 파일만 보낸 메시지는 목록에 "사진" / "파일" 로 표시
+    private String previewOf(ChatMessage message) {
+        if ((message.getMessage() == null || message.getMessage().isBlank())
+                && message.getAttachments() != null && !message.getAttachments().isEmpty()) {
+            String contentType = message.getAttachments().get(0).getContentType();
+            return contentType != null && contentType.startsWith("image/") ? "사진" : "파일";
+        }
+        return message.getMessage();
+    }
+
+    public void markRead(String roomId, String userId) {
+        chatReadCursorService.markAllRead(roomId, userId);
+    }
+
+    public boolean isMember(String roomId, String userId) {
+        return getMemberIds(roomId).contains(userId);
+    }
+
+    public void addMembers(String roomId, Collection<String> userIds) {
+        if (userIds.isEmpty()) return;
+        stringRedisTemplate.opsForSet().add(membersKey(roomId), userIds.toArray(new String[0]));
+        chatReadCursorService.initMembers(roomId, userIds);
+    }
+
+    public void removeMember(String roomId, String userId) {
+        stringRedisTemplate.opsForSet().remove(membersKey(roomId), userId);
+        chatReadCursorService.removeMember(roomId, userId);
+    }
+
+    /**
+     * 방 목록 요약 조회: Redis 파이프라인 1회 + (요약이 없는 방만) MySQL 1회.
+     * storedCursors 는 호출하는 쪽이 이미 읽은 ChattingMember.lastReadSeq (Redis 커서가 없을 때만 사용)
+     */
+    public Map<String, RoomSummary> getSummaries(List<String> roomIds, String userId, Map<String, Long> storedCursors) {
+        Map<String, RoomSummary> result = new HashMap<>();
+        if (roomIds.isEmpty()) return result;
+
+        List<Object> rows = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String roomId : roomIds) {
+                conn.hMGet(summaryKey(roomId), LAST_MESSAGE, LAST_MESSAGE_TIME, LAST_SENDER);
+                conn.get(RedisChatService.seqKey(roomId));
+                conn.hGet(ChatReadCursorService.readKey(roomId), userId);
+            }
+            return null;
+        });
+
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            String roomId = roomIds.get(i);
+            @SuppressWarnings("unchecked")
+            List<String> values = (List<String>) rows.get(i * 3);
+            if (values == null || values.get(1) == null) {
+                missing.add(roomId);
+                continue;
+            }
+            long roomSeq = parseSeq(rows.get(i * 3 + 1));
+            Object cursor = rows.get(i * 3 + 2);
+            long readSeq = cursor != null ? parseSeq(cursor) : storedCursor(roomId, userId, roomSeq, storedCursors);
+            result.put(roomId, new RoomSummary(
+                    values.get(0),
+                    values.get(1).isEmpty() ? null : values.get(1),
+                    values.get(2),
+                    unread(roomSeq, readSeq)
+            ));
+        }
+
+        if (!missing.isEmpty()) {
+            result.putAll(rebuild(missing, storedCursors));
+        }
+        return result;
+    }
+
+    // Redis 커서가 없으면 DB 에 저장된 커서로 복구, 그것도 없으면(도입 이전 멤버) 지금까지 읽은 것으로 시작
+    private long storedCursor(String roomId, String userId, long roomSeq, Map<String, Long> storedCursors) {
+        Long stored = storedCursors.get(roomId);
+        long readSeq = stored != null ? Math.min(stored, roomSeq) : roomSeq;
+        stringRedisTemplate.opsForHash().putIfAbsent(ChatReadCursorService.readKey(roomId), userId, String.valueOf(readSeq));
+        return readSeq;
+    }
+
+    private static long parseSeq(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    private static int unread(long roomSeq, long readSeq) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, roomSeq - readSeq));
+    }
+
+    // 콜드 스타트: MySQL 에서 방별 마지막 메시지를 한 번에 읽어 요약 해시(+ 방 순번)를 다시 채움
+    private Map<String, RoomSummary> rebuild(List<String> roomIds, Map<String, Long> storedCursors) {
+        Map<String, ChattingMessage> lastMessages = new HashMap<>();
+        for (ChattingMessage m : chattingMessageRepository.findLastMessagesByChatIds(roomIds)) {
+            lastMessages.putIfAbsent(m.getChattingMember().getChattingMemberKey().getChatId(), m);
+        }
+
+        Map<String, RoomSummary> result = new HashMap<>();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String roomId : roomIds) {
+                ChattingMessage last = lastMessages.get(roomId);
+                Map<String, String> summary = new HashMap<>();
+                if (last == null) {
+                    summary.put(LAST_MESSAGE_TIME, "");
+                    result.put(roomId, new RoomSummary(null, null, null, 0));
+                } else {
+                    summary.put(LAST_MESSAGE, last.getMessage());
+                    summary.put(LAST_MESSAGE_TIME, last.getCreatedAt().toString());
+                    summary.put(LAST_SENDER, last.getChattingMember().getUser().getName());
+                    long roomSeq = last.getSeq() != null ? last.getSeq() : 0;
+                    if (last.getSeq() != null) {
+                        conn.setNX(RedisChatService.seqKey(roomId), String.valueOf(roomSeq));
+                    }
+                    Long stored = storedCursors.get(roomId);
+                    result.put(roomId, new RoomSummary(
+                            last.getMessage(),
+                            last.getCreatedAt().toString(),
+                            last.getChattingMember().getUser().getName(),
+                            stored != null ? unread(roomSeq, stored) : 0
+                    ));
+                }
+                conn.hMSet(summaryKey(roomId), summary);
+            }
+            return null;
+        });
+        return result;
+    }
+
+    private Set<String> getMemberIds(String roomId) {
+        Set<String> memberIds = stringRedisTemplate.opsForSet().members(membersKey(roomId));
+        if (memberIds != null && !memberIds.isEmpty()) {
+            return memberIds;
+        }
+
+        List<String> loaded = chattingMemberRepository.findByChatMemberList(roomId).stream()
+                .map(ChattingMember::getChattingMemberKey)
+                .map(key -> key.getUserHashId())
+                .toList();
+        addMembers(roomId, loaded);
+        return Set.copyOf(loaded);
+    }
+
+    private String summaryKey(String roomId) {
+        return "chatroom:" + roomId + ":summary";
+    }
+
+    private String membersKey(String roomId) {
+        return "chatroom:" + roomId + ":members";
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RoomSummary {
+        private final String lastMessage;
+        private final String lastMessageTime;
+        private final String lastSender;
+        private final int unreadCount;
+    }
+}
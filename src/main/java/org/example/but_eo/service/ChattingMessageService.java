@@ -1,18 +1,66 @@
 package org.example.but_eo.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.dto.ChatAttachment;
 import org.example.but_eo.dto.ChatMessage;
+import org.example.but_eo.entity.ChattingMember;
+import org.example.but_eo.entity.ChattingMemberKey;
 import org.example.but_eo.entity.ChattingMessage;
+import org.example.but_eo.entity.ChattingMessageMappingKey;
+import org.example.but_eo.repository.ChattingMessageJdbcRepository;
 import org.example.but_eo.repository.ChattingMessageRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChattingMessageService {
 
     private final ChattingMessageRepository chattingMessageRepository;
+    private final ChattingMessageJdbcRepository chattingMessageJdbcRepository;
 
+    // Redis에 쌓인 메시지와 첨부 매핑을 배치 INSERT로 저장 (messageId 기준 중복 저장 없음)
+    // DB 가 거부한 메시지(방을 나간 멤버 등)를 반환, 호출하는 쪽에서 기록
+    @Transactional
+    public List<ChatMessage> saveAll(List<ChatMessage> messages) {
+        if (messages.isEmpty()) return List.of();
+        Set<String> rejectedIds = new HashSet<>();
+        for (ChattingMessage rejected : chattingMessageJdbcRepository.batchInsert(messages.stream().map(this::toEntity).toList())) {
+            rejectedIds.add(rejected.getMessageId());
+        }
+
+        List<ChattingMessageMappingKey> mappings = new ArrayList<>();
+        for (ChatMessage message : messages) {
+            if (message.getAttachments() == null || rejectedIds.contains(message.getMessageId())) continue;
+            for (ChatAttachment attachment : message.getAttachments()) {
+                mappings.add(new ChattingMessageMappingKey(message.getMessageId(), attachment.getFileId()));
+            }
+        }
+        for (ChattingMessageMappingKey mapping : chattingMessageJdbcRepository.batchInsertMappings(mappings)) {
+            log.warn("채팅 첨부 매핑 저장 거부. messageId={}, fileId={}", mapping.getMessageId(), mapping.getFileId());
+        }
+
+        return messages.stream().filter(m -> rejectedIds.contains(m.getMessageId())).toList();
+    }
+
+    private ChattingMessage toEntity(ChatMessage message) {
+        ChattingMember member = new ChattingMember();
+        member.setChattingMemberKey(new ChattingMemberKey(message.getSender(), message.getChat_id()));
+
+        ChattingMessage entity = new ChattingMessage();
+        entity.setMessageId(message.getMessageId());
+        entity.setChattingMember(member);
+        entity.setMessage(message.getMessage());
+        entity.setCreatedAt(message.getCreatedAt() != null ? LocalDateTime.parse(message.getCreatedAt()) : LocalDateTime.now());
+        entity.setSeq(message.getSeq());
+        return entity;
+    }
 }
@@ -2,6 +2,7 @@ package org.example.but_eo.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.ImageVariantWorker;
 import org.example.but_eo.dto.ChatMember;
 import org.example.but_eo.dto.ChattingDTO;
 import org.example.but_eo.entity.*;
@@ -24,6 +25,8 @@ public class ChattingService {
     private final ChattingMemberRepository chattingMemberRepository;
     private final ChattingMessageRepository chattingMessageRepository;
     private final RedisChatService redisChatService;
+    private final ChatRoomSummaryService chatRoomSummaryService;
+    private final ImageVariantWorker imageVariantWorker;
 
     //채팅방 생성
     public Chatting createChatRoom(List<String> userIds, String chatRoomName) {
@@ -43,6 +46,7 @@ public class ChattingService {
             chattingMember.setChattingMemberKey(new ChattingMemberKey(user.getUserHashId(), chatRoom.getChatId()));
             chattingMemberRepository.save(chattingMember);
         }
+        chatRoomSummaryService.addMembers(chatRoom.getChatId(), userIds);
 
         System.out.println("채팅방 생성됨: [ + 채팅방 아이디 : " +  chatRoom.getChatId() + ", 채팅방 이름 : " + chatRoomName + "], 유저 IDs: " + userIds);
 
@@ -50,29 +54,30 @@ public class ChattingService {
     }
 
     public List<ChattingDTO> searchChatRooms(String userId) {
-        List<ChattingMember> rooms = chattingMemberRepository.findByUserHashId(userId);
-        System.out.println(rooms);
-        List<ChattingDTO> ChattingDtoList = new ArrayList<>();
+        List<ChattingMember> rooms = chattingMemberRepository.findWithChattingByUserHashId(userId);
+        List<String> roomIds = rooms.stream()
+                .map(room -> room.getChatting().getChatId())
+                .toList();
+        Map<String, Long> storedCursors = new HashMap<>();
+        for (ChattingMember room : rooms) {
+            if (room.getLastReadSeq() != null) {
+                storedCursors.put(room.getChatting().getChatId(), room.getLastReadSeq());
+            }
+        }
+        Map<String, ChatRoomSummaryService.RoomSummary> summaries = chatRoomSummaryService.getSummaries(roomIds, userId, storedCursors);
 
+        List<ChattingDTO> ChattingDtoList = new ArrayList<>();
         for (ChattingMember room : rooms) {
             ChattingDTO chattingDTO = new ChattingDTO();
             chattingDTO.setRoomId(room.getChatting().getChatId());
             chattingDTO.setRoomName(room.getChatting().getTitle());
 
-            List<String> message = redisChatService.getLastMessages(room.getChatting().getChatId());
-            if (message != null) {
-                chattingDTO.setLastMessage(message.get(0));
-                chattingDTO.setLastMessageTime(LastMessageTimeFormat(LocalDateTime.parse(message.get(1))));
-            } else {
-                Optional<ChattingMessage> lastMsgOpt = chattingMessageRepository.findLastMessageByChatIdNative(room.getChatting().getChatId());
-                if (lastMsgOpt.isEmpty()) {
-                    chattingDTO.setLastMessage(null);
-                    chattingDTO.setLastMessageTime(null);
-                } else {
-                    ChattingMessage lastMsg = lastMsgOpt.get();
-                    chattingDTO.setLastMessage(lastMsg.getMessage());
-                    chattingDTO.setLastMessageTime(LastMessageTimeFormat(lastMsg.getCreatedAt()));
-                }
+            ChatRoomSummaryService.RoomSummary summary = summaries.get(room.getChatting().getChatId());
+            if (summary != null && summary.getLastMessageTime() != null) {
+                chattingDTO.setLastMessage(summary.getLastMessage());
+                chattingDTO.setLastMessageTime(LastMessageTimeFormat(LocalDateTime.parse(summary.getLastMessageTime())));
+                chattingDTO.setLastSenderNickName(summary.getLastSender());
+                chattingDTO.setUnreadCount(summary.getUnreadCount());
             }
 
             ChattingDtoList.add(chattingDTO);
@@ -95,7 +100,9 @@ public class ChattingService {
                         chatting.getChatId(),
                         chatting.getTitle(),
                         null,
-                        null
+                        null,
+                        null,
+                        0
                 ))
                 .collect(Collectors.toSet()); // Set으로 수집하여 중복 제거
 
@@ -128,6 +135,7 @@ public class ChattingService {
 
     public void exitChatRoom(String userId, String chatRoomId) {
         chattingMemberRepository.deleteChattingMember(userId, chatRoomId);
+        chatRoomSummaryService.removeMember(chatRoomId, userId);
         log.warn("쿼리문 : DELETE FROM chatting_member WHERE user_hash_id = '" + userId + "' AND chat_id = '" + chatRoomId + "'");
     }
 
@@ -138,6 +146,7 @@ public class ChattingService {
             ChatMember member = new ChatMember();
             member.setNickName(memberData.getUser().getName());
             member.setProfile(memberData.getUser().getProfile());
+            member.setProfileThumbnail(imageVariantWorker.urlOf(memberData.getUser().getProfile(), ImageVariantWorker.Variant.THUMB));
             memberList.add(member);
         }
         return memberList;
@@ -23,6 +23,7 @@ public class CommentService {
     private final BoardRepository boardRepository;
     private final UsersRepository usersRepository;
     private final CommentRepository commentRepository;
+    private final BoardCounterService boardCounterService;
 
     public void createComment(String boardId, String userId, CommentRequest request) {
         Board board = boardRepository.findById(boardId)
@@ -41,8 +42,7 @@ public class CommentService {
 
         commentRepository.save(comment);
 
-        board.setCommentCount(board.getCommentCount() + 1);
-        boardRepository.save(board);
+        boardCounterService.addComment(boardId, 1);
     }
 
     public List<CommentResponse> getComments(String boardId) {
@@ -86,13 +86,14 @@ public class CommentService {
             throw new RuntimeException("작성자만 삭제할 수 있습니다.");
         }
 
+        if (comment.getState() == Comment.State.DELETE) {
+            return; // 이미 삭제된 댓글은 카운트를 다시 줄이지 않음
+        }
+
         comment.setState(Comment.State.DELETE);
         commentRepository.save(comment);
 
-        // 댓글 카운트 감소도 선택적 반영
-        Board board = comment.getBoard();
-        board.setCommentCount(Math.max(board.getCommentCount() - 1, 0));
-        boardRepository.save(board);
+        boardCounterService.addComment(comment.getBoard().getBoardId(), -1);
     }
 
     //댓글 완전 삭제
@@ -107,9 +108,10 @@ public class CommentService {
 
         commentRepository.delete(comment); // 완전 삭제
 
-        Board board = comment.getBoard();
-        board.setCommentCount(Math.max(board.getCommentCount() - 1, 0));
-        boardRepository.save(board);
+        // 소프트 삭제된 댓글은 이미 카운트에서 빠져 있음
+        if (comment.getState() != Comment.State.DELETE) {
+            boardCounterService.addComment(comment.getBoard().getBoardId(), -1);
+        }
     }
 
 
@@ -0,0 +1,202 @@
+package org.example.but_eo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.entity.Stadium;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위치 기반 검색용 Redis GEO 인덱스.
+ * geo:matchings:{matchType} - 도전 신청을 받는 WAITING 매치 (member = matchId, 경기장 좌표, 없으면 팀 좌표)
+ * geo:stadiums             - 좌표가 등록된 경기장 (member = stadiumId)
+ * 원본은 MySQL 이고, 조회 시 DB 상태로 한 번 더 거른다. 기동 시 GeoIndexInitializer 가 다시 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoIndexService {
+
+    private static final String MATCHING_KEY_PREFIX = "geo:matchings:";
+    private static final String STADIUM_KEY = "geo:stadiums";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public record GeoHit(String id, double distanceKm) {
+    }
+
+    private static String matchingKey(Matching.Match_Type matchType) {
+        return MATCHING_KEY_PREFIX + matchType.name();
+    }
+
+    // 좌표는 둘 다 있거나 둘 다 없어야 함
+    public static void validateCoordinates(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다.");
+        }
+        if (latitude < -85.05112878 || latitude > 85.05112878 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다.");
+        }
+    }
+
+    // 매치 좌표: 예약한 경기장 -> 주최 팀 순
+    public static Point positionOf(Matching matching) {
+        Stadium stadium = matching.getStadium();
+        if (hasStadiumPosition(matching)) {
+            return new Point(stadium.getLongitude(), stadium.getLatitude());
+        }
+        if (matching.getTeam() != null && matching.getTeam().getLatitude() != null && matching.getTeam().getLongitude() != null) {
+            return new Point(matching.getTeam().getLongitude(), matching.getTeam().getLatitude());
+        }
+        return null;
+    }
+
+    // false 면 팀 좌표를 쓰므로 팀 위치가 바뀔 때 다시 넣어야 함
+    public static boolean hasStadiumPosition(Matching matching) {
+        Stadium stadium = matching.getStadium();
+        return stadium != null && stadium.getLatitude() != null && stadium.getLongitude() != null;
+    }
+
+    public void addMatchingAfterCommit(Matching matching) {
+        Point point = positionOf(matching);
+        if (point == null) {
+            return; // 좌표가 없으면 주변 검색 대상이 아님
+        }
+        String key = matchingKey(matching.getMatchType());
+        String matchId = matching.getMatchId();
+        afterCommit(() -> stringRedisTemplate.opsForGeo().add(key, point, matchId), "matchId=" + matchId);
+    }
+
+    public void removeMatchingAfterCommit(Matching matching) {
+        String key = matchingKey(matching.getMatchType());
+        String matchId = matching.getMatchId();
+        afterCommit(() -> stringRedisTemplate.opsForGeo().remove(key, matchId), "matchId=" + matchId);
+    }
+
+    public void putStadiumAfterCommit(Stadium stadium) {
+        String stadiumId = stadium.getStadiumId();
+        if (stadium.getLatitude() == null || stadium.getLongitude() == null) {
+            removeStadiumAfterCommit(stadiumId);
+            return;
+        }
+        Point point = new Point(stadium.getLongitude(), stadium.getLatitude());
+        afterCommit(() -> stringRedisTemplate.opsForGeo().add(STADIUM_KEY, point, stadiumId), "stadiumId=" + stadiumId);
+    }
+
+    public void removeStadiumAfterCommit(String stadiumId) {
+        afterCommit(() -> stringRedisTemplate.opsForGeo().remove(STADIUM_KEY, stadiumId), "stadiumId=" + stadiumId);
+    }
+
+    // 조회 시 DB에 없거나 더 이상 열려 있지 않은 매치를 정리
+    public void removeMatchings(Matching.Match_Type matchType, List<String> matchIds) {
+        if (!matchIds.isEmpty()) {
+            stringRedisTemplate.opsForGeo().remove(matchingKey(matchType), matchIds.toArray(String[]::new));
+        }
+    }
+
+    public void removeStadiums(List<String> stadiumIds) {
+        if (!stadiumIds.isEmpty()) {
+            stringRedisTemplate.opsForGeo().remove(STADIUM_KEY, stadiumIds.toArray(String[]::new));
+        }
+    }
+
+    // 종목이 null 이면 전 종목 키를 조회해 거리순으로 합침
+    public List<GeoHit> searchMatchings(Matching.Match_Type matchType, double lat, double lng, double radiusKm, int limit) {
+        List<Matching.Match_Type> types = matchType != null
+                ? List.of(matchType)
+                : Arrays.asList(Matching.Match_Type.values());
+
+        List<GeoHit> hits = new ArrayList<>();
+        for (Matching.Match_Type type : types) {
+            hits.addAll(search(matchingKey(type), lat, lng, radiusKm, limit));
+        }
+        if (types.size() > 1) {
+            hits.sort(Comparator.comparingDouble(GeoHit::distanceKm));
+            if (hits.size() > limit) {
+                hits = new ArrayList<>(hits.subList(0, limit));
+            }
+        }
+        return hits;
+    }
+
+    public List<GeoHit> searchStadiums(double lat, double lng, double radiusKm, int limit) {
+        return search(STADIUM_KEY, lat, lng, radiusKm, limit);
+    }
+
+    // 기동 시 재구축용 (members: id -> 좌표)
+    public void rebuildMatchings(Matching.Match_Type matchType, Map<String, Point> members) {
+        rebuild(matchingKey(matchType), members);
+    }
+
+    public void rebuildStadiums(Map<String, Point> members) {
+        rebuild(STADIUM_KEY, members);
+    }
+
+    private void rebuild(String key, Map<String, Point> members) {
+        stringRedisTemplate.delete(key);
+        if (!members.isEmpty()) {
+            stringRedisTemplate.opsForGeo().add(key, members);
+        }
+    }
+
+    // GEOSEARCH key FROMLONLAT lng lat BYRADIUS r km ASC COUNT limit WITHDIST
+    private List<GeoHit> search(String key, double lat, double lng, double radiusKm, int limit) {
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = stringRedisTemplate.opsForGeo().search(
+                key,
+                GeoReference.fromCoordinate(lng, lat),
+                new Distance(radiusKm, Metrics.KILOMETERS),
+                RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs()
+                        .includeDistance()
+                        .sortAscending()
+                        .limit(limit));
+
+        List<GeoHit> hits = new ArrayList<>();
+        if (results == null) {
+            return hits;
+        }
+        for (GeoResult<RedisGeoCommands.GeoLocation<String>> result : results) {
+            hits.add(new GeoHit(result.getContent().getName(), result.getDistance().getValue()));
+        }
+        return hits;
+    }
+
+    private void afterCommit(Runnable action, String target) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("위치 인덱스 갱신 실패. {}", target, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
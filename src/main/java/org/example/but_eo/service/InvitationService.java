@@ -15,6 +15,7 @@ public class InvitationService {
 
     private final TeamInvitationRepository teamInvitationRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final TeamRepository teamRepository;
 
     //초대 수락
     @Transactional
@@ -48,6 +49,7 @@ public class InvitationService {
         member.setPosition("멤버");
 
         teamMemberRepository.save(member);
+        teamRepository.addTotalMembers(team.getTeamId(), 1);
 
         invitation.setStatus(TeamInvitation.Status.ACCEPTED);
         teamInvitationRepository.save(invitation);
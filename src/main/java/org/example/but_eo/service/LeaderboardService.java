@@ -0,0 +1,228 @@
+package org.example.but_eo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.ImageVariantWorker;
+import org.example.but_eo.dto.TeamRankResponse;
+import org.example.but_eo.dto.TeamRankingResponse;
+import org.example.but_eo.entity.Team;
+import org.example.but_eo.repository.TeamRepository;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 종목/지역별 팀 랭킹.
+ * leaderboard:{event}:{region} - 종목 + 지역 랭킹 (score = rating)
+ * leaderboard:{event}          - 종목 전체 랭킹
+ * leaderboard:teams            - 팀 ID -> 현재 들어가 있는 지역 랭킹 키 (지역/종목 변경, 삭제 시 이전 키에서 제거용)
+ * 레이팅/지역/상태가 바뀌는 곳에서 syncAfterCommit 으로 갱신하고, 키가 없으면 MySQL 에서 백필한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final String TEAM_PLACEMENT_KEY = "leaderboard:teams";
+    private static final int MAX_LIMIT = 100;
+
+    // ARGV: teamId, 지역 랭킹 키 (빈 문자열이면 제거), 종목 랭킹 키, rating
+    private static final DefaultRedisScript<Long> SYNC_SCRIPT = new DefaultRedisScript<>("""
+            local prev = redis.call('HGET', KEYS[1], ARGV[1])
+            if prev and prev ~= ARGV[2] then
+                redis.call('ZREM', prev, ARGV[1])
+                redis.call('ZREM', string.match(prev, '^leaderboard:[^:]+'), ARGV[1])
+            end
+            if ARGV[2] == '' then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return 0
+            end
+            redis.call('ZADD', ARGV[2], ARGV[4], ARGV[1])
+            redis.call('ZADD', ARGV[3], ARGV[4], ARGV[1])
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TeamRepository teamRepository;
+    private final ImageVariantWorker imageVariantWorker;
+
+    private String eventKey(Team.Event event) {
+        return KEY_PREFIX + event.name();
+    }
+
+    private String regionKey(Team.Event event, String region) {
+        return KEY_PREFIX + event.name() + ":" + region;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 랭킹 반영 (트랜잭션 밖이면 바로 반영)
+    public void syncAfterCommit(Team team) {
+        String teamId = team.getTeamId();
+        boolean active = team.getState() == Team.State.ACTIVE;
+        String regionKey = active ? regionKey(team.getEvent(), team.getRegion()) : "";
+        String eventKey = eventKey(team.getEvent());
+        int rating = team.getRating();
+
+        Runnable sync = () -> {
+            try {
+                stringRedisTemplate.execute(SYNC_SCRIPT, List.of(TEAM_PLACEMENT_KEY),
+                        teamId, regionKey, eventKey, String.valueOf(rating));
+            } catch (Exception e) {
+                log.warn("리더보드 갱신 실패. teamId={}", teamId, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sync.run();
+                }
+            });
+        } else {
+            sync.run();
+        }
+    }
+
+    public List<TeamRankingResponse> getRankings(String event, String region, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("offset, limit 값이 올바르지 않습니다.");
+        }
+        Team.Event teamEvent = Team.Event.from(event);
+        String key = (region == null || region.isBlank()) ? eventKey(teamEvent) : regionKey(teamEvent, region);
+        int size = Math.min(limit, MAX_LIMIT);
+
+        Set<ZSetOperations.TypedTuple<String>> entries =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + size - 1);
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> teamIds = entries.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+        Map<String, Team> teams = teamRepository.findAllById(teamIds).stream()
+                .collect(Collectors.toMap(Team::getTeamId, Function.identity()));
+
+        List<TeamRankingResponse> rankings = new ArrayList<>();
+        long rank = offset;
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            rank++;
+            Team team = teams.get(entry.getValue());
+            if (team == null) {
+                continue; // 랭킹 반영 전 삭제된 팀
+            }
+            rankings.add(TeamRankingResponse.builder()
+                    .rank(rank)
+                    .teamId(team.getTeamId())
+                    .teamName(team.getTeamName())
+                    .teamImg(team.getTeamImg())
+                    .teamImgThumbnail(imageVariantWorker.urlOf(team.getTeamImg(), ImageVariantWorker.Variant.THUMB))
+                    .event(team.getEvent())
+                    .region(team.getRegion())
+                    .rating(entry.getScore() == null ? team.getRating() : entry.getScore().intValue())
+                    .matchCount(team.getMatchCount())
+                    .winCount(team.getWinCount())
+                    .loseCount(team.getLoseCount())
+                    .drawCount(team.getDrawCount())
+                    .build());
+        }
+        return rankings;
+    }
+
+    public TeamRankResponse getTeamRank(String teamId) {
+        Team team = teamRepository.findById(teamId)
+                .filter(t -> t.getState() == Team.State.ACTIVE)
+                .orElseThrow(() -> new IllegalArgumentException("팀이 존재하지 않습니다."));
+
+        String regionKey = regionKey(team.getEvent(), team.getRegion());
+        String eventKey = eventKey(team.getEvent());
+
+        // ZREVRANK x2 + ZCARD x2 를 한 번에
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.zRevRank(regionKey, teamId);
+            conn.zCard(regionKey);
+            conn.zRevRank(eventKey, teamId);
+            conn.zCard(eventKey);
+            return null;
+        });
+
+        return TeamRankResponse.builder()
+                .teamId(teamId)
+                .event(team.getEvent())
+                .region(team.getRegion())
+                .rating(team.getRating())
+                .regionRank(toRank(results.get(0)))
+                .regionTotal(toLong(results.get(1)))
+                .eventRank(toRank(results.get(2)))
+                .eventTotal(toLong(results.get(3)))
+                .build();
+    }
+
+    private Long toRank(Object zeroBasedRank) {
+        return zeroBasedRank == null ? null : ((Number) zeroBasedRank).longValue() + 1;
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    // 레이팅 일괄 재계산 후 전체 다시 채움
+    public void rebuild() {
+        Set<String> keys = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        backfillIfMissing();
+    }
+
+    // 랭킹 데이터가 없으면 (최초 기동, Redis 초기화) MySQL 에서 ACTIVE 팀 전체를 채움
+    public void backfillIfMissing() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(TEAM_PLACEMENT_KEY))) {
+            return;
+        }
+
+        long count = 0;
+        String lastTeamId = "";
+        while (true) {
+            List<Team> teams = teamRepository.findTop500ByStateAndTeamIdGreaterThanOrderByTeamIdAsc(Team.State.ACTIVE, lastTeamId);
+            if (teams.isEmpty()) {
+                break;
+            }
+
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Team team : teams) {
+                    String regionKey = regionKey(team.getEvent(), team.getRegion());
+                    conn.zAdd(regionKey, team.getRating(), team.getTeamId());
+                    conn.zAdd(eventKey(team.getEvent()), team.getRating(), team.getTeamId());
+                    conn.hSet(TEAM_PLACEMENT_KEY, team.getTeamId(), regionKey);
+                }
+                return null;
+            });
+
+            count += teams.size();
+            lastTeamId = teams.get(teams.size() - 1).getTeamId();
+        }
+        log.info("리더보드 백필 완료: {}팀", count);
+    }
+}
@@ -2,6 +2,7 @@
 
     import lombok.RequiredArgsConstructor;
     import org.example.but_eo.component.MatchQueue;
+    import org.example.but_eo.component.MatchingListAssembler;
     import org.example.but_eo.dto.*;
     import org.example.but_eo.entity.*;
     import org.example.but_eo.repository.*;
@@ -16,10 +17,14 @@
     import java.time.LocalDate;
     import java.time.LocalDateTime;
     import java.time.LocalTime;
+    import java.util.ArrayList;
+    import java.util.HashSet;
     import java.util.List;
+    import java.util.Map;
     import java.util.Optional;
     import java.util.Set;
     import java.util.UUID;
+    import java.util.stream.Collectors;
 
     @Service
     @RequiredArgsConstructor
@@ -32,6 +37,15 @@
         private final TeamMemberRepository teamMemberRepository;
         private final ChallengerListRepository challengerListRepository;
         private final MatchQueue matchQueue;
+        private final MatchingListAssembler matchingListAssembler;
+        private final LeaderboardService leaderboardService;
+        private final RatingService ratingService;
+        private final StadiumAvailabilityService stadiumAvailabilityService;
+        private final GeoIndexService geoIndexService;
+
+        private static final double MAX_NEARBY_RADIUS_KM = 50;
+        private static final int MAX_NEARBY_LIMIT = 100;
+        private static final int MAX_NEARBY_ROUNDS = 3;    // 조회 수를 두 배씩 늘려 최대 limit x 4 까지
         private final SimpMessagingTemplate simpMessagingTemplate;
 
         @Transactional
@@ -94,9 +108,17 @@
             }
 
             matchingRepository.save(matching);
+
+            // 경기장 슬롯 예약 (실패하면 매치 생성도 함께 롤백)
+            if (request.getStadiumId() != null && !request.getStadiumId().isBlank()) {
+                stadiumAvailabilityService.reserve(matching, request.getStadiumId(), matchDate);
+            }
+
+            geoIndexService.addMatchingAfterCommit(matching);
         }
 
 
+        @Transactional(readOnly = true)
         public Page<MatchingListResponse> getMatchings(Matching.Match_Type matchType, String region, int page, int size) {
             Pageable pageable = PageRequest.of(page, size, Sort.by("matchDate").descending());
 
@@ -115,45 +137,77 @@
                 matchingPage = matchingRepository.findByState(Matching.State.WAITING, pageable);
             }
 
-            return matchingPage.map(m -> {
-                // 1. 수락된 팀 (상대팀)
-                ChallengerTeamResponse challengerTeam = null;
-                if (m.getChallengerTeam() != null) {
-                    Team challenger = m.getChallengerTeam();
-                    challengerTeam = new ChallengerTeamResponse(
-                            challenger.getTeamId(),
-                            challenger.getTeamName(),
-                            challenger.getRegion(),
-                            challenger.getRating()
-                    );
+            return matchingListAssembler.toResponses(matchingPage);
+        }
+
+
+        // 주변 WAITING 매치 (가까운 순). 인덱스에 남은 닫힌/삭제된 매치는 거르고 정리
+        @Transactional(readOnly = true)
+        public List<NearbyMatchingResponse> getNearbyMatchings(double lat, double lng, double radiusKm,
+                                                               Matching.Match_Type matchType, int limit) {
+            GeoIndexService.validateCoordinates(lat, lng);
+            if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+                throw new IllegalArgumentException("검색 반경은 0보다 크고 " + (int) MAX_NEARBY_RADIUS_KM + "km 이하여야 합니다.");
+            }
+            int size = Math.min(Math.max(limit, 1), MAX_NEARBY_LIMIT);
+
+            List<Matching> open = new ArrayList<>();
+            List<Double> distances = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            // COUNT 는 닫힌 매치를 거르기 전에 적용되므로 모자라면 범위를 늘려 다시 조회 (이미 본 매치는 건너뜀)
+            int count = size;
+            for (int round = 0; round < MAX_NEARBY_ROUNDS; round++) {
+                List<GeoIndexService.GeoHit> hits = geoIndexService.searchMatchings(matchType, lat, lng, radiusKm, count);
+                List<GeoIndexService.GeoHit> unseen = hits.stream().filter(hit -> seen.add(hit.id())).toList();
+                collectOpenMatchings(unseen, matchType, open, distances);
+                if (open.size() >= size || hits.size() < count) {
+                    break; // 충분히 찾았거나 반경 안의 매치를 모두 봄
                 }
-                // 2. 신청 들어온 팀 전체
-                List<ChallengerList> challengers = challengerListRepository.findByMatching_MatchId(m.getMatchId());
-                List<ChallengerTeamResponse> challengerTeams = challengers.stream()
-                        .map(c -> new ChallengerTeamResponse(
-                                c.getTeam().getTeamId(),
-                                c.getTeam().getTeamName(),
-                                c.getTeam().getRegion(),
-                                c.getTeam().getRating()
-                        )).toList();
-
-                return new MatchingListResponse(
-                        m.getMatchId(),
-                        m.getMatchRegion() != null ? m.getMatchRegion() : "미정",
-                        m.getTeam().getTeamName(),
-                        m.getTeam().getTeamImg(),
-                        m.getTeam().getRegion(),
-                        m.getTeam().getRating(),
-                        m.getStadium() != null ? m.getStadium().getStadiumName() : "미정",
-                        m.getMatchDate(),
-                        m.getMatchType().getDisplayName(),
-                        m.getLoan(),
-                        challengerTeam,
-                        challengerTeams
-                );
-            });
+                count *= 2;
+            }
+            if (open.isEmpty()) {
+                return List.of();
+            }
+            if (open.size() > size) {
+                open = open.subList(0, size);
+            }
+
+            List<MatchingListResponse> responses = matchingListAssembler.toResponses(open);
+            List<NearbyMatchingResponse> result = new ArrayList<>();
+            for (int i = 0; i < responses.size(); i++) {
+                result.add(new NearbyMatchingResponse(responses.get(i), distances.get(i)));
+            }
+            return result;
         }
 
+        // 거리순 hits 중 열려 있는 매치만 담고, 인덱스에 남은 닫힌/삭제된 매치는 정리
+        private void collectOpenMatchings(List<GeoIndexService.GeoHit> hits, Matching.Match_Type matchType,
+                                          List<Matching> open, List<Double> distances) {
+            if (hits.isEmpty()) {
+                return;
+            }
+            Map<String, Matching> matchings = matchingRepository.findAllByMatchIdIn(
+                            hits.stream().map(GeoIndexService.GeoHit::id).toList()).stream()
+                    .collect(Collectors.toMap(Matching::getMatchId, m -> m));
+
+            List<String> missing = new ArrayList<>();
+            for (GeoIndexService.GeoHit hit : hits) {
+                Matching matching = matchings.get(hit.id());
+                if (matching == null) {
+                    missing.add(hit.id());
+                } else if (matching.getState() != Matching.State.WAITING || matching.getChallengerTeam() != null) {
+                    geoIndexService.removeMatchings(matching.getMatchType(), List.of(hit.id()));
+                } else {
+                    open.add(matching);
+                    distances.add(hit.distanceKm());
+                }
+            }
+            if (!missing.isEmpty()) {
+                for (Matching.Match_Type type : matchType != null ? List.of(matchType) : List.of(Matching.Match_Type.values())) {
+                    geoIndexService.removeMatchings(type, missing);
+                }
+            }
+        }
 
         public MatchingDetailResponse getMatchDetail(String matchId) {
             Matching matching = matchingRepository.findById(matchId)
@@ -305,6 +359,7 @@
             matching.setChallengerTeam(challenger);
             matching.setState(Matching.State.SUCCESS);
             matchingRepository.save(matching);
+            geoIndexService.removeMatchingAfterCommit(matching);
 
             // 나머지 도전 신청들 제거
             challengerListRepository.deleteAllByMatching_MatchId(matchId);
@@ -351,6 +406,8 @@
 
             matching.setState(Matching.State.CANCEL);
             matchingRepository.save(matching);
+            stadiumAvailabilityService.release(matchId);
+            geoIndexService.removeMatchingAfterCommit(matching);
         }
 
         //매치 결과 등록
@@ -402,34 +459,37 @@
             matching.setLoserTeam(loserTeam);
             matching.setState(Matching.State.COMPLETE);
 
-            // 레이팅 반영
-            if (winnerScore > loserScore) {
-                // 승자 처리
-                winnerTeam.setRating(winnerTeam.getRating() + 30);
-                winnerTeam.setMatchCount(winnerTeam.getMatchCount() + 1);
-                winnerTeam.setWinCount(winnerTeam.getWinCount() + 1);
-
-                // 패자 처리
-                loserTeam.setMatchCount(loserTeam.getMatchCount() + 1);
-                loserTeam.setLoseCount(loserTeam.getLoseCount() + 1);
-            } else if (winnerScore == loserScore) {
-                int bonus = (winnerScore == 0) ? 10 : 20;         //무승부면 2점 0:0이면 1점
-                team1.setRating(team1.getRating() + bonus);
-                team2.setRating(team2.getRating() + bonus);
-
-                //매치 카운트 증가
-                team1.setMatchCount(team1.getMatchCount() + 1);
-                team2.setMatchCount(team2.getMatchCount() + 1);
+            // 레이팅 반영 (RatingEngine: 기대 승률 대비 결과만큼 주고받음)
+            ratingService.applyMatchResult(team1, team2, winnerScore, loserScore);
 
-                //무승부 카운트 증가
+            // 전적 반영
+            team1.setMatchCount(team1.getMatchCount() + 1);
+            team2.setMatchCount(team2.getMatchCount() + 1);
+            if (winnerScore == loserScore) {
                 team1.setDrawCount(team1.getDrawCount() + 1);
                 team2.setDrawCount(team2.getDrawCount() + 1);
+            } else {
+                winnerTeam.setWinCount(winnerTeam.getWinCount() + 1);
+                loserTeam.setLoseCount(loserTeam.getLoseCount() + 1);
             }
 
             matchingRepository.save(matching);
+
+            leaderboardService.syncAfterCommit(team1);
+            leaderboardService.syncAfterCommit(team2);
+        }
+
+        // 팀 ID로 매치 리스트 조회 (주최 + 도전자, 최신순 페이지)
+        @Transactional(readOnly = true)
+        public Page<MatchingListResponse> getMatchingsByTeamId(String teamId, int page, int size) {
+            Pageable pageable = PageRequest.of(page, size, Sort.by("matchDate").descending());
+            Page<Matching> matchingPage = matchingRepository.findPageByParticipant(teamId, pageable);
+
+            return matchingListAssembler.toResponses(matchingPage);
         }
 
         // 팀 ID로 매치 리스트 조회 (페이징X 버전)
+        @Transactional(readOnly = true)
         public List<MatchingListResponse> getMatchingsByTeamId(String teamId) {
             // 1. 호스트 매치
             List<Matching> hostMatches = matchingRepository.findByTeam_TeamId(teamId);
@@ -447,42 +507,8 @@
                     .sorted(java.util.Comparator.comparing(Matching::getMatchDate).reversed())
                     .toList();
 
-            // 5. DTO 매핑(기존 방식)
-            return sorted.stream().map(m -> {
-                ChallengerTeamResponse challengerTeam = null;
-                if (m.getChallengerTeam() != null) {
-                    Team challenger = m.getChallengerTeam();
-                    challengerTeam = new ChallengerTeamResponse(
-                            challenger.getTeamId(),
-                            challenger.getTeamName(),
-                            challenger.getRegion(),
-                            challenger.getRating()
-                    );
-                }
-                List<ChallengerList> challengers = challengerListRepository.findByMatching_MatchId(m.getMatchId());
-                List<ChallengerTeamResponse> challengerTeams = challengers.stream()
-                        .map(c -> new ChallengerTeamResponse(
-                                c.getTeam().getTeamId(),
-                                c.getTeam().getTeamName(),
-                                c.getTeam().getRegion(),
-                                c.getTeam().getRating()
-                        )).toList();
-
-                return new MatchingListResponse(
-                        m.getMatchId(),
-                        m.getMatchRegion() != null ? m.getMatchRegion() : "미정",
-                        m.getTeam().getTeamName(),
-                        m.getTeam().getTeamImg(),
-                        m.getTeam().getRegion(),
-                        m.getTeam().getRating(),
-                        m.getStadium() != null ? m.getStadium().getStadiumName() : "미정",
-                        m.getMatchDate(),
-                        m.getMatchType().getDisplayName(),
-                        m.getLoan(),
-                        challengerTeam,
-                        challengerTeams
-                );
-            }).toList();
+            // 5. DTO 매핑
+            return matchingListAssembler.toResponses(sorted);
         }
 
 
@@ -517,6 +543,7 @@
             matching.setChallengerTeam(challenger);
             matching.setState(Matching.State.SUCCESS);
             matchingRepository.save(matching);
+            geoIndexService.removeMatchingAfterCommit(matching);
             // 나머지 도전 신청 삭제
             challengerListRepository.deleteAllByMatching_MatchId(matchId);
         }
@@ -546,91 +573,25 @@
         }
 
         // Success 조회
+        @Transactional(readOnly = true)
         public Page<MatchingListResponse> getSuccessMatchings(int page, int size) {
             Pageable pageable = PageRequest.of(page, size, Sort.by("matchDate").descending());
             Page<Matching> matchingPage = matchingRepository.findByState(Matching.State.SUCCESS, pageable);
 
-            return matchingPage.map(m -> {
-                ChallengerTeamResponse challengerTeam = null;
-                if (m.getChallengerTeam() != null) {
-                    Team challenger = m.getChallengerTeam();
-                    challengerTeam = new ChallengerTeamResponse(
-                            challenger.getTeamId(),
-                            challenger.getTeamName(),
-                            challenger.getRegion(),
-                            challenger.getRating()
-                    );
-                }
-
-                List<ChallengerList> challengers = challengerListRepository.findByMatching_MatchId(m.getMatchId());
-                List<ChallengerTeamResponse> challengerTeams = challengers.stream()
-                        .map(c -> new ChallengerTeamResponse(
-                                c.getTeam().getTeamId(),
-                                c.getTeam().getTeamName(),
-                                c.getTeam().getRegion(),
-                                c.getTeam().getRating()
-                        )).toList();
-
-                return new MatchingListResponse(
-                        m.getMatchId(),
-                        m.getMatchRegion() != null ? m.getMatchRegion() : "미정",
-                        m.getTeam().getTeamName(),
-                        m.getTeam().getTeamImg(),
-                        m.getTeam().getRegion(),
-                        m.getTeam().getRating(),
-                        m.getStadium() != null ? m.getStadium().getStadiumName() : "미정",
-                        m.getMatchDate(),
-                        m.getMatchType().getDisplayName(),
-                        m.getLoan(),
-                        challengerTeam,
-                        challengerTeams
-                );
-            });
+            return matchingListAssembler.toResponses(matchingPage);
         }
 
         // Complete 조회
+        @Transactional(readOnly = true)
         public Page<MatchingListResponse> getCompleteMatchings(int page, int size) {
             Pageable pageable = PageRequest.of(page, size, Sort.by("matchDate").descending());
             Page<Matching> matchingPage = matchingRepository.findByState(Matching.State.COMPLETE, pageable);
 
-            return matchingPage.map(m -> {
-                ChallengerTeamResponse challengerTeam = null;
-                if (m.getChallengerTeam() != null) {
-                    Team challenger = m.getChallengerTeam();
-                    challengerTeam = new ChallengerTeamResponse(
-                            challenger.getTeamId(),
-                            challenger.getTeamName(),
-                            challenger.getRegion(),
-                            challenger.getRating()
-                    );
-                }
-                List<ChallengerList> challengers = challengerListRepository.findByMatching_MatchId(m.getMatchId());
-                List<ChallengerTeamResponse> challengerTeams = challengers.stream()
-                        .map(c -> new ChallengerTeamResponse(
-                                c.getTeam().getTeamId(),
-                                c.getTeam().getTeamName(),
-                                c.getTeam().getRegion(),
-                                c.getTeam().getRating()
-                        )).toList();
-
-                return new MatchingListResponse(
-                        m.getMatchId(),
-                        m.getMatchRegion() != null ? m.getMatchRegion() : "미정",
-                        m.getTeam().getTeamName(),
-                        m.getTeam().getTeamImg(),
-                        m.getTeam().getRegion(),
-                        m.getTeam().getRating(),
-                        m.getStadium() != null ? m.getStadium().getStadiumName() : "미정",
-                        m.getMatchDate(),
-                        m.getMatchType().getDisplayName(),
-                        m.getLoan(),
-                        challengerTeam,
-                        challengerTeams
-                );
-            });
+            return matchingListAssembler.toResponses(matchingPage);
         }
 
         // 팀의 매치 성공 조회
+        @Transactional(readOnly = true)
         public List<MatchingListResponse> getSuccessMatchingsByTeam(String teamId) {
             // 1. 호스트로 참여한 SUCCESS 매치
             List<Matching> host = matchingRepository.findByTeam_TeamIdAndState(teamId, Matching.State.SUCCESS);
@@ -648,87 +609,19 @@
                     .toList();
 
             // 5. DTO 매핑
-            return sorted.stream().map(m -> {
-                ChallengerTeamResponse challengerTeam = null;
-                if (m.getChallengerTeam() != null) {
-                    Team c = m.getChallengerTeam();
-                    challengerTeam = new ChallengerTeamResponse(
-                            c.getTeamId(),
-                            c.getTeamName(),
-                            c.getRegion(),
-                            c.getRating()
-                    );
-                }
-                List<ChallengerList> challengers = challengerListRepository.findByMatching_MatchId(m.getMatchId());
-                List<ChallengerTeamResponse> challengerTeams = challengers.stream()
-                        .map(c -> new ChallengerTeamResponse(
-                                c.getTeam().getTeamId(),
-                                c.getTeam().getTeamName(),
-                                c.getTeam().getRegion(),
-                                c.getTeam().getRating()
-                        )).toList();
-
-                return new MatchingListResponse(
-                        m.getMatchId(),
-                        m.getMatchRegion() != null ? m.getMatchRegion() : "미정",
-                        m.getTeam().getTeamName(),
-                        m.getTeam().getTeamImg(),
-                        m.getTeam().getRegion(),
-                        m.getTeam().getRating(),
-                        m.getStadium() != null ? m.getStadium().getStadiumName() : "미정",
-                        m.getMatchDate(),
-                        m.getMatchType().getDisplayName(),
-                        m.getLoan(),
-                        challengerTeam,
-                        challengerTeams
-                );
-            }).toList();
+            return matchingListAssembler.toResponses(sorted);
         }
 
 
         // 팀의 매치 완료 조회
+        @Transactional(readOnly = true)
         public List<MatchingListResponse> getCompleteMatchingsByTeam(String teamId) {
             List<Matching> matchings = matchingRepository.findByTeam_TeamIdAndState(teamId, Matching.State.COMPLETE);
-            return matchings.stream()
-                    .map(m -> {
-                        ChallengerTeamResponse challengerTeam = null;
-                        if (m.getChallengerTeam() != null) {
-                            Team challenger = m.getChallengerTeam();
-                            challengerTeam = new ChallengerTeamResponse(
-                                    challenger.getTeamId(),
-                                    challenger.getTeamName(),
-                                    challenger.getRegion(),
-                                    challenger.getRating()
-                            );
-                        }
-                        List<ChallengerList> challengers = challengerListRepository.findByMatching_MatchId(m.getMatchId());
-                        List<ChallengerTeamResponse> challengerTeams = challengers.stream()
-                                .map(c -> new ChallengerTeamResponse(
-                                        c.getTeam().getTeamId(),
-                                        c.getTeam().getTeamName(),
-                                        c.getTeam().getRegion(),
-                                        c.getTeam().getRating()
-                                )).toList();
-
-                        return new MatchingListResponse(
-                                m.getMatchId(),
-                                m.getMatchRegion() != null ? m.getMatchRegion() : "미정",
-                                m.getTeam().getTeamName(),
-                                m.getTeam().getTeamImg(),
-                                m.getTeam().getRegion(),
-                                m.getTeam().getRating(),
-                                m.getStadium() != null ? m.getStadium().getStadiumName() : "미정",
-                                m.getMatchDate(),
-                                m.getMatchType().getDisplayName(),
-                                m.getLoan(),
-                                challengerTeam,
-                                challengerTeams
-                        );
-                    })
-                    .toList();
+            return matchingListAssembler.toResponses(matchings);
         }
 
         // 내가 속한 전체 팀중 젤 최신 일정 가져오기
+        @Transactional(readOnly = true)
         public MatchingListResponse getLatestSuccessMatchByUser(String userId) {
             // 1. 내가 속한 팀 리스트 가져오기
             List<TeamMember> teamMembers = teamMemberRepository.findAllByUser_UserHashId(userId);
@@ -775,46 +668,14 @@
 
             System.out.println("선택된 매치 matchId : " + selected.getMatchId());
 
-            // 3. 매치 DTO 매핑 (기존 방식)
-            ChallengerTeamResponse challengerTeam = null;
-            if (selected.getChallengerTeam() != null) {
-                Team challenger = selected.getChallengerTeam();
-                challengerTeam = new ChallengerTeamResponse(
-                        challenger.getTeamId(),
-                        challenger.getTeamName(),
-                        challenger.getRegion(),
-                        challenger.getRating()
-                );
-            }
-            List<ChallengerList> challengers = challengerListRepository.findByMatching_MatchId(selected.getMatchId());
-            List<ChallengerTeamResponse> challengerTeams = challengers.stream()
-                    .map(c -> new ChallengerTeamResponse(
-                            c.getTeam().getTeamId(),
-                            c.getTeam().getTeamName(),
-                            c.getTeam().getRegion(),
-                            c.getTeam().getRating()
-                    )).toList();
-
-            MatchingListResponse response = new MatchingListResponse(
-                    selected.getMatchId(),
-                    selected.getMatchRegion() != null ? selected.getMatchRegion() : "미정",
-                    selected.getTeam().getTeamName(),
-                    selected.getTeam().getTeamImg(),
-                    selected.getTeam().getRegion(),
-                    selected.getTeam().getRating(),
-                    selected.getStadium() != null ? selected.getStadium().getStadiumName() : "미정",
-                    selected.getMatchDate(),
-                    selected.getMatchType().getDisplayName(),
-                    selected.getLoan(),
-                    challengerTeam,
-                    challengerTeams
-
-            );
+            // 3. 매치 DTO 매핑
+            MatchingListResponse response = matchingListAssembler.toResponse(selected);
 
             System.out.println("result : " + response);
             return response;
         }
 
+        @Transactional(readOnly = true)
         public boolean requestAutoMatch(RequestAutoMatch requestAutoMatch) {
             Optional<Team> team = teamRepository.findById(requestAutoMatch.getTeamId());
             if (team.isEmpty()) {
@@ -824,10 +685,23 @@
             requestAutoMatch.setRegion(team.get().getRegion());
             requestAutoMatch.setRating(team.get().getRating());
 
-            matchQueue.enqueue(requestAutoMatch);
+            if (!matchQueue.enqueue(requestAutoMatch)) {
+                throw new IllegalStateException("이미 자동 매칭 대기 중인 팀입니다.");
+            }
             return true;
         }
 
+        // 자동 매칭 대기 취소 (대기 중이 아니었으면 false)
+        public boolean cancelAutoMatch(String teamId, String userId) {
+            boolean isLeader = teamMemberRepository.findLeaderByTeamId(teamId)
+                    .map(leader -> leader.getUserHashId().equals(userId))
+                    .orElse(false);
+            if (!isLeader) {
+                throw new RuntimeException("리더만 자동 매칭을 취소할 수 있습니다.");
+            }
+            return matchQueue.cancel(teamId);
+        }
+
         public void handleMatchResponse(String matchId, String userId, MatchResponseDto.MatchResponseType response) {
             Matching match = matchingRepository.findByMatchId(matchId);
 //            .orElseThrow(() -> new NotFoundException("매칭 없음"))
@@ -0,0 +1,78 @@
+package org.example.but_eo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.RatingEngine;
+import org.example.but_eo.component.RatingState;
+import org.example.but_eo.entity.Team;
+import org.example.but_eo.repository.RatingJdbcRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingService {
+
+    private final RatingEngine ratingEngine;
+    private final RatingJdbcRepository ratingJdbcRepository;
+
+    // 주최팀 점수 > 도전팀 점수면 주최팀 승 (registerMatchResult 와 같은 기준)
+    public static double hostScore(int hostScore, int challengerScore) {
+        if (hostScore > challengerScore) return 1;
+        if (hostScore < challengerScore) return 0;
+        return 0.5;
+    }
+
+    // 경기 결과를 두 팀 엔티티에 반영 (저장은 호출한 쪽 트랜잭션에서)
+    public void applyMatchResult(Team host, Team challenger, int hostScore, int challengerScore) {
+        RatingState a = toState(host);
+        RatingState b = toState(challenger);
+
+        ratingEngine.apply(a, b, hostScore(hostScore, challengerScore), host.getEvent());
+
+        writeBack(host, a);
+        writeBack(challenger, b);
+    }
+
+    /**
+     * 완료된 매치 전체를 시간순으로 다시 계산.
+     * 매치는 스트리밍으로 한 건씩 읽으므로 메모리는 매치 수와 무관하게 경기 기록이 있는 팀 수에만 비례한다.
+     */
+    @Transactional
+    public int recomputeAll() {
+        Map<String, RatingState> ratings = new HashMap<>();
+        int[] replayed = {0};
+
+        ratingJdbcRepository.streamCompletedMatches(match -> {
+            RatingState host = ratings.computeIfAbsent(match.getHostTeamId(), id -> RatingState.initial());
+            RatingState challenger = ratings.computeIfAbsent(match.getChallengerTeamId(), id -> RatingState.initial());
+            ratingEngine.apply(host, challenger,
+                    hostScore(match.getHostScore(), match.getChallengerScore()), match.getEvent());
+            replayed[0]++;
+        });
+
+        // 경기 기록이 없는 팀은 초기값으로
+        ratingJdbcRepository.resetAll(RatingState.initial());
+        ratingJdbcRepository.batchUpdate(ratings);
+
+        log.info("레이팅 재계산 완료: 매치 {}건, 팀 {}개", replayed[0], ratings.size());
+        return replayed[0];
+    }
+
+    // 반올림한 rating 에서 이어 계산하면 재계산(recomputeAll) 결과와 어긋나므로 반올림 전 값 사용
+    private RatingState toState(Team team) {
+        double rating = team.getRatingExact() != null ? team.getRatingExact() : team.getRating();
+        return new RatingState(rating, team.getRatingDeviation(), team.getRatingVolatility());
+    }
+
+    private void writeBack(Team team, RatingState state) {
+        team.setRating((int) Math.round(state.getRating()));
+        team.setRatingExact(state.getRating());
+        team.setRatingDeviation(state.getDeviation());
+        team.setRatingVolatility(state.getVolatility());
+    }
+}
@@ -2,34 +2,157 @@ package org.example.but_eo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.but_eo.dto.ChatMessage;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 @Service
 @RequiredArgsConstructor
 public class RedisChatService { // Redis 사용하여 채팅을 임시저장
 
+    private static final String ROOM_KEY_PREFIX = "chatroom:";
+    private static final String FLUSH_KEY_PREFIX = "chatflush:"; // DB 저장 중인 메시지 (저장 완료 시 삭제)
+    private static final String DEAD_LETTER_KEY_PREFIX = "chatdead:"; // DB 가 거부한 메시지 (수동 확인용)
+    private static final int SCAN_COUNT = 500;
+
+    // 방 단위 플러시 잠금 (여러 서버가 같은 방을 동시에 옮기지 않도록). ARGV[1] = 소유 토큰, ARGV[2] = 만료(ms)
+    private static final DefaultRedisScript<Long> LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end
+            return 0
+            """, Long.class);
+
+    // 내가 잡은 잠금일 때만 해제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    // 내가 잡은 잠금일 때만 처리중 리스트 삭제 (잠금이 만료돼 다른 서버가 가져갔으면 그 서버가 다시 저장)
+    private static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    // 방 리스트에서 가장 오래된 메시지부터 최대 ARGV[1]개를 처리중 리스트로 원자적으로 옮김
+    // 처리중 리스트가 남아 있으면 (이전 저장 실패) 새로 옮기지 않고 남은 내용을 다시 반환
+    // 잠금(KEYS[3])을 ARGV[2] 가 갖고 있지 않으면 아무것도 하지 않음
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[2] then
+                return {}
+            end
+            if redis.call('LLEN', KEYS[2]) > 0 then
+                return redis.call('LRANGE', KEYS[2], 0, -1)
+            end
+            local moved = {}
+            for i = 1, tonumber(ARGV[1]) do
+                local v = redis.call('RPOPLPUSH', KEYS[1], KEYS[2])
+                if not v then break end
+                moved[#moved + 1] = v
+            end
+            return moved
+            """, List.class);
+
+    // 순번 발급과 저장을 한 번에: 순번 키가 없으면(만료, Redis 초기화) 기준값으로 채운 뒤 증가하고,
+    // 직렬화된 메시지의 순번 자리(ARGV[3])를 발급한 순번으로 바꿔 방 리스트에 LPUSH
+    private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            local seq = redis.call('INCR', KEYS[1])
+            local first, last = string.find(ARGV[2], ARGV[3], 1, true)
+            if not first then
+                return redis.error_reply('seq placeholder not found')
+            end
+            redis.call('LPUSH', KEYS[2], string.sub(ARGV[2], 1, first - 1) .. ARGV[4] .. seq .. string.sub(ARGV[2], last + 1))
+            return seq
+            """, Long.class);
+
+    // 직렬화 시 순번 자리 표시 (JSON 문자열 안의 따옴표는 이스케이프되므로 필드 값으로만 나타남)
+    private static final long SEQ_PLACEHOLDER = Long.MIN_VALUE;
+    private static final String SEQ_FIELD = "\"seq\":";
+
     private final RedisTemplate<String, Object> redisTemplate;
     //private static final int MAX_CHAT_HISTORY_SIZE = 50;
 
     public void saveMessageToRedis(String roomId, ChatMessage message) {
-        String key = "chatroom:" + roomId;
+        String key = ROOM_KEY_PREFIX + roomId;
         redisTemplate.opsForList().leftPush(key, message); // 레디스에 리스트로 채팅 내역을 저장
         // 리스트의 길이 제한 최근 50개의 내역만을 유지함 - 데이터 소실을 방지하기 위해 사용하지 않음
         //redisTemplate.opsForList().trim(key, 0, MAX_CHAT_HISTORY_SIZE - 1);
     }
 
+    // 채팅방 메시지 순번 키 (읽음 커서/안읽은 수 계산도 이 키를 사용)
+    public static String seqKey(String roomId) {
+        return ROOM_KEY_PREFIX + roomId + ":seq";
+    }
+
+    // 순번을 발급해 message 에 넣고 방 리스트에 저장 (순번 키가 없으면 seed 로 기준값을 구해 이어서 증가)
+    @SuppressWarnings("unchecked")
+    public long appendWithNextSeq(String roomId, ChatMessage message, LongSupplier seed) {
+        String key = seqKey(roomId);
+        String base = Boolean.TRUE.equals(redisTemplate.hasKey(key)) ? "0" : String.valueOf(seed.getAsLong());
+
+        message.setSeq(SEQ_PLACEHOLDER);
+        byte[] serialized;
+        try {
+            serialized = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(message);
+        } finally {
+            message.setSeq(null);
+        }
+        if (serialized == null) {
+            throw new IllegalStateException("메시지 직렬화 실패");
+        }
+
+        Long seq = redisTemplate.execute(APPEND_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                List.of(key, ROOM_KEY_PREFIX + roomId),
+                base, new String(serialized, StandardCharsets.UTF_8), SEQ_FIELD + SEQ_PLACEHOLDER, SEQ_FIELD);
+        if (seq == null) {
+            throw new IllegalStateException("메시지 순번 발급 실패");
+        }
+        message.setSeq(seq);
+        return seq;
+    }
+
+    // DB 저장 중인 메시지 (아직 MySQL 에도 없을 수 있음)
+    public List<ChatMessage> getDrainingMessages(String roomId) {
+        List<Object> rawList = redisTemplate.opsForList().range(FLUSH_KEY_PREFIX + roomId, 0, -1);
+        if (rawList == null) return List.of();
+        return rawList.stream()
+                .filter(o -> o instanceof ChatMessage)
+                .map(o -> (ChatMessage) o)
+                .toList();
+    }
+
     public List<ChatMessage> getRecentMessages(String roomId) {
-        String key = "chatroom:" + roomId;
+        String key = ROOM_KEY_PREFIX + roomId;
         List<Object> rawList = redisTemplate.opsForList().range(key, 0, -1);
         return rawList.stream().map(o -> (ChatMessage) o).toList();
     }
 
+    // 최신순 인덱스 범위 조회 (0 = 가장 최근 메시지)
+    public List<ChatMessage> getMessages(String roomId, long start, long end) {
+        List<Object> rawList = redisTemplate.opsForList().range(ROOM_KEY_PREFIX + roomId, start, end);
+        if (rawList == null) return List.of();
+        return rawList.stream()
+                .filter(o -> o instanceof ChatMessage)
+                .map(o -> (ChatMessage) o)
+                .toList();
+    }
+
     public List<String> getLastMessages(String roomId) {
-        String key = "chatroom:" + roomId;
+        String key = ROOM_KEY_PREFIX + roomId;
         ChatMessage rawData = (ChatMessage)redisTemplate.opsForList().getFirst(key);
         if (rawData != null) {
             List<String> message = new ArrayList<>();
@@ -39,4 +162,70 @@ public class RedisChatService { // Redis 사용하여 채팅을 임시저장
         }
         return null;
     }
+
+    // DB로 옮길 메시지가 남아 있는 채팅방 ID 순회 (KEYS 대신 SCAN 사용)
+    public void forEachPendingRoom(Consumer<String> action) {
+        scanRoomIds(ROOM_KEY_PREFIX, action);
+        scanRoomIds(FLUSH_KEY_PREFIX, action); // 저장 도중 실패해 처리중 리스트만 남은 방
+    }
+
+    private void scanRoomIds(String prefix, Consumer<String> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String roomId = cursor.next().substring(prefix.length());
+                if (!roomId.contains(":")) { // chatroom:{id}:xxx 형태의 보조 키 제외
+                    action.accept(roomId);
+                }
+            }
+        }
+    }
+
+    private static String flushLockKey(String roomId) {
+        return FLUSH_KEY_PREFIX + roomId + ":lock";
+    }
+
+    // 방 플러시 잠금 획득 (성공 시 drain/ack/unlock 에 같은 token 사용)
+    public boolean tryLockFlush(String roomId, String token, long ttlMillis) {
+        Long locked = redisTemplate.execute(LOCK_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                List.of(flushLockKey(roomId)), token, String.valueOf(ttlMillis));
+        return locked != null && locked == 1L;
+    }
+
+    public void unlockFlush(String roomId, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                List.of(flushLockKey(roomId)), token);
+    }
+
+    // 가장 오래된 메시지부터 최대 count개를 처리중 리스트로 이동 후 반환 (잠금을 가진 경우만)
+    // DB 저장이 끝나면 ackDrainedMessages 호출, 호출 전에 실패하면 다음 실행에서 같은 메시지를 다시 반환 (at-least-once)
+    @SuppressWarnings("unchecked")
+    public List<ChatMessage> drainOldestMessages(String roomId, String token, int count) {
+        List<Object> raw = redisTemplate.execute(
+                DRAIN_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer<List>) redisTemplate.getValueSerializer(),
+                List.of(ROOM_KEY_PREFIX + roomId, FLUSH_KEY_PREFIX + roomId, flushLockKey(roomId)),
+                String.valueOf(count), token
+        );
+        if (raw == null) return List.of();
+
+        return raw.stream()
+                .filter(o -> o instanceof ChatMessage)
+                .map(o -> (ChatMessage) o)
+                .toList();
+    }
+
+    // 잠금을 잃었으면 false (처리중 리스트는 남겨 둠)
+    public boolean ackDrainedMessages(String roomId, String token) {
+        Long acked = redisTemplate.execute(ACK_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                List.of(FLUSH_KEY_PREFIX + roomId, flushLockKey(roomId)), token);
+        return acked != null && acked == 1L;
+    }
+
+    // DB 가 거부한 메시지 보관 (플러시는 계속 진행)
+    public void deadLetter(String roomId, List<ChatMessage> messages) {
+        if (messages.isEmpty()) return;
+        redisTemplate.opsForList().rightPushAll(DEAD_LETTER_KEY_PREFIX + roomId, messages.toArray());
+    }
 }
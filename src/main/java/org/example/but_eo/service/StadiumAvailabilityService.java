@@ -0,0 +1,287 @@
+package org.example.but_eo.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.but_eo.component.StadiumAvailabilityIndex;
+import org.example.but_eo.dto.StadiumAvailabilityResponse;
+import org.example.but_eo.dto.StadiumClosureRequest;
+import org.example.but_eo.dto.StadiumSlotRequest;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.entity.Stadium;
+import org.example.but_eo.entity.StadiumBooking;
+import org.example.but_eo.entity.StadiumClosure;
+import org.example.but_eo.entity.StadiumSlot;
+import org.example.but_eo.repository.StadiumBookingRepository;
+import org.example.but_eo.repository.StadiumClosureRepository;
+import org.example.but_eo.repository.StadiumRepository;
+import org.example.but_eo.repository.StadiumSlotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class StadiumAvailabilityService {
+
+    private static final int MAX_RANGE_DAYS = 31;
+
+    // 기존 자유 입력 availableDays 표기 -> 요일
+    private static final Map<String, DayOfWeek> KOREAN_DAYS = Map.of(
+            "월", DayOfWeek.MONDAY, "화", DayOfWeek.TUESDAY, "수", DayOfWeek.WEDNESDAY,
+            "목", DayOfWeek.THURSDAY, "금", DayOfWeek.FRIDAY, "토", DayOfWeek.SATURDAY, "일", DayOfWeek.SUNDAY
+    );
+
+    private final StadiumRepository stadiumRepository;
+    private final StadiumSlotRepository stadiumSlotRepository;
+    private final StadiumClosureRepository stadiumClosureRepository;
+    private final StadiumBookingRepository stadiumBookingRepository;
+    private final StadiumAvailabilityIndex stadiumAvailabilityIndex;
+
+    @Value("${stadium.slot.default-minutes:120}")
+    private int defaultSlotMinutes;
+
+    // 기간 내 슬롯별 이용 가능 여부 (인메모리 인덱스 조회)
+    public StadiumAvailabilityResponse getAvailability(String stadiumId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        if (!stadiumRepository.existsById(stadiumId)) {
+            throw new NoSuchElementException("경기장 없음");
+        }
+
+        List<StadiumAvailabilityResponse.SlotDto> slots = stadiumAvailabilityIndex.findSlots(stadiumId, from, to).stream()
+                .map(slot -> StadiumAvailabilityResponse.SlotDto.builder()
+                        .date(slot.date())
+                        .startTime(slot.startTime())
+                        .endTime(slot.endTime())
+                        .available(slot.available())
+                        .build())
+                .toList();
+
+        return StadiumAvailabilityResponse.builder()
+                .stadiumId(stadiumId)
+                .from(from)
+                .to(to)
+                .slots(slots)
+                .build();
+    }
+
+    /**
+     * 매치에 경기장 슬롯 예약. 호출하는 쪽 트랜잭션 안에서 실행된다.
+     * 경기장 행을 잠가 같은 경기장 예약끼리 순서대로 처리하고, (경기장, 시작 시각) 유니크 제약으로 한 번 더 막는다.
+     */
+    @Transactional
+    public Stadium reserve(Matching matching, String stadiumId, LocalDateTime startAt) {
+        Stadium stadium = stadiumRepository.findByIdForUpdate(stadiumId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 경기장이 존재하지 않습니다."));
+
+        if (startAt.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("지난 시간은 예약할 수 없습니다.");
+        }
+
+        StadiumSlot slot = stadiumSlotRepository.findByStadium_StadiumIdAndDayOfWeekAndStartTime(
+                stadiumId, startAt.getDayOfWeek(), startAt.toLocalTime());
+        if (slot == null) {
+            throw new IllegalArgumentException("해당 시간은 경기장 이용 가능 시간이 아닙니다.");
+        }
+        LocalDateTime endAt = LocalDateTime.of(startAt.toLocalDate(), slot.getEndTime());
+
+        if (stadiumClosureRepository.existsOverlapping(stadiumId, startAt, endAt)) {
+            throw new IllegalStateException("해당 시간은 경기장 휴무입니다.");
+        }
+        if (stadiumBookingRepository.existsOverlapping(stadiumId, startAt, endAt)) {
+            throw new IllegalStateException("이미 예약된 시간입니다.");
+        }
+
+        StadiumBooking booking = StadiumBooking.builder()
+                .stadium(stadium)
+                .matching(matching)
+                .startAt(startAt)
+                .endAt(endAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+        try {
+            stadiumBookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 예약된 시간입니다.");
+        }
+
+        matching.setStadium(stadium);
+        stadiumAvailabilityIndex.addBookingAfterCommit(stadiumId, startAt, endAt);
+        return stadium;
+    }
+
+    // 매치 취소 시 슬롯 반환
+    @Transactional
+    public void release(String matchId) {
+        stadiumBookingRepository.findByMatching_MatchId(matchId).ifPresent(booking -> {
+            String stadiumId = booking.getStadium().getStadiumId();
+            stadiumBookingRepository.delete(booking);
+            stadiumAvailabilityIndex.removeBookingAfterCommit(stadiumId, booking.getStartAt());
+        });
+    }
+
+    // 주간 슬롯 전체 교체 (권한 확인은 호출하는 쪽에서)
+    @Transactional
+    public void replaceSlots(Stadium stadium, List<StadiumSlotRequest> requests) {
+        List<StadiumSlot> slots = new ArrayList<>();
+        for (StadiumSlotRequest request : requests) {
+            DayOfWeek dayOfWeek;
+            LocalTime startTime;
+            LocalTime endTime;
+            try {
+                dayOfWeek = DayOfWeek.valueOf(request.getDayOfWeek().trim().toUpperCase());
+                startTime = LocalTime.parse(request.getStartTime());
+                endTime = LocalTime.parse(request.getEndTime());
+            } catch (Exception e) {
+                throw new IllegalArgumentException("슬롯 요일 또는 시간 형식이 잘못되었습니다.");
+            }
+            slots.add(StadiumSlot.builder()
+                    .stadium(stadium)
+                    .dayOfWeek(dayOfWeek)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .build());
+        }
+        saveSlots(stadium, slots);
+        stadium.setCustomSlots(true);
+    }
+
+    // 기존 자유 입력 값(예: "월,화,수" / "09:00~23:00")으로 기본 슬롯 생성
+    @Transactional
+    public void replaceSlotsFromText(Stadium stadium) {
+        Set<DayOfWeek> days = parseDays(stadium.getAvailableDays());
+        LocalTime[] hours = parseHours(stadium.getAvailableHours());
+
+        List<StadiumSlot> slots = new ArrayList<>();
+        if (!days.isEmpty() && hours != null) {
+            for (DayOfWeek dayOfWeek : days) {
+                LocalTime start = hours[0];
+                while (!start.plusMinutes(defaultSlotMinutes).isAfter(hours[1])
+                        && start.plusMinutes(defaultSlotMinutes).isAfter(start)) { // 자정 넘김 방지
+                    LocalTime end = start.plusMinutes(defaultSlotMinutes);
+                    slots.add(StadiumSlot.builder()
+                            .stadium(stadium)
+                            .dayOfWeek(dayOfWeek)
+                            .startTime(start)
+                            .endTime(end)
+                            .build());
+                    start = end;
+                }
+            }
+        }
+        saveSlots(stadium, slots);
+    }
+
+    @Transactional
+    public void addClosure(Stadium stadium, StadiumClosureRequest request) {
+        LocalDateTime startAt;
+        LocalDateTime endAt;
+        try {
+            startAt = LocalDateTime.parse(request.getStartAt());
+            endAt = LocalDateTime.parse(request.getEndAt());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("휴무 기간 형식이 잘못되었습니다.");
+        }
+        if (!endAt.isAfter(startAt)) {
+            throw new IllegalArgumentException("휴무 종료 시각이 시작 시각보다 빠릅니다.");
+        }
+
+        stadiumClosureRepository.save(StadiumClosure.builder()
+                .stadium(stadium)
+                .startAt(startAt)
+                .endAt(endAt)
+                .reason(request.getReason())
+                .build());
+        stadiumAvailabilityIndex.evictAfterCommit(stadium.getStadiumId());
+    }
+
+    // 경기장 삭제 전 예약 정리 (매치보다 먼저 지워야 FK 충돌이 없음)
+    @Transactional
+    public void deleteAllFor(String stadiumId) {
+        stadiumBookingRepository.deleteAllByStadiumId(stadiumId);
+        stadiumSlotRepository.deleteAllByStadiumId(stadiumId);
+        stadiumAvailabilityIndex.evictAfterCommit(stadiumId);
+    }
+
+    private void saveSlots(Stadium stadium, List<StadiumSlot> slots) {
+        slots.sort(Comparator.comparing(StadiumSlot::getDayOfWeek).thenComparing(StadiumSlot::getStartTime));
+        for (int i = 0; i < slots.size(); i++) {
+            StadiumSlot slot = slots.get(i);
+            if (!slot.getEndTime().isAfter(slot.getStartTime())) {
+                throw new IllegalArgumentException("슬롯 종료 시간은 시작 시간보다 늦어야 합니다.");
+            }
+            if (i > 0) {
+                StadiumSlot prev = slots.get(i - 1);
+                if (prev.getDayOfWeek() == slot.getDayOfWeek() && prev.getEndTime().isAfter(slot.getStartTime())) {
+                    throw new IllegalArgumentException("같은 요일의 슬롯이 겹칩니다.");
+                }
+            }
+        }
+
+        stadiumSlotRepository.deleteAllByStadiumId(stadium.getStadiumId());
+        stadiumSlotRepository.saveAll(slots);
+        stadiumAvailabilityIndex.evictAfterCommit(stadium.getStadiumId());
+    }
+
+    private Set<DayOfWeek> parseDays(String text) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (text == null) {
+            return days;
+        }
+        String normalized = text.replace(" ", "");
+        if (normalized.contains("매일")) {
+            return EnumSet.allOf(DayOfWeek.class);
+        }
+        if (normalized.contains("평일")) {
+            days.addAll(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        }
+        if (normalized.contains("주말")) {
+            days.add(DayOfWeek.SATURDAY);
+            days.add(DayOfWeek.SUNDAY);
+        }
+        for (String token : normalized.split("[,/·]")) {
+            if (!token.isEmpty()) {
+                DayOfWeek day = KOREAN_DAYS.get(token.substring(0, 1));
+                if (day != null) {
+                    days.add(day);
+                }
+            }
+        }
+        return days;
+    }
+
+    // "09:00~23:00" -> [09:00, 23:00]. "24:00" 은 23:59:59.999 로 취급
+    private LocalTime[] parseHours(String text) {
+        if (text == null) {
+            return null;
+        }
+        String[] parts = text.replace(" ", "").split("[~\\-]");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            LocalTime start = LocalTime.parse(parts[0]);
+            LocalTime end = "24:00".equals(parts[1]) ? LocalTime.MAX : LocalTime.parse(parts[1]);
+            return end.isAfter(start) ? new LocalTime[]{start, end} : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
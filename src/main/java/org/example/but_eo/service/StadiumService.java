@@ -2,19 +2,24 @@ package org.example.but_eo.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.but_eo.component.ImageVariantWorker;
+import org.example.but_eo.component.StadiumListCache;
 import org.example.but_eo.dto.StadiumRequest;
+import org.example.but_eo.dto.NearbyStadiumResponse;
+import org.example.but_eo.dto.StadiumClosureRequest;
+import org.example.but_eo.dto.StadiumPageResponse;
 import org.example.but_eo.dto.StadiumResponse;
+import org.example.but_eo.dto.StadiumSlotRequest;
+import org.example.but_eo.dto.StoredFile;
 import org.example.but_eo.entity.*;
 import org.example.but_eo.repository.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -26,6 +31,14 @@ public class StadiumService {
     private final UsersRepository usersRepository;
     private final FileRepository fileRepository;
     private final StadiumMappingRepository stadiumMappingRepository;
+    private final StorageService storageService;
+    private final ImageVariantWorker imageVariantWorker;
+    private final StadiumListCache stadiumListCache;
+    private final StadiumAvailabilityService stadiumAvailabilityService;
+    private final GeoIndexService geoIndexService;
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
 
     private Users validateManager(String userId) {
         Users user = usersRepository.findByUserHashId(userId);
@@ -55,12 +68,18 @@ public class StadiumService {
         stadium.setStadiumCost(req.getStadiumCost());
         stadium.setStadiumMany(req.getStadiumMany());
         stadium.setStadiumTel(req.getStadiumTel());
+        GeoIndexService.validateCoordinates(req.getLatitude(), req.getLongitude());
+        stadium.setLatitude(req.getLatitude());
+        stadium.setLongitude(req.getLongitude());
         stadium.setOwner(user);
         stadiumRepository.save(stadium);
 
         System.out.println("✅ Stadium 등록 요청 수신");
         System.out.println("✅ 받은 이미지 수: " + (req.getImageFiles() == null ? "null" : req.getImageFiles().size()));
         saveImages(req.getImageFiles(), stadium, user);
+        stadiumAvailabilityService.replaceSlotsFromText(stadium);
+        geoIndexService.putStadiumAfterCommit(stadium);
+        stadiumListCache.invalidateAfterCommit();
     }
 
     @Transactional
@@ -78,7 +97,17 @@ public class StadiumService {
         if (isValid(req.getStadiumRegion())) stadium.setStadiumRegion(req.getStadiumRegion());
         if (isValid(req.getAvailableDays())) stadium.setAvailableDays(req.getAvailableDays());
         if (isValid(req.getAvailableHours())) stadium.setAvailableHours(req.getAvailableHours());
+        // 이용 가능일/시간을 바꾸면 기본 슬롯도 다시 생성 (직접 지정한 슬롯은 유지)
+        if ((isValid(req.getAvailableDays()) || isValid(req.getAvailableHours())) && !stadium.isCustomSlots()) {
+            stadiumAvailabilityService.replaceSlotsFromText(stadium);
+        }
         if (isValid(req.getStadiumTel())) stadium.setStadiumTel(req.getStadiumTel());
+        if (req.getLatitude() != null || req.getLongitude() != null) {
+            GeoIndexService.validateCoordinates(req.getLatitude(), req.getLongitude());
+            stadium.setLatitude(req.getLatitude());
+            stadium.setLongitude(req.getLongitude());
+            geoIndexService.putStadiumAfterCommit(stadium);
+        }
 
         if (req.getStadiumCost() != null) stadium.setStadiumCost(req.getStadiumCost());
         if (req.getStadiumMany() != null) stadium.setStadiumMany(req.getStadiumMany());
@@ -99,17 +128,10 @@ public class StadiumService {
                 stadium.getStadiumMappingList().remove(mapping);
                 stadiumMappingRepository.delete(mapping);
 
-                // 파일 삭제
+                // 파일 삭제 (같은 내용을 다른 경기장이 쓰고 있으면 실제 파일은 유지)
                 if (oldFile != null) {
-                    try {
-                        String fullPath = System.getProperty("user.dir") + oldFile.getFilePath();
-                        Files.deleteIfExists(Paths.get(fullPath));
-                        System.out.println("삭제된 이미지: " + fullPath);
-                    } catch (IOException e) {
-                        System.err.println("이미지 삭제 실패");
-                        e.printStackTrace();
-                    }
                     fileRepository.deleteById(oldFile.getFileId());
+                    storageService.deleteIfUnreferenced(oldFile.getFilePath());
                 }
             }
 
@@ -123,6 +145,7 @@ public class StadiumService {
         }
 
         stadiumRepository.save(stadium);
+        stadiumListCache.invalidateAfterCommit();
     }
 
 
@@ -143,44 +166,18 @@ public class StadiumService {
                 continue;
             }
 
-            try {
-                String fileName = UUID.randomUUID() + "_" + image.getOriginalFilename();
-                String uploadDir = System.getProperty("user.dir") + "/uploads/stadiums";
-                Path path = Paths.get(uploadDir, fileName);
-
-                Files.createDirectories(path.getParent());
-                image.transferTo(path.toFile());
-
-                System.out.println("이미지 저장 성공: " + path);
-
-                File file = new File(
-                        UUID.randomUUID().toString(),
-                        user,
-                        fileName,
-                        "/uploads/stadiums/" + fileName,
-                        LocalDateTime.now()
-                );
-                fileRepository.save(file);
-
-                StadiumMapping mapping = new StadiumMapping(
-                        new StadiumMappingKey(stadium.getStadiumId(), file.getFileId()),
-                        stadium,
-                        file
-                );
-                stadiumMappingRepository.save(mapping);
-                stadium.getStadiumMappingList().add(mapping);
-
-                System.out.println("✅ 이미지 매핑 저장 완료: " + file.getFilePath());
-                System.out.println("✅ stadiumId: " + stadium.getStadiumId());
-                System.out.println("✅ mapping 저장 여부: " + stadium.getStadiumMappingList().size());
-
-
-
-            } catch (IOException e) {
-                System.err.println("이미지 저장 실패");
-                e.printStackTrace();
-                throw new RuntimeException("이미지 저장 실패", e);
-            }
+            StoredFile stored = storageService.store(image, StorageService.STADIUMS);
+            File file = storageService.toFileRecord(user, stored);
+            fileRepository.save(file);
+            imageVariantWorker.schedule(stored.getUrl());
+
+            StadiumMapping mapping = new StadiumMapping(
+                    new StadiumMappingKey(stadium.getStadiumId(), file.getFileId()),
+                    stadium,
+                    file
+            );
+            stadiumMappingRepository.save(mapping);
+            stadium.getStadiumMappingList().add(mapping);
         }
     }
 
@@ -191,13 +188,40 @@ public class StadiumService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 경기장이 존재하지 않습니다."));
         validateOwnerOrAdmin(user, stadium);
 
+        stadiumAvailabilityService.deleteAllFor(stadiumId);
+
         List<StadiumMapping> mappings = stadiumMappingRepository.findAllByStadium_StadiumId(stadiumId);
         for (StadiumMapping mapping : mappings) {
             stadiumMappingRepository.delete(mapping);
             fileRepository.deleteById(mapping.getFile().getFileId());
+            storageService.deleteIfUnreferenced(mapping.getFile().getFilePath());
         }
 
         stadiumRepository.delete(stadium);
+        geoIndexService.removeStadiumAfterCommit(stadiumId);
+        stadiumListCache.invalidateAfterCommit();
+    }
+
+    // 주간 슬롯 직접 지정 (기본 슬롯 대체)
+    @Transactional
+    public void replaceSlots(String stadiumId, List<StadiumSlotRequest> slots, String userId) {
+        Users user = validateManager(userId);
+        Stadium stadium = stadiumRepository.findById(stadiumId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 경기장이 존재하지 않습니다."));
+        validateOwnerOrAdmin(user, stadium);
+
+        stadiumAvailabilityService.replaceSlots(stadium, slots);
+    }
+
+    // 휴무 구간 등록
+    @Transactional
+    public void addClosure(String stadiumId, StadiumClosureRequest req, String userId) {
+        Users user = validateManager(userId);
+        Stadium stadium = stadiumRepository.findById(stadiumId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 경기장이 존재하지 않습니다."));
+        validateOwnerOrAdmin(user, stadium);
+
+        stadiumAvailabilityService.addClosure(stadium, req);
     }
 
     public StadiumResponse getStadiumById(String stadiumId) {
@@ -207,20 +231,97 @@ public class StadiumService {
         return convertToDto(stadium);
     }
 
-    public List<StadiumResponse> getAll() {
-        return stadiumRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    // 경기장 목록 (지역/이름 검색 + 페이지). 페이지 조회 1번 + 이미지 매핑 일괄 조회 1번
+    public StadiumPageResponse getStadiums(String region, String keyword, int page, int size) {
+        region = isValid(region) ? region.trim() : null;
+        keyword = isValid(keyword) ? keyword.trim() : null;
+        page = Math.max(page, 0);
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        StadiumListCache.Key key = new StadiumListCache.Key(region, keyword, page, size);
+        StadiumPageResponse cached = stadiumListCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Page<Stadium> stadiums = stadiumRepository.findPage(region, keyword,
+                PageRequest.of(page, size, Sort.by("stadiumName", "stadiumId")));
+
+        Map<String, List<String>> imageUrls = loadImageUrls(stadiums.getContent().stream()
+                .map(Stadium::getStadiumId)
+                .toList());
+
+        List<StadiumResponse> content = stadiums.getContent().stream()
+                .map(stadium -> toResponse(stadium, imageUrls.getOrDefault(stadium.getStadiumId(), List.of())))
+                .toList();
+
+        StadiumPageResponse response = new StadiumPageResponse(
+                content, page, size, stadiums.getTotalElements(), stadiums.hasNext());
+        stadiumListCache.put(key, response);
+        return response;
     }
 
-    private StadiumResponse convertToDto(Stadium stadium) {
-        List<StadiumMapping> mappings = stadiumMappingRepository.findAllByStadium_StadiumId(stadium.getStadiumId());
+    // 주변 경기장 (가까운 순). 인덱스에 남은 삭제된 경기장은 정리
+    public List<NearbyStadiumResponse> getNearbyStadiums(double lat, double lng, double radiusKm, int limit) {
+        GeoIndexService.validateCoordinates(lat, lng);
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new IllegalArgumentException("검색 반경은 0보다 크고 " + (int) MAX_NEARBY_RADIUS_KM + "km 이하여야 합니다.");
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        List<GeoIndexService.GeoHit> hits = geoIndexService.searchStadiums(lat, lng, radiusKm, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
 
-        List<String> urls = mappings.stream()
+        List<String> stadiumIds = hits.stream().map(GeoIndexService.GeoHit::id).toList();
+        Map<String, Stadium> stadiums = stadiumRepository.findAllWithOwnerByStadiumIdIn(stadiumIds).stream()
+                .collect(Collectors.toMap(Stadium::getStadiumId, s -> s));
+        Map<String, List<String>> imageUrls = loadImageUrls(new ArrayList<>(stadiums.keySet()));
+
+        List<NearbyStadiumResponse> result = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (GeoIndexService.GeoHit hit : hits) {
+            Stadium stadium = stadiums.get(hit.id());
+            if (stadium == null) {
+                missing.add(hit.id());
+                continue;
+            }
+            result.add(new NearbyStadiumResponse(
+                    toResponse(stadium, imageUrls.getOrDefault(stadium.getStadiumId(), List.of())),
+                    hit.distanceKm()));
+        }
+        geoIndexService.removeStadiums(missing);
+        return result;
+    }
+
+    // 경기장별 이미지 URL (IN 쿼리 한 번)
+    private Map<String, List<String>> loadImageUrls(List<String> stadiumIds) {
+        Map<String, List<String>> imageUrls = new HashMap<>();
+        if (stadiumIds.isEmpty()) {
+            return imageUrls;
+        }
+        for (StadiumMapping mapping : stadiumMappingRepository.findAllWithFileByStadiumIds(stadiumIds)) {
+            imageUrls.computeIfAbsent(mapping.getStadiumMappingKey().getStadiumId(), id -> new ArrayList<>())
+                    .add(mapping.getFile().getFilePath());
+        }
+        return imageUrls;
+    }
+
+    private StadiumResponse convertToDto(Stadium stadium) {
+        List<String> urls = stadiumMappingRepository.findAllByStadium_StadiumId(stadium.getStadiumId()).stream()
                 .map(mapping -> mapping.getFile().getFilePath())
                 .collect(Collectors.toList());
+        return toResponse(stadium, urls);
+    }
 
-        System.out.println("매핑된 이미지 경로: " + urls);
+    private StadiumResponse toResponse(Stadium stadium, List<String> urls) {
+        List<String> thumbnailUrls = urls.stream()
+                .map(url -> imageVariantWorker.urlOf(url, ImageVariantWorker.Variant.THUMB))
+                .collect(Collectors.toList());
+        List<String> mediumUrls = urls.stream()
+                .map(url -> imageVariantWorker.urlOf(url, ImageVariantWorker.Variant.MEDIUM))
+                .collect(Collectors.toList());
 
         return StadiumResponse.builder()
                 .stadiumId(stadium.getStadiumId())
@@ -233,6 +334,8 @@ public class StadiumService {
                 .stadiumCost(stadium.getStadiumCost())
                 .ownerNickname(stadium.getOwner().getName())
                 .imageUrls(urls)
+                .thumbnailUrls(thumbnailUrls)
+                .mediumUrls(mediumUrls)
                 .build();
     }
 
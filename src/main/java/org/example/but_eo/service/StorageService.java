@@ -0,0 +1,141 @@
+package org.example.but_eo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.ImageVariantWorker;
+import org.example.but_eo.dto.StoredFile;
+import org.example.but_eo.entity.File;
+import org.example.but_eo.entity.Users;
+import org.example.but_eo.repository.FileRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 업로드 파일 저장소.
+ * 업로드 스트림을 임시 파일로 복사하면서 SHA-256 을 계산하고(힙에 파일 전체를 올리지 않음),
+ * uploads/{category}/{해시 앞 2자리}/{해시}.{확장자} 로 옮긴다. 같은 내용의 파일은 한 번만 저장된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageService {
+
+    public static final String BOARDS = "boards";
+    public static final String PROFILES = "profiles";
+    public static final String TEAMS = "teams";
+    public static final String STADIUMS = "stadiums";
+    public static final String CHATS = "chats";
+
+    private static final String URL_PREFIX = "/uploads/";
+
+    private final FileRepository fileRepository;
+    private final ImageVariantWorker imageVariantWorker;
+
+    public static Path uploadRoot() {
+        return Paths.get(System.getProperty("user.dir"), "uploads");
+    }
+
+    public StoredFile store(MultipartFile file, String category) {
+        Path root = uploadRoot();
+        Path tmp = root.resolve("tmp").resolve(UUID.randomUUID() + ".part");
+
+        try {
+            Files.createDirectories(tmp.getParent());
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            String relative = category + "/" + hash.substring(0, 2) + "/" + hash + extensionOf(file.getOriginalFilename());
+            Path target = root.resolve(relative);
+            Files.createDirectories(target.getParent());
+
+            if (Files.exists(target)) {
+                Files.delete(tmp); // 같은 내용이 이미 저장되어 있음
+            } else {
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.delete(tmp); // 동시에 같은 파일이 먼저 저장됨
+                }
+            }
+
+            String contentType = file.getContentType();
+            if (contentType == null || contentType.isBlank()) {
+                contentType = Files.probeContentType(target);
+            }
+            return new StoredFile(URL_PREFIX + relative, hash, size, contentType, file.getOriginalFilename());
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new RuntimeException("파일 저장 실패", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 저장 결과로 File 행 생성 (저장은 호출한 쪽에서)
+    public File toFileRecord(Users owner, StoredFile stored) {
+        String name = stored.getOriginalName();
+        if (name == null || name.isBlank()) {
+            name = "file";
+        } else if (name.length() > 50) {
+            name = name.substring(name.length() - 50); // 확장자가 남도록 뒤쪽 유지
+        }
+
+        File file = new File(UUID.randomUUID().toString(), owner, name, stored.getUrl(), LocalDateTime.now());
+        file.setFileSize(stored.getSize());
+        file.setContentType(stored.getContentType());
+        file.setSha256(stored.getSha256());
+        return file;
+    }
+
+    // 같은 경로를 가리키는 File 행이 더 이상 없을 때만 실제 파일 삭제 (내용이 같은 파일은 공유되므로)
+    public void deleteIfUnreferenced(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX) || fileRepository.existsByFilePath(url)) {
+            return;
+        }
+        Path path = uploadRoot().resolve(url.substring(URL_PREFIX.length())).normalize();
+        if (path.startsWith(uploadRoot())) {
+            deleteQuietly(path);
+            ImageVariantWorker.variantPaths(path).forEach(this::deleteQuietly);
+            imageVariantWorker.forget(url);
+        }
+    }
+
+    private String extensionOf(String originalName) {
+        if (originalName == null) {
+            return "";
+        }
+        int dot = originalName.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String ext = originalName.substring(dot + 1).toLowerCase();
+        return ext.matches("[a-z0-9]{1,5}") ? "." + ext : "";
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -65,6 +65,7 @@ public class TeamJoinService {
 
         TeamMember member = new TeamMember(new TeamMemberKey(targetUserId, teamId), user, team, TeamMember.Type.MEMBER, "팀원");
         teamMemberRepository.save(member);
+        teamRepository.addTotalMembers(team.getTeamId(), 1);
     }
 
     // 리더가 가입 신청 거절
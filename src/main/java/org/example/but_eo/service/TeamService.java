@@ -2,21 +2,28 @@ package org.example.but_eo.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.ImageVariantWorker;
+import org.example.but_eo.component.MatchQueue;
 import org.example.but_eo.dto.TeamJoinRequestDto;
+import org.example.but_eo.dto.TeamPageResponse;
 import org.example.but_eo.dto.TeamResponse;
+import org.example.but_eo.dto.TeamSummary;
 import org.example.but_eo.dto.UpdateTeamRequest;
 import org.example.but_eo.entity.*;
 import org.example.but_eo.repository.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TeamService {
@@ -26,6 +33,15 @@ public class TeamService {
     private final TeamMemberRepository teamMemberRepository;
     private final TeamInvitationRepository teamInvitationRepository;
     private final ReviewRepository reviewRepository;
+    private final TeamSummaryRepository teamSummaryRepository;
+    private final LeaderboardService leaderboardService;
+    private final StorageService storageService;
+    private final ImageVariantWorker imageVariantWorker;
+    private final MatchingRepository matchingRepository;
+    private final GeoIndexService geoIndexService;
+    private final MatchQueue matchQueue;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     private final Set<Team.Event> soloCompatibleEvents = Set.of(
             Team.Event.BADMINTON,
@@ -37,7 +53,7 @@ public class TeamService {
     // 팀 생성
     public void createTeam(String teamName, Team.Event event, String region,
                            int memberAge, Team.Team_Case teamCase, String teamDescription,
-                           MultipartFile teamImg, String userId) {
+                           MultipartFile teamImg, Double latitude, Double longitude, String userId) {
 
         if (teamRepository.existsByTeamName(teamName)) {
             throw new IllegalStateException("이미 존재하는 팀 이름입니다.");
@@ -47,6 +63,8 @@ public class TeamService {
             throw new IllegalStateException("이미 해당 종목의 팀에 소속되어 있습니다.");
         }
 
+        GeoIndexService.validateCoordinates(latitude, longitude);
+
         Users user = usersRepository.findByUserHashId(userId);
         String teamId = UUID.randomUUID().toString();
 
@@ -60,6 +78,8 @@ public class TeamService {
         team.setTeamName(teamName);
         team.setEvent(event);
         team.setRegion(region);
+        team.setLatitude(latitude);
+        team.setLongitude(longitude);
         team.setMemberAge(memberAge);
         team.setTeamCase(teamCase);
         team.setTeamDescription(teamDescription);
@@ -74,6 +94,7 @@ public class TeamService {
         team.setTeamType(Team.Team_Type.TEAM);
 
         teamRepository.save(team);
+        leaderboardService.syncAfterCommit(team);
 
         TeamMember teamMember = new TeamMember();
         teamMember.setTeamMemberKey(new TeamMemberKey(userId, teamId));
@@ -122,6 +143,21 @@ public class TeamService {
 
         if (req.getTeamName() != null) team.setTeamName(req.getTeamName());
         if (req.getRegion() != null) team.setRegion(req.getRegion());
+        if (req.getLatitude() != null || req.getLongitude() != null) {
+            GeoIndexService.validateCoordinates(req.getLatitude(), req.getLongitude());
+            boolean moved = !Objects.equals(team.getLatitude(), req.getLatitude())
+                    || !Objects.equals(team.getLongitude(), req.getLongitude());
+            team.setLatitude(req.getLatitude());
+            team.setLongitude(req.getLongitude());
+            if (moved) {
+                // 경기장 좌표가 없는 대기 매치는 팀 좌표로 검색되므로 새 위치로 다시 등록 (도전 팀이 정해진 매치는 인덱스 대상 아님)
+                for (Matching matching : matchingRepository.findByTeam_TeamIdAndState(teamId, Matching.State.WAITING)) {
+                    if (matching.getChallengerTeam() == null && !GeoIndexService.hasStadiumPosition(matching)) {
+                        geoIndexService.addMatchingAfterCommit(matching);
+                    }
+                }
+            }
+        }
         if (req.getMemberAge() != null) team.setMemberAge(req.getMemberAge());
         if (req.getTeamCase() != null) team.setTeamCase(Team.Team_Case.valueOf(req.getTeamCase()));
         if (req.getTeamDescription() != null) team.setTeamDescription(req.getTeamDescription());
@@ -133,6 +169,7 @@ public class TeamService {
 
         teamRepository.save(team);
         teamRepository.flush();
+        leaderboardService.syncAfterCommit(team);
     }
 
     // 팀 삭제
@@ -154,25 +191,92 @@ public class TeamService {
 
         team.setState(Team.State.DELETED);
         teamRepository.save(team);
+        leaderboardService.syncAfterCommit(team);
+        cancelAutoMatchAfterCommit(teamId);
     }
 
-    // 팀 목록 조회 (필터 적용)
-    public List<TeamResponse> getFilteredTeams(String event, String region, String teamType, String teamCase, String teamName) {
-        return teamRepository.findAllByState(Team.State.ACTIVE).stream()
-                .filter(team -> event == null || team.getEvent().name().equalsIgnoreCase(event))
-                .filter(team -> region == null || team.getRegion().contains(region))
-                .filter(team -> teamType == null || team.getTeamType().name().equalsIgnoreCase(teamType))
-                .filter(team -> teamCase == null || (team.getTeamCase() != null && team.getTeamCase().name().equalsIgnoreCase(teamCase)))
-                .filter(team -> teamName == null || team.getTeamName().contains(teamName))
-                .map(TeamResponse::from)
-                .collect(Collectors.toList());
+    // 자동 매칭 대기 중이던 팀이면 대기열에서 제거
+    private void cancelAutoMatchAfterCommit(String teamId) {
+        Runnable cancel = () -> {
+            try {
+                matchQueue.cancel(teamId);
+            } catch (Exception e) {
+                log.warn("삭제된 팀 자동 매칭 대기 취소 실패. teamId={}", teamId, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cancel.run();
+                }
+            });
+        } else {
+            cancel.run();
+        }
+    }
+
+    // 팀 목록 조회 (필터 적용, 레이팅 높은 순 keyset 페이지)
+    public TeamPageResponse getFilteredTeams(String event, String region, String teamType, String teamCase,
+                                             String teamName, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Integer cursorRating = null;
+        String cursorTeamId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorRating = Integer.parseInt(parts[0]);
+            cursorTeamId = parts[1];
+        }
+
+        Specification<Team> spec = Specification.where(TeamSpecifications.hasState(Team.State.ACTIVE))
+                .and(TeamSpecifications.hasEvent(event == null ? null : Team.Event.from(event)))
+                .and(TeamSpecifications.regionContains(region))
+                .and(TeamSpecifications.hasTeamType(teamType == null ? null : Team.Team_Type.from(teamType)))
+                .and(TeamSpecifications.hasTeamCase(teamCase == null ? null : Team.Team_Case.from(teamCase)))
+                .and(TeamSpecifications.nameContains(teamName))
+                .and(TeamSpecifications.after(cursorRating, cursorTeamId));
+
+        // 한 건 더 조회해서 다음 페이지 여부 판단 (count 쿼리 없음)
+        List<TeamSummary> teams = teamSummaryRepository.findSummaries(spec, pageSize + 1);
+
+        boolean hasMore = teams.size() > pageSize;
+        if (hasMore) {
+            teams = teams.subList(0, pageSize);
+        }
+
+        withThumbnails(teams);
+        TeamSummary last = teams.isEmpty() ? null : teams.get(teams.size() - 1);
+        String nextCursor = hasMore ? encodeCursor(last.getRating(), last.getTeamId()) : null;
+        return new TeamPageResponse(teams, nextCursor, hasMore);
+    }
+
+    private String encodeCursor(int rating, String teamId) {
+        String raw = rating + "|" + teamId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            Integer.parseInt(parts[0]);
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
 
     // 팀 단일 조회
     public TeamResponse getTeamDetail(String teamId, String userId) {
-        Team team = teamRepository.findWithMembersByTeamIdAndState(teamId, Team.State.ACTIVE)
+        Team team = teamRepository.findWithMembersByTeamId(teamId)
+                .filter(t -> t.getState() == Team.State.ACTIVE)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않거나 삭제된 팀입니다."));
         TeamResponse response = TeamResponse.from(team);
+        response.setTeamImgThumbnail(imageVariantWorker.urlOf(team.getTeamImg(), ImageVariantWorker.Variant.THUMB));
+        response.setTeamImgMedium(imageVariantWorker.urlOf(team.getTeamImg(), ImageVariantWorker.Variant.MEDIUM));
 
         // 1. 팀 멤버인지
         boolean isMember = teamMemberRepository.existsByUser_UserHashIdAndTeam_TeamId(userId, teamId);
@@ -204,36 +308,27 @@ public class TeamService {
     }
 
     // 리더로 있는 팀 목록 조회
-    public List<TeamResponse> getTeamsWhereUserIsLeader(String userId) {
-        List<TeamMember> leaderMemberships = teamMemberRepository.findAllByUser_UserHashIdAndType(userId, TeamMember.Type.LEADER);
-        return leaderMemberships.stream()
-                .map(TeamMember::getTeam)
-                .map(TeamResponse::from)
-                .collect(Collectors.toList());
+    public List<TeamSummary> getTeamsWhereUserIsLeader(String userId) {
+        return withThumbnails(teamRepository.findSummariesByMember(userId, TeamMember.Type.LEADER, Team.State.ACTIVE));
     }
 
     // 내가 속한 팀 목록
-    public List<TeamResponse> getTeamsWhereUserIsMember(String userId) {
-        List<TeamMember> memberships = teamMemberRepository.findAllByUser_UserHashId(userId);
-        return memberships.stream()
-                .map(TeamMember::getTeam)
-                .filter(team -> team.getState() == Team.State.ACTIVE)
-                .map(TeamResponse::from)
-                .collect(Collectors.toList());
+    public List<TeamSummary> getTeamsWhereUserIsMember(String userId) {
+        return withThumbnails(teamRepository.findSummariesByMember(userId, null, Team.State.ACTIVE));
+    }
+
+    // 목록 카드용 썸네일 URL (파생본이 아직 없으면 원본)
+    private List<TeamSummary> withThumbnails(List<TeamSummary> teams) {
+        teams.forEach(team -> team.setTeamImgThumbnail(
+                imageVariantWorker.urlOf(team.getTeamImg(), ImageVariantWorker.Variant.THUMB)));
+        return teams;
     }
 
     // 내부 이미지 저장 헬퍼
     private String saveImage(MultipartFile file) {
-        try {
-            String uploadDir = System.getProperty("user.dir") + "/uploads/teams/";
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
-            Files.createDirectories(filePath.getParent());
-            Files.write(filePath, file.getBytes());
-            return "/uploads/teams/" + fileName;
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패", e);
-        }
+        String url = storageService.store(file, StorageService.TEAMS).getUrl();
+        imageVariantWorker.schedule(url);
+        return url;
     }
 
     //
@@ -266,8 +361,11 @@ public class TeamService {
                 .collect(Collectors.toList());
     }
 
+    // 자동 매칭 대상 팀 (삭제된 팀 제외)
     public List<Team> getMatchedTeams(String teamA, String teamB) {
-        return teamMemberRepository.findMatchedTeams(teamA, teamB);
+        return teamRepository.findAllById(List.of(teamA, teamB)).stream()
+                .filter(team -> team.getState() == Team.State.ACTIVE)
+                .toList();
     }
 
     public String getLeaderHashId(String teamId) {
@@ -1,15 +1,11 @@
 package org.example.but_eo.service;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.but_eo.component.ImageVariantWorker;
 import org.example.but_eo.dto.*;
 import org.example.but_eo.entity.TeamMember;
 import org.example.but_eo.entity.Users;
@@ -43,6 +39,9 @@ public class UsersService {
     private final NotificationRepository notificationRepository;
     private final FileRepository fileRepository;
     private final TeamInvitationRepository teamInvitationRepository;
+    private final TeamRepository teamRepository;
+    private final StorageService storageService;
+    private final ImageVariantWorker imageVariantWorker;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
 
@@ -184,18 +183,9 @@ public class UsersService {
     // 프로필 이미지 저장
     private String saveProfileImage(MultipartFile file) {
         validateImageFile(file);
-        try {
-            String uploadDir = System.getProperty("user.dir") + "/uploads/profiles/";
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
-
-            Files.createDirectories(filePath.getParent());
-            file.transferTo(filePath.toFile());
-
-            return "/uploads/profiles/" + fileName;
-        } catch (IOException e) {
-            throw new RuntimeException("프로필 이미지 저장 실패", e);
-        }
+        String url = storageService.store(file, StorageService.PROFILES).getUrl();
+        imageVariantWorker.schedule(url);
+        return url;
     }
 
     // 이미지 파일 검증
@@ -288,6 +278,9 @@ public class UsersService {
 
     // 사용자와 연관된 모든 데이터를 삭제하는 헬퍼 메서드
     private void deleteRelatedUserData(Users user) {
+        for (TeamMember membership : teamMemberRepository.findAllByUser(user)) {
+            teamRepository.addTotalMembers(membership.getTeamMemberKey().getTeamId(), -1);
+        }
         teamMemberRepository.deleteAllByUser(user);
         commentRepository.deleteAllByUser(user);
         boardRepository.deleteAllByUser(user);
@@ -313,6 +306,7 @@ public class UsersService {
                 user.getPreferSports(),
                 user.getGender(),
                 user.getProfile(),
+                imageVariantWorker.urlOf(user.getProfile(), ImageVariantWorker.Variant.THUMB),
                 user.getBirth(),
                 user.getBadmintonScore(),
                 user.getTennisScore(),
@@ -340,6 +334,7 @@ public class UsersService {
                 user.getPreferSports(),
                 user.getGender(),
                 user.getProfile(),
+                imageVariantWorker.urlOf(user.getProfile(), ImageVariantWorker.Variant.THUMB),
                 user.getBirth(),
                 user.getBadmintonScore(),
                 user.getTennisScore(),
@@ -0,0 +1,59 @@
+package org.example.but_eo.util;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 서로 겹치지 않는 [start, end) 구간 집합 (시작 시각 기준 TreeMap).
+ * 구간이 겹치지 않으므로 "시작이 end 보다 앞선 마지막 구간"만 보면 겹침 여부를 O(log n) 에 판단할 수 있다.
+ * 동기화는 호출하는 쪽에서 한다.
+ */
+public class IntervalSet {
+
+    private final TreeMap<LocalDateTime, LocalDateTime> intervals = new TreeMap<>();
+
+    // 겹치는 구간이 있으면 하나로 합쳐서 추가 (휴무 구간용)
+    public void addMerged(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime mergedStart = start;
+        LocalDateTime mergedEnd = end;
+
+        Map.Entry<LocalDateTime, LocalDateTime> entry = intervals.floorEntry(start);
+        if (entry != null && !entry.getValue().isBefore(start)) {
+            mergedStart = entry.getKey();
+            if (entry.getValue().isAfter(mergedEnd)) {
+                mergedEnd = entry.getValue();
+            }
+        }
+
+        // 새 구간 안에서 시작하는 구간은 모두 흡수
+        entry = intervals.ceilingEntry(mergedStart);
+        while (entry != null && !entry.getKey().isAfter(mergedEnd)) {
+            if (entry.getValue().isAfter(mergedEnd)) {
+                mergedEnd = entry.getValue();
+            }
+            intervals.remove(entry.getKey());
+            entry = intervals.ceilingEntry(mergedStart);
+        }
+
+        intervals.put(mergedStart, mergedEnd);
+    }
+
+    // 겹치지 않는 구간 추가 (예약용). 겹치면 false
+    public boolean add(LocalDateTime start, LocalDateTime end) {
+        if (overlaps(start, end)) {
+            return false;
+        }
+        intervals.put(start, end);
+        return true;
+    }
+
+    public void remove(LocalDateTime start) {
+        intervals.remove(start);
+    }
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        Map.Entry<LocalDateTime, LocalDateTime> entry = intervals.lowerEntry(end);
+        return entry != null && entry.getValue().isAfter(start);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.entity.Team;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EloRatingEngineTest {
+
+    private final EloRatingEngine engine = new EloRatingEngine();
+
+    @Test
+    void 모든_종목과_결과에서_점수_합이_보존된다() {
+        double[][] ratings = {{1500, 1500}, {1800, 1200}, {1000, 2400}, {1234.5, 1678.9}};
+        double[] scores = {1, 0.5, 0};
+        for (Team.Event event : Team.Event.values()) {
+            for (double[] pair : ratings) {
+                for (double score : scores) {
+                    RatingState a = state(pair[0]);
+                    RatingState b = state(pair[1]);
+
+                    engine.apply(a, b, score, event);
+
+                    assertThat(a.getRating() + b.getRating()).isCloseTo(pair[0] + pair[1], within(1e-9));
+                }
+            }
+        }
+    }
+
+    @Test
+    void 같은_점수끼리_이기면_K의_절반을_얻는다() {
+        RatingState a = state(1500);
+        RatingState b = state(1500);
+
+        engine.apply(a, b, 1, Team.Event.SOCCER);
+
+        assertThat(a.getRating()).isCloseTo(1516, within(1e-9));
+        assertThat(b.getRating()).isCloseTo(1484, within(1e-9));
+    }
+
+    @Test
+    void 같은_점수끼리_비기면_변하지_않는다() {
+        RatingState a = state(1500);
+        RatingState b = state(1500);
+
+        engine.apply(a, b, 0.5, Team.Event.SOCCER);
+
+        assertThat(a.getRating()).isCloseTo(1500, within(1e-9));
+        assertThat(b.getRating()).isCloseTo(1500, within(1e-9));
+    }
+
+    @Test
+    void 종목별_K_값을_적용한다() {
+        RatingState a = state(1500);
+        RatingState b = state(1500);
+
+        engine.apply(a, b, 1, Team.Event.TENNIS);
+
+        assertThat(a.getRating()).isCloseTo(1520, within(1e-9));
+    }
+
+    @Test
+    void 약팀이_이기면_강팀이_이길_때보다_많이_얻는다() {
+        RatingState underdog = state(1300);
+        RatingState favorite = state(1700);
+        engine.apply(underdog, favorite, 1, Team.Event.SOCCER);
+        double upsetGain = underdog.getRating() - 1300;
+
+        RatingState favorite2 = state(1700);
+        RatingState underdog2 = state(1300);
+        engine.apply(favorite2, underdog2, 1, Team.Event.SOCCER);
+        double expectedGain = favorite2.getRating() - 1700;
+
+        assertThat(upsetGain).isGreaterThan(expectedGain);
+        assertThat(upsetGain + expectedGain).isCloseTo(32, within(1e-9));
+    }
+
+    private static RatingState state(double rating) {
+        return new RatingState(rating, 350, 0.06);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.entity.Team;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class Glicko2RatingEngineTest {
+
+    private final Glicko2RatingEngine engine = new Glicko2RatingEngine();
+
+    // Glickman, "Example of the Glicko-2 system" (tau = 0.5)
+    @Test
+    void 논문_예제와_같은_값을_낸다() {
+        RatingState player = new RatingState(1500, 200, 0.06);
+
+        engine.ratePeriod(player,
+                List.of(new RatingState(1400, 30, 0.06),
+                        new RatingState(1550, 100, 0.06),
+                        new RatingState(1700, 300, 0.06)),
+                List.of(1.0, 0.0, 0.0));
+
+        assertThat(player.getRating()).isCloseTo(1464.06, within(0.01));
+        assertThat(player.getDeviation()).isCloseTo(151.52, within(0.01));
+        assertThat(player.getVolatility()).isCloseTo(0.05999, within(1e-5));
+    }
+
+    @Test
+    void 이긴_쪽은_오르고_진_쪽은_내리며_편차가_줄어든다() {
+        RatingState a = RatingState.initial();
+        RatingState b = RatingState.initial();
+        double rating = a.getRating();
+        double deviation = a.getDeviation();
+
+        engine.apply(a, b, 1, Team.Event.SOCCER);
+
+        assertThat(a.getRating()).isGreaterThan(rating);
+        assertThat(b.getRating()).isLessThan(rating);
+        assertThat(a.getRating() - rating).isCloseTo(rating - b.getRating(), within(1e-9));
+        assertThat(a.getDeviation()).isLessThan(deviation);
+        assertThat(b.getDeviation()).isLessThan(deviation);
+    }
+
+    @Test
+    void 두_팀_모두_경기_전_값으로_계산한다() {
+        RatingState a = new RatingState(1600, 80, 0.06);
+        RatingState b = new RatingState(1450, 120, 0.06);
+        RatingState aAlone = new RatingState(1600, 80, 0.06);
+        RatingState bAlone = new RatingState(1450, 120, 0.06);
+
+        engine.apply(a, b, 0, Team.Event.TENNIS);
+        engine.ratePeriod(aAlone, List.of(new RatingState(1450, 120, 0.06)), List.of(0.0));
+        engine.ratePeriod(bAlone, List.of(new RatingState(1600, 80, 0.06)), List.of(1.0));
+
+        assertThat(a.getRating()).isCloseTo(aAlone.getRating(), within(1e-9));
+        assertThat(b.getRating()).isCloseTo(bAlone.getRating(), within(1e-9));
+    }
+
+    // delta^2 > phi^2 + v 인 큰 이변: Illinois 반복이 끝나고 유한한 값이 나와야 함
+    @Test
+    void 큰_이변에서도_변동성_계산이_수렴한다() {
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            RatingState underdog = new RatingState(800, 30, 0.06);
+            RatingState favorite = new RatingState(2800, 30, 0.06);
+
+            engine.apply(underdog, favorite, 1, Team.Event.SOCCER);
+
+            assertFinite(underdog);
+            assertFinite(favorite);
+            assertThat(underdog.getRating()).isGreaterThan(800);
+            assertThat(favorite.getRating()).isLessThan(2800);
+            assertThat(underdog.getVolatility()).isGreaterThan(0.06);
+        });
+    }
+
+    @Test
+    void 예상대로_끝나면_변동성이_거의_변하지_않는다() {
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            RatingState favorite = new RatingState(2000, 50, 0.06);
+            RatingState underdog = new RatingState(1000, 50, 0.06);
+
+            engine.apply(favorite, underdog, 1, Team.Event.SOCCER);
+
+            assertFinite(favorite);
+            assertFinite(underdog);
+            assertThat(favorite.getVolatility()).isCloseTo(0.06, within(1e-3));
+            assertThat(underdog.getVolatility()).isCloseTo(0.06, within(1e-3));
+        });
+    }
+
+    @Test
+    void 편차는_최대값을_넘지_않는다() {
+        RatingState a = new RatingState(1500, 350, 0.5);
+        RatingState b = new RatingState(1500, 350, 0.5);
+
+        engine.apply(a, b, 0.5, Team.Event.BASEBALL);
+
+        assertFinite(a);
+        assertThat(a.getDeviation()).isLessThanOrEqualTo(350);
+    }
+
+    private static void assertFinite(RatingState state) {
+        assertThat(Double.isFinite(state.getRating())).isTrue();
+        assertThat(Double.isFinite(state.getDeviation())).isTrue();
+        assertThat(state.getVolatility()).isPositive().isLessThan(1.0);
+    }
+}
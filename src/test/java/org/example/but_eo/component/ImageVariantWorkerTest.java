@@ -0,0 +1,126 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.component.ImageVariantWorker.Variant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ImageVariantWorkerTest {
+
+    private static final String URL = "/uploads/teams/ab/abcdef.png";
+
+    @TempDir
+    Path workDir;
+
+    private String originalUserDir;
+    private ImageVariantWorker worker;
+    private Path original;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 업로드 루트는 user.dir/uploads
+        originalUserDir = System.getProperty("user.dir");
+        System.setProperty("user.dir", workDir.toString());
+        original = workDir.resolve("uploads/teams/ab/abcdef.png");
+        Files.createDirectories(original.getParent());
+
+        worker = new ImageVariantWorker();
+        ReflectionTestUtils.setField(worker, "scanTtlMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+        System.setProperty("user.dir", originalUserDir);
+    }
+
+    @Test
+    void 큰_이미지는_썸네일과_중간_크기_파생본을_만든다() throws IOException {
+        writePng(original, 1600, 1200);
+
+        worker.schedule(URL);
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> !worker.urlOf(URL, Variant.MEDIUM).equals(URL));
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo("/uploads/teams/ab/abcdef_thumb.jpg");
+        assertThat(worker.urlOf(URL, Variant.MEDIUM)).isEqualTo("/uploads/teams/ab/abcdef_medium.jpg");
+
+        BufferedImage thumb = ImageIO.read(workDir.resolve("uploads/teams/ab/abcdef_thumb.jpg").toFile());
+        assertThat(thumb.getWidth()).isEqualTo(200);
+        assertThat(thumb.getHeight()).isEqualTo(150);
+    }
+
+    @Test
+    void 원본이_충분히_작으면_원본_URL을_쓴다() throws IOException {
+        writePng(original, 120, 80);
+
+        worker.schedule(URL);
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> ((Set<?>) ReflectionTestUtils.getField(worker, "inFlight")).isEmpty());
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo(URL);
+        assertThat(Files.exists(workDir.resolve("uploads/teams/ab/abcdef_thumb.jpg"))).isFalse();
+    }
+
+    // 확인 당시 파생본이 없었다고 해서 계속 원본만 내려주면 안 됨
+    @Test
+    void 빠진_파생본은_TTL이_지나면_다시_확인한다() throws IOException {
+        writePng(original, 1600, 1200);
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo(URL);
+
+        writePng(workDir.resolve("uploads/teams/ab/abcdef_thumb.jpg"), 200, 150);
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo(URL); // TTL 안에서는 기록 사용
+
+        ReflectionTestUtils.setField(worker, "scanTtlMillis", 0L);
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo("/uploads/teams/ab/abcdef_thumb.jpg");
+    }
+
+    @Test
+    void 생성_결과는_만료되지_않는다() throws IOException {
+        writePng(original, 1600, 1200);
+        worker.schedule(URL);
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> !worker.urlOf(URL, Variant.MEDIUM).equals(URL));
+
+        ReflectionTestUtils.setField(worker, "scanTtlMillis", 0L);
+        Files.delete(workDir.resolve("uploads/teams/ab/abcdef_thumb.jpg"));
+
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo("/uploads/teams/ab/abcdef_thumb.jpg");
+    }
+
+    @Test
+    void 삭제된_원본의_기록을_지운다() throws IOException {
+        writePng(original, 1600, 1200);
+        writePng(workDir.resolve("uploads/teams/ab/abcdef_thumb.jpg"), 200, 150);
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo("/uploads/teams/ab/abcdef_thumb.jpg");
+
+        Files.delete(workDir.resolve("uploads/teams/ab/abcdef_thumb.jpg"));
+        worker.forget(URL);
+
+        assertThat(worker.urlOf(URL, Variant.THUMB)).isEqualTo(URL);
+    }
+
+    @Test
+    void 업로드_경로가_아니면_그대로_돌려준다() {
+        assertThat(worker.urlOf(null, Variant.THUMB)).isNull();
+        assertThat(worker.urlOf("https://example.com/a.png", Variant.THUMB)).isEqualTo("https://example.com/a.png");
+        assertThat(worker.urlOf("/uploads/../secret.png", Variant.THUMB)).isEqualTo("/uploads/../secret.png");
+    }
+
+    private static void writePng(Path path, int width, int height) throws IOException {
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", path.toFile());
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.component.MatchPairSelector.Pair;
+import org.example.but_eo.component.MatchPairSelector.Queued;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MatchPairSelectorTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    void 범위_안에서_점수가_가장_가까운_상대를_고른다() {
+        Queued team = new Queued("a", 1000, NOW);
+
+        Optional<Pair> pair = MatchPairSelector.select(NOW, List.of(team), List.of(
+                team,
+                new Queued("b", 930, NOW),
+                new Queued("c", 1040, NOW),
+                new Queued("d", 1050, NOW)));
+
+        assertThat(pair).hasValueSatisfying(p -> assertThat(p.opponent().teamId()).isEqualTo("c"));
+    }
+
+    @Test
+    void 점수_차가_같으면_점수순으로_앞선_상대를_고른다() {
+        Queued team = new Queued("a", 1000, NOW);
+
+        Optional<Pair> pair = MatchPairSelector.select(NOW, List.of(team), List.of(
+                new Queued("b", 950, NOW), team, new Queued("c", 1050, NOW)));
+
+        assertThat(pair).hasValueSatisfying(p -> assertThat(p.opponent().teamId()).isEqualTo("b"));
+    }
+
+    @Test
+    void 대기_시간이_길수록_허용_범위가_넓어진다() {
+        assertThat(MatchPairSelector.window(NOW, NOW)).isCloseTo(100, within(1e-9));
+        assertThat(MatchPairSelector.window(NOW, NOW - 20_000)).isCloseTo(200, within(1e-9));
+        assertThat(MatchPairSelector.window(NOW, NOW - 3_600_000)).isCloseTo(500, within(1e-9));
+
+        Queued fresh = new Queued("a", 1000, NOW);
+        Queued waited = new Queued("a", 1000, NOW - 40_000);
+        List<Queued> opponents = List.of(new Queued("b", 1250, NOW));
+
+        assertThat(MatchPairSelector.select(NOW, List.of(fresh), opponents)).isEmpty();
+        assertThat(MatchPairSelector.select(NOW, List.of(waited), opponents)).isPresent();
+    }
+
+    @Test
+    void 오래_기다린_팀부터_상대를_찾는다() {
+        Queued older = new Queued("old", 1000, NOW - 10_000);
+        Queued newer = new Queued("new", 1200, NOW);
+        Queued opponent = new Queued("x", 1190, NOW);
+
+        Optional<Pair> pair = MatchPairSelector.select(NOW, List.of(older, newer), List.of(older, opponent, newer));
+
+        // 범위 안에 상대가 없는 팀은 건너뛰고 다음 팀을 확인
+        assertThat(pair).hasValueSatisfying(p -> {
+            assertThat(p.team().teamId()).isEqualTo("new");
+            assertThat(p.opponent().teamId()).isEqualTo("x");
+        });
+    }
+
+    // 여러 스레드가 등록/매칭/취소를 섞어 호출해도 팀이 유실되거나 두 번 매칭되지 않아야 한다
+    @Test
+    void 동시에_매칭해도_팀이_유실되거나_중복_매칭되지_않는다() throws Exception {
+        int threads = 8;
+        int teamsPerThread = 500;
+        InMemoryMatchQueue queue = new InMemoryMatchQueue();
+        Set<String> pairedTeams = ConcurrentHashMap.newKeySet();
+        Set<String> cancelledTeams = ConcurrentHashMap.newKeySet();
+        List<String> doubleMatched = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int worker = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < teamsPerThread; i++) {
+                        String teamId = worker + "-" + i;
+                        String region = random.nextBoolean() ? "Seoul" : "Busan";
+                        long since = NOW - random.nextLong(120_000);
+                        assertThat(queue.enqueue(teamId, region, 800 + random.nextInt(800), since)).isTrue();
+
+                        Optional<Pair> pair = random.nextInt(4) == 0
+                                ? queue.pair("Seoul", "Busan", NOW - 60_000)
+                                : queue.pair(region, region, NOW);
+                        pair.ifPresent(p -> {
+                            for (String id : List.of(p.team().teamId(), p.opponent().teamId())) {
+                                if (!pairedTeams.add(id)) {
+                                    synchronized (doubleMatched) {
+                                        doubleMatched.add(id);
+                                    }
+                                }
+                            }
+                        });
+                        if (random.nextInt(10) == 0) {
+                            String victim = worker + "-" + random.nextInt(i + 1);
+                            if (queue.cancel(victim)) {
+                                cancelledTeams.add(victim);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<String> queued = queue.queuedTeams();
+        assertThat(doubleMatched).isEmpty();
+        assertThat(pairedTeams).doesNotContainAnyElementsOf(queued);
+        assertThat(pairedTeams).doesNotContainAnyElementsOf(cancelledTeams);
+        assertThat(queued).doesNotContainAnyElementsOf(cancelledTeams);
+        assertThat(pairedTeams.size() + queued.size() + cancelledTeams.size()).isEqualTo(threads * teamsPerThread);
+        assertThat(pairedTeams).isNotEmpty();
+        assertThat(queue.consistent()).isTrue();
+    }
+
+    /**
+     * MatchQueue 의 Redis 키 구조(점수/대기 시작 ZSET, 팀 -> 대기열 HASH)를 그대로 옮긴 메모리 대기열.
+     * Redis 가 Lua 스크립트를 하나씩 실행하듯 각 연산을 하나의 잠금 안에서 처리한다.
+     */
+    private static class InMemoryMatchQueue {
+
+        private final Map<String, Map<String, Double>> ratings = new HashMap<>();
+        private final Map<String, Map<String, Long>> sinces = new HashMap<>();
+        private final Map<String, String> queuedTeams = new HashMap<>();
+
+        // ENQUEUE_SCRIPT
+        synchronized boolean enqueue(String teamId, String region, double rating, long since) {
+            if (queuedTeams.containsKey(teamId)) {
+                return false;
+            }
+            ratings.computeIfAbsent(region, k -> new HashMap<>()).put(teamId, rating);
+            sinces.computeIfAbsent(region, k -> new HashMap<>()).put(teamId, since);
+            queuedTeams.put(teamId, region);
+            return true;
+        }
+
+        // PAIR_SCRIPT
+        synchronized Optional<Pair> pair(String region, String opponentRegion, long enqueuedBefore) {
+            List<Queued> oldest = queued(region).stream()
+                    .filter(q -> q.since() <= enqueuedBefore)
+                    .sorted(Comparator.comparingLong(Queued::since).thenComparing(Queued::teamId))
+                    .limit(MatchPairSelector.PAIR_SCAN_LIMIT)
+                    .toList();
+            List<Queued> opponents = queued(opponentRegion).stream()
+                    .sorted(Comparator.comparingDouble(Queued::rating).thenComparing(Queued::teamId))
+                    .toList();
+
+            Optional<Pair> pair = MatchPairSelector.select(NOW, oldest, opponents);
+            pair.ifPresent(p -> {
+                remove(p.team().teamId(), region);
+                remove(p.opponent().teamId(), opponentRegion);
+            });
+            return pair;
+        }
+
+        // CANCEL_SCRIPT
+        synchronized boolean cancel(String teamId) {
+            String region = queuedTeams.get(teamId);
+            if (region == null) {
+                return false;
+            }
+            remove(teamId, region);
+            return true;
+        }
+
+        synchronized Set<String> queuedTeams() {
+            return new HashSet<>(queuedTeams.keySet());
+        }
+
+        // 세 구조가 같은 팀 집합을 가리키는지
+        synchronized boolean consistent() {
+            Set<String> inRatings = new HashSet<>();
+            Set<String> inSinces = new HashSet<>();
+            ratings.values().forEach(m -> inRatings.addAll(m.keySet()));
+            sinces.values().forEach(m -> inSinces.addAll(m.keySet()));
+            return inRatings.equals(queuedTeams.keySet()) && inSinces.equals(queuedTeams.keySet());
+        }
+
+        private List<Queued> queued(String region) {
+            Map<String, Double> regionRatings = ratings.getOrDefault(region, Map.of());
+            Map<String, Long> regionSinces = sinces.getOrDefault(region, Map.of());
+            List<Queued> result = new ArrayList<>();
+            regionRatings.forEach((teamId, rating) -> result.add(new Queued(teamId, rating, regionSinces.get(teamId))));
+            return result;
+        }
+
+        private void remove(String teamId, String region) {
+            ratings.get(region).remove(teamId);
+            sinces.get(region).remove(teamId);
+            queuedTeams.remove(teamId);
+        }
+    }
+}
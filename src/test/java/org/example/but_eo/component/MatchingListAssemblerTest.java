@@ -0,0 +1,101 @@
+package org.example.but_eo.component;
+
+import org.example.but_eo.dto.MatchingListResponse;
+import org.example.but_eo.entity.ChallengerKey;
+import org.example.but_eo.entity.ChallengerList;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.entity.Team;
+import org.example.but_eo.repository.ChallengerListRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchingListAssemblerTest {
+
+    private final ChallengerListRepository challengerListRepository = mock(ChallengerListRepository.class);
+    private final MatchingListAssembler assembler = new MatchingListAssembler(challengerListRepository);
+
+    // 도전 팀 조회는 페이지 크기와 관계없이 IN 청크(500)당 한 번
+    @ParameterizedTest
+    @CsvSource({"1, 1", "50, 1", "500, 1", "501, 2", "1000, 2", "1234, 3"})
+    void 도전_팀_조회_횟수는_페이지_크기와_무관하다(int matchCount, int expectedQueries) {
+        when(challengerListRepository.findAllWithTeamByMatchIdIn(anyCollection())).thenReturn(List.of());
+
+        List<MatchingListResponse> responses = assembler.toResponses(matchings(matchCount));
+
+        assertThat(responses).hasSize(matchCount);
+        verify(challengerListRepository, times(expectedQueries)).findAllWithTeamByMatchIdIn(anyCollection());
+    }
+
+    @Test
+    void 페이지도_한_번에_조회한다() {
+        when(challengerListRepository.findAllWithTeamByMatchIdIn(anyCollection())).thenReturn(List.of());
+        Page<Matching> page = new PageImpl<>(matchings(50), PageRequest.of(0, 50), 200);
+
+        Page<MatchingListResponse> responses = assembler.toResponses(page);
+
+        assertThat(responses.getContent()).hasSize(50);
+        assertThat(responses.getTotalElements()).isEqualTo(200);
+        verify(challengerListRepository, times(1)).findAllWithTeamByMatchIdIn(anyCollection());
+    }
+
+    @Test
+    void 빈_목록이면_조회하지_않는다() {
+        assertThat(assembler.toResponses(List.<Matching>of())).isEmpty();
+        verify(challengerListRepository, never()).findAllWithTeamByMatchIdIn(anyCollection());
+    }
+
+    @Test
+    void 도전_팀을_매치별로_나눠_담는다() {
+        List<Matching> matchings = matchings(3);
+        Team challenger = team("challenger");
+        when(challengerListRepository.findAllWithTeamByMatchIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            assertThat(ids).containsExactly("match-0", "match-1", "match-2");
+            return List.of(new ChallengerList(new ChallengerKey("match-1", "challenger"), challenger, matchings.get(1)));
+        });
+
+        List<MatchingListResponse> responses = assembler.toResponses(matchings);
+
+        assertThat(responses.get(0).getChallengerTeams()).isEmpty();
+        assertThat(responses.get(1).getChallengerTeams()).hasSize(1);
+        assertThat(responses.get(2).getChallengerTeams()).isEmpty();
+    }
+
+    private static List<Matching> matchings(int count) {
+        List<Matching> matchings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Matching matching = new Matching();
+            matching.setMatchId("match-" + i);
+            matching.setMatchType(Matching.Match_Type.SOCCER);
+            matching.setMatchDate(LocalDateTime.of(2025, 6, 1, 10, 0));
+            matching.setTeam(team("team-" + i));
+            matchings.add(matching);
+        }
+        return matchings;
+    }
+
+    private static Team team(String teamId) {
+        Team team = new Team();
+        team.setTeamId(teamId);
+        team.setTeamName(teamId);
+        team.setRegion("서울");
+        return team;
+    }
+}
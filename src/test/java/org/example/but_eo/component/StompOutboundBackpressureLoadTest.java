@@ -0,0 +1,92 @@
+package org.example.but_eo.component;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.example.but_eo.component.StompSessionHarness.backpressure;
+import static org.example.but_eo.component.StompSessionHarness.message;
+
+// 구독자 수천 명 중 일부만 느릴 때: 느린 세션만 버리고, 나머지는 전부 받고, 느린 세션 버퍼는 전송 제한에 닿지 않아야 함
+class StompOutboundBackpressureLoadTest {
+
+    private static final int SESSIONS = 2000;
+    private static final int SLOW_SESSIONS = 10;
+    private static final int MESSAGES = 100;
+    private static final int MAX_PENDING = 50;
+    private static final String ROOM = "/all/chat/load";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(SLOW_SESSIONS + 8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 느린_구독자만_버리고_나머지는_모두_받는다() throws Exception {
+        StompOutboundBackpressure backpressure = backpressure(MAX_PENDING, "gap");
+        StompSessionHarness harness = new StompSessionHarness(backpressure);
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+        channel.addInterceptor(backpressure);
+        channel.subscribe(harness);
+
+        CountDownLatch gate = new CountDownLatch(1);
+        List<String> fast = new ArrayList<>();
+        List<String> slow = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            String sessionId = "s" + i;
+            if (i < SLOW_SESSIONS) {
+                harness.connect(sessionId, gate);
+                slow.add(sessionId);
+            } else {
+                harness.connect(sessionId);
+                fast.add(sessionId);
+            }
+        }
+
+        // 브로커 방송과 같이 메시지마다 모든 구독 세션으로 한 건씩
+        for (int m = 0; m < MESSAGES; m++) {
+            for (int i = 0; i < SESSIONS; i++) {
+                channel.send(message("s" + i, ROOM, "m" + m));
+            }
+        }
+
+        await().atMost(30, TimeUnit.SECONDS).until(() -> fast.stream().allMatch(id -> harness.written(id) == MESSAGES));
+        for (String id : slow) {
+            assertThat(backpressure.pendingBySession()).containsEntry(id, MAX_PENDING);
+            assertThat(harness.buffered(id)).isLessThan(StompSessionHarness.BUFFER_SIZE_LIMIT);
+        }
+        assertThat(backpressure.pendingBySession().keySet()).containsExactlyInAnyOrderElementsOf(slow);
+        assertThat(backpressure.drainDroppedCount()).isEqualTo((long) SLOW_SESSIONS * (MESSAGES - MAX_PENDING));
+
+        // 느린 세션이 따라잡으면 대기 수가 0 으로 돌아오고, 다음 메시지에 history-gap 이 붙음
+        gate.countDown();
+        await().atMost(30, TimeUnit.SECONDS).until(() -> slow.stream().allMatch(id -> harness.written(id) == MAX_PENDING));
+        assertThat(backpressure.pendingBySession()).isEmpty();
+
+        for (String id : slow) {
+            channel.send(message(id, ROOM, "after"));
+        }
+        await().atMost(10, TimeUnit.SECONDS).until(() -> slow.stream().allMatch(id -> harness.written(id) == MAX_PENDING + 1));
+        for (String id : slow) {
+            List<Message<?>> delivered = harness.delivered(id);
+            assertThat(gapHeader(delivered.get(delivered.size() - 1))).isEqualTo("true");
+        }
+    }
+
+    private static String gapHeader(Message<?> message) {
+        return StompHeaderAccessor.wrap(message).getFirstNativeHeader(StompOutboundBackpressure.HISTORY_GAP_HEADER);
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.but_eo.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.example.but_eo.component.StompSessionHarness.backpressure;
+
+class StompOutboundBackpressureTest {
+
+    private static final String SESSION = "session-1";
+    private static final String ROOM = "/all/chat/room-1";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private StompOutboundBackpressure backpressure;
+    private StompSessionHarness harness;
+    private ExecutorSubscribableChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        backpressure = backpressure(3, "gap");
+        harness = new StompSessionHarness(backpressure);
+        harness.connect(SESSION);
+        // 실행기에 넣은 작업을 직접 돌려서 "전송 대기" 상태를 만든다
+        channel = channel(backpressure, tasks::add);
+    }
+
+    @Test
+    void 소켓에_쓰기_전까지_세고_쓰면_줄인다() {
+        send(ROOM, "1");
+        send(ROOM, "2");
+
+        assertThat(backpressure.pendingBySession()).containsEntry(SESSION, 2);
+
+        runOne();
+        assertThat(backpressure.pendingBySession()).containsEntry(SESSION, 1);
+
+        runAll();
+        assertThat(backpressure.pendingBySession()).isEmpty();
+        assertThat(harness.written(SESSION)).isEqualTo(2);
+    }
+
+    // handleMessage 는 세션 버퍼에 넣자마자 끝나므로, 버퍼에 쌓인 메시지도 대기 수에 남아 있어야 함
+    @Test
+    void 세션_버퍼에_쌓인_메시지도_센다() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        harness.connect("slow", gate);
+
+        channel.send(StompSessionHarness.message("slow", ROOM, "1"));
+        channel.send(StompSessionHarness.message("slow", ROOM, "2"));
+        channel.send(StompSessionHarness.message("slow", ROOM, "3"));
+
+        // 첫 메시지는 다른 스레드에서 소켓 쓰기에 막힘, 나머지는 세션 버퍼로
+        Thread writer = new Thread(tasks.remove(0));
+        writer.start();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> writer.getState() == Thread.State.WAITING);
+        runAll();
+
+        assertThat(harness.buffered("slow")).isPositive();
+        assertThat(backpressure.pendingBySession()).containsEntry("slow", 3);
+        assertThat(channel.send(StompSessionHarness.message("slow", ROOM, "4"))).isFalse();
+
+        gate.countDown();
+        writer.join(5000);
+        assertThat(harness.written("slow")).isEqualTo(3);
+        assertThat(backpressure.pendingBySession()).doesNotContainKey("slow");
+    }
+
+    @Test
+    void 실행기가_거절하면_바로_전송하고_대기_수를_남기지_않는다() {
+        ExecutorSubscribableChannel rejecting = channel(backpressure, task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        assertThat(rejecting.send(StompSessionHarness.message(SESSION, ROOM, "1"))).isTrue();
+        assertThat(harness.written(SESSION)).isEqualTo(1);
+        assertThat(backpressure.pendingBySession()).isEmpty();
+    }
+
+    @Test
+    void 전송에_실패하면_대기_수를_되돌린다() {
+        ExecutorSubscribableChannel failing = channel(backpressure, task -> {
+            throw new IllegalStateException("closed");
+        });
+
+        assertThatThrownBy(() -> failing.send(StompSessionHarness.message(SESSION, ROOM, "1")))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThat(harness.written(SESSION)).isZero();
+        assertThat(backpressure.pendingBySession()).isEmpty();
+    }
+
+    @Test
+    void 최대_대기_수에_이르면_채팅_방송을_버린다() {
+        send(ROOM, "1");
+        send(ROOM, "2");
+        send(ROOM, "3");
+
+        boolean sent = send(ROOM, "4");
+
+        assertThat(sent).isFalse();
+        assertThat(backpressure.pendingBySession()).containsEntry(SESSION, 3);
+        assertThat(backpressure.drainDroppedCount()).isEqualTo(1);
+        assertThat(backpressure.drainDroppedCount()).isZero();
+
+        runAll();
+        List<Object> payloads = harness.delivered(SESSION).stream().map(m -> (Object) m.getPayload()).toList();
+        assertThat(payloads).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void 개인_메시지는_가득_차도_버리지_않는다() {
+        fill();
+
+        assertThat(send("/user/queue/notify", "direct")).isTrue();
+        assertThat(backpressure.pendingBySession()).containsEntry(SESSION, 4);
+        assertThat(backpressure.drainDroppedCount()).isZero();
+    }
+
+    @Test
+    void 버린_뒤_첫_메시지에만_gap_헤더를_붙인다() {
+        fill();
+        send(ROOM, "dropped-1");
+        send(ROOM, "dropped-2");
+        runAll();
+        harness.delivered(SESSION).clear();
+
+        send(ROOM, "after-1");
+        send(ROOM, "after-2");
+        runAll();
+
+        List<Message<?>> delivered = harness.delivered(SESSION);
+        assertThat(delivered).hasSize(2);
+        assertThat(gapHeader(delivered.get(0))).isEqualTo("true");
+        assertThat(gapHeader(delivered.get(1))).isNull();
+    }
+
+    @Test
+    void drop_정책이면_gap_헤더를_붙이지_않는다() throws Exception {
+        StompOutboundBackpressure dropOnly = backpressure(3, "drop");
+        StompSessionHarness dropHarness = new StompSessionHarness(dropOnly);
+        dropHarness.connect(SESSION);
+        ExecutorSubscribableChannel dropChannel = new ExecutorSubscribableChannel(tasks::add);
+        dropChannel.addInterceptor(dropOnly);
+        dropChannel.subscribe(dropHarness);
+
+        for (int i = 0; i < 4; i++) {
+            dropChannel.send(StompSessionHarness.message(SESSION, ROOM, String.valueOf(i)));
+        }
+        runAll();
+        dropHarness.delivered(SESSION).clear();
+
+        dropChannel.send(StompSessionHarness.message(SESSION, ROOM, "after"));
+        runAll();
+
+        assertThat(dropOnly.drainDroppedCount()).isEqualTo(1);
+        assertThat(gapHeader(dropHarness.delivered(SESSION).get(0))).isNull();
+    }
+
+    private ExecutorSubscribableChannel channel(StompOutboundBackpressure interceptor, Executor executor) {
+        ExecutorSubscribableChannel created = new ExecutorSubscribableChannel(executor);
+        created.addInterceptor(interceptor);
+        created.subscribe(harness);
+        return created;
+    }
+
+    private boolean send(String destination, String payload) {
+        return channel.send(StompSessionHarness.message(SESSION, destination, payload));
+    }
+
+    private void fill() {
+        for (int i = 0; i < 3; i++) {
+            send(ROOM, "fill-" + i);
+        }
+    }
+
+    private void runOne() {
+        tasks.remove(0).run();
+    }
+
+    private void runAll() {
+        while (!tasks.isEmpty()) {
+            runOne();
+        }
+    }
+
+    private static String gapHeader(Message<?> message) {
+        return StompHeaderAccessor.wrap(message).getFirstNativeHeader(StompOutboundBackpressure.HISTORY_GAP_HEADER);
+    }
+}
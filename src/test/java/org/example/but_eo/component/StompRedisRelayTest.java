@@ -0,0 +1,133 @@
+package org.example.but_eo.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// 두 서버 노드: 한 노드의 Redis 발행이 (실제 pub/sub 처럼 자신을 포함한) 모든 노드의 onMessage 로 전달됨
+class StompRedisRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<StompRedisRelay> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger published = new AtomicInteger();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @Test
+    void 채팅_방송은_다른_노드_브로커에_한_번_전달된다() {
+        nodeA.send(message("/all/chat/x", "hello"));
+
+        assertThat(nodeA.payloads()).containsExactly("hello");
+        assertThat(nodeB.payloads()).containsExactly("hello");
+        assertThat(published).hasValue(1); // B 에 다시 넣은 메시지는 재발행하지 않음
+    }
+
+    @Test
+    void 유저_목적지도_다른_노드로_전달된다() {
+        nodeB.send(message("/user/user-1/queue/match", "matched"));
+
+        assertThat(nodeA.received).hasSize(1);
+        assertThat(SimpMessageHeaderAccessor.getDestination(nodeA.received.get(0).getHeaders()))
+                .isEqualTo("/user/user-1/queue/match");
+        assertThat(nodeA.payloads()).containsExactly("matched");
+        assertThat(nodeB.payloads()).containsExactly("matched");
+        assertThat(published).hasValue(1);
+    }
+
+    @Test
+    void 자기가_발행한_메시지는_무시한다() {
+        nodeA.send(message("/all/chat/x", "once"));
+
+        // Redis 는 발행한 노드에도 메시지를 돌려주지만 로컬 전달은 한 번뿐
+        assertThat(nodeA.received).hasSize(1);
+    }
+
+    @Test
+    void 세션별로_풀린_유저_목적지는_다시_발행하지_않는다() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/user/queue/match-user123");
+        accessor.setSessionId("session-1");
+        accessor.setHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, "/user/queue/match");
+        nodeA.send(MessageBuilder.createMessage("resolved".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+
+        assertThat(published).hasValue(0);
+        assertThat(nodeA.payloads()).containsExactly("resolved");
+        assertThat(nodeB.received).isEmpty();
+    }
+
+    @Test
+    void 중계_대상이_아닌_목적지와_프레임은_발행하지_않는다() {
+        nodeA.send(message("/app/chat/message", "app"));
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        subscribe.setDestination("/all/chat/x");
+        subscribe.setSessionId("session-1");
+        nodeA.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+
+        assertThat(published).hasValue(0);
+        assertThat(nodeB.received).isEmpty();
+    }
+
+    private static Message<byte[]> message(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private class Node {
+        final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        final List<Message<?>> received = new CopyOnWriteArrayList<>();
+
+        Node() {
+            StringRedisTemplate redis = mock(StringRedisTemplate.class);
+            doAnswer(invocation -> {
+                published.incrementAndGet();
+                DefaultMessage redisMessage = new DefaultMessage(
+                        StompRedisRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                        invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+                for (StompRedisRelay subscriber : subscribers) {
+                    subscriber.onMessage(redisMessage, null);
+                }
+                return 1L;
+            }).when(redis).convertAndSend(anyString(), anyString());
+
+            StompRedisRelay relay = new StompRedisRelay(redis, objectMapper, brokerChannel);
+            brokerChannel.addInterceptor(relay);
+            brokerChannel.subscribe(received::add);
+            subscribers.add(relay);
+        }
+
+        void send(Message<?> message) {
+            brokerChannel.send(message);
+        }
+
+        List<String> payloads() {
+            return received.stream()
+                    .map(m -> new String((byte[]) m.getPayload(), StandardCharsets.UTF_8))
+                    .toList();
+        }
+    }
+}
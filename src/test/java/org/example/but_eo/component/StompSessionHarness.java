@@ -0,0 +1,121 @@
+package org.example.but_eo.component;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * SubProtocolWebSocketHandler 와 같은 순서로 세션을 감싸는 테스트용 하네스.
+ * 전송 세션 = ConcurrentWebSocketSessionDecorator(backpressure.decorate 가 넘긴 세션(원본 세션)),
+ * clientOutboundChannel 구독자로 등록하면 메시지를 STOMP MESSAGE 프레임으로 만들어 세션에 보낸다.
+ */
+class StompSessionHarness implements MessageHandler {
+
+    static final int SEND_TIME_LIMIT = 60_000;
+    static final int BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    private final WebSocketHandler decorated;
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, List<Message<?>>> delivered = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> written = new ConcurrentHashMap<>();
+    private final Map<String, CountDownLatch> gates = new ConcurrentHashMap<>();
+
+    StompSessionHarness(StompOutboundBackpressure backpressure) {
+        WebSocketHandler target = mock(WebSocketHandler.class);
+        try {
+            doAnswer(invocation -> {
+                WebSocketSession session = invocation.getArgument(0);
+                sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT, BUFFER_SIZE_LIMIT));
+                return null;
+            }).when(target).afterConnectionEstablished(any());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        this.decorated = backpressure.decorate(target);
+    }
+
+    static StompOutboundBackpressure backpressure(int maxPending, String policy) {
+        StompOutboundBackpressure backpressure = new StompOutboundBackpressure();
+        ReflectionTestUtils.setField(backpressure, "maxPending", maxPending);
+        ReflectionTestUtils.setField(backpressure, "policy", policy);
+        return backpressure;
+    }
+
+    static Message<String> message(String sessionId, String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    // gate 가 있으면 그 세션의 소켓 쓰기는 gate 가 열릴 때까지 막힘 (느린 클라이언트)
+    void connect(String sessionId, CountDownLatch gate) throws Exception {
+        WebSocketSession raw = mock(WebSocketSession.class, withSettings().stubOnly());
+        when(raw.getId()).thenReturn(sessionId);
+        when(raw.isOpen()).thenReturn(true);
+        written.put(sessionId, new AtomicInteger());
+        delivered.put(sessionId, new CopyOnWriteArrayList<>());
+        if (gate != null) {
+            gates.put(sessionId, gate);
+        }
+        doAnswer(invocation -> {
+            CountDownLatch sessionGate = gates.get(sessionId);
+            if (sessionGate != null) {
+                sessionGate.await();
+            }
+            written.get(sessionId).incrementAndGet();
+            return null;
+        }).when(raw).sendMessage(any());
+        decorated.afterConnectionEstablished(raw);
+    }
+
+    void connect(String sessionId) throws Exception {
+        connect(sessionId, null);
+    }
+
+    @Override
+    public void handleMessage(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        delivered.get(sessionId).add(message);
+        WebSocketMessage<?> frame = new TextMessage("MESSAGE\ndestination:"
+                + SimpMessageHeaderAccessor.getDestination(message.getHeaders()) + "\n\n" + message.getPayload() + "\0");
+        try {
+            sessions.get(sessionId).sendMessage(frame);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    List<Message<?>> delivered(String sessionId) {
+        return delivered.get(sessionId);
+    }
+
+    int written(String sessionId) {
+        return written.get(sessionId).get();
+    }
+
+    int buffered(String sessionId) {
+        return ((ConcurrentWebSocketSessionDecorator) sessions.get(sessionId)).getBufferSize();
+    }
+}
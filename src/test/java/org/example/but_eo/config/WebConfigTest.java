@@ -0,0 +1,143 @@
+package org.example.but_eo.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 업로드 파일 응답 헤더: 첫 요청은 immutable 캐시 + ETag, 새로고침(재검증)은 304, 이어받기는 206
+class WebConfigTest {
+
+    private static final String NAME = "0123456789abcdef.txt";
+    private static final String URL = "/uploads/boards/01/" + NAME;
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    static Path workDir;
+
+    private static String originalUserDir;
+    private static AnnotationConfigWebApplicationContext context;
+    private static MockMvc mockMvc;
+
+    @Configuration
+    @EnableWebMvc
+    static class MvcConfig {
+    }
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        // 업로드 경로는 user.dir/uploads (리소스 핸들러 등록 시점에 읽음)
+        originalUserDir = System.getProperty("user.dir");
+        System.setProperty("user.dir", workDir.toString());
+
+        Path file = workDir.resolve("uploads/boards/01/" + NAME);
+        Files.createDirectories(file.getParent());
+        Files.write(file, CONTENT);
+        Files.write(workDir.resolve("uploads/boards/01/" + NAME + ".gz"), gzip(CONTENT));
+        Files.write(workDir.resolve("secret.txt"), CONTENT);
+
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(MvcConfig.class, WebConfig.class);
+        context.refresh();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+        System.setProperty("user.dir", originalUserDir);
+    }
+
+    @Test
+    void 업로드_파일은_immutable_캐시와_파일명_ETag로_응답한다() throws Exception {
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + NAME + "\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void 새로고침에서_ETag가_같으면_304로_응답한다() throws Exception {
+        MvcResult first = mockMvc.perform(get(URL)).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult reload = mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+
+        assertThat(reload.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ETag가_다르면_다시_내려준다() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"other.txt\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void 수정_시각이_같으면_304로_응답한다() throws Exception {
+        String lastModified = mockMvc.perform(get(URL)).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void Range_요청은_206으로_일부만_응답한다() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=10-14"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-14/" + CONTENT.length))
+                .andExpect(content().string("abcde"));
+    }
+
+    @Test
+    void 사전_압축본이_있으면_Accept_Encoding에_맞춰_응답한다() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(gzip(CONTENT)));
+    }
+
+    @Test
+    void 업로드_디렉터리_밖은_내려주지_않는다() throws Exception {
+        mockMvc.perform(get("/uploads/boards/../../secret.txt"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/boards/%2e%2e/%2e%2e/secret.txt"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+}
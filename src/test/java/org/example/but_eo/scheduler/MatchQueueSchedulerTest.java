@@ -0,0 +1,52 @@
+package org.example.but_eo.scheduler;
+
+import org.example.but_eo.component.MatchPairingWorker;
+import org.example.but_eo.component.MatchQueue;
+import org.example.but_eo.component.MatchQueueEvent;
+import org.example.but_eo.component.RegionNeighbors;
+import org.example.but_eo.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchQueueSchedulerTest {
+
+    private final MatchQueue matchQueue = mock(MatchQueue.class);
+    private final MatchPairingWorker matchPairingWorker = mock(MatchPairingWorker.class);
+    private final RegionNeighbors regionNeighbors = mock(RegionNeighbors.class);
+    private final TeamService teamService = mock(TeamService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    @Test
+    void 만료_알림_하나가_실패해도_나머지_알림과_매칭을_계속한다() {
+        MatchQueueScheduler scheduler = new MatchQueueScheduler(
+                matchQueue, matchPairingWorker, regionNeighbors, teamService, messagingTemplate);
+        ReflectionTestUtils.setField(scheduler, "fallbackAfterMillis", 60_000L);
+        ReflectionTestUtils.setField(scheduler, "expireAfterMillis", 600_000L);
+
+        when(matchQueue.getActiveBuckets()).thenReturn(List.of(new MatchQueueEvent("SOCCER", "Seoul")));
+        when(matchQueue.expire(eq("SOCCER"), eq("Seoul"), anyLong())).thenReturn(List.of("deleted", "t2", "t3"));
+        when(teamService.getLeaderHashId("deleted")).thenThrow(new IllegalArgumentException("존재하지 않는 팀입니다."));
+        when(teamService.getLeaderHashId("t2")).thenReturn("leader2");
+        when(teamService.getLeaderHashId("t3")).thenReturn("leader3");
+        when(regionNeighbors.of("Seoul")).thenReturn(List.of("Incheon"));
+        when(matchQueue.tryMatchAcross("SOCCER", "Seoul", "Incheon", 60_000L)).thenReturn(Optional.empty());
+
+        scheduler.sweep();
+
+        verify(messagingTemplate).convertAndSendToUser(eq("leader2"), eq("/queue/match"), any(Object.class));
+        verify(messagingTemplate).convertAndSendToUser(eq("leader3"), eq("/queue/match"), any(Object.class));
+        verify(matchQueue).tryMatchAcross("SOCCER", "Seoul", "Incheon", 60_000L);
+        verify(matchPairingWorker).schedule("SOCCER", "Seoul");
+    }
+}
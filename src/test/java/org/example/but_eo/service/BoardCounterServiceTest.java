@@ -0,0 +1,68 @@
+package org.example.but_eo.service;
+
+import org.example.but_eo.repository.BoardCounterJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardCounterServiceTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository = mock(BoardCounterJdbcRepository.class);
+    private final BoardCounterService boardCounterService =
+            new BoardCounterService(stringRedisTemplate, boardCounterJdbcRepository);
+
+    @Test
+    void 반영_전인_flushing_배치는_대기분과_함께_더한다() {
+        // b1:like, b1:comment, b2:like, b2:comment
+        redis(Arrays.asList("1", null, "2", "1"), Arrays.asList("3", "-1", null, null), "batch-1");
+        when(boardCounterJdbcRepository.isBatchApplied("batch-1")).thenReturn(false);
+
+        Map<String, long[]> deltas = boardCounterService.getPendingDeltas(List.of("b1", "b2"));
+
+        assertThat(deltas.get("b1")).containsExactly(4, -1);
+        assertThat(deltas.get("b2")).containsExactly(2, 1);
+    }
+
+    // applyBatch 커밋 후 FINISH 로 지우기 전: DB 카운트에 이미 들어 있으므로 다시 더하면 안 됨
+    @Test
+    void 이미_반영된_flushing_배치는_더하지_않는다() {
+        redis(Arrays.asList("1", null, null, null), Arrays.asList("3", "-1", "5", null), "batch-1");
+        when(boardCounterJdbcRepository.isBatchApplied("batch-1")).thenReturn(true);
+
+        Map<String, long[]> deltas = boardCounterService.getPendingDeltas(List.of("b1", "b2"));
+
+        assertThat(deltas).containsOnlyKeys("b1");
+        assertThat(deltas.get("b1")).containsExactly(1, 0);
+    }
+
+    @Test
+    void flushing_배치가_없거나_해당_게시글이_없으면_DB를_확인하지_않는다() {
+        redis(Arrays.asList("1", null), Arrays.asList(null, null), null);
+        boardCounterService.getPendingDeltas(List.of("b1"));
+
+        redis(Arrays.asList("1", null), Arrays.asList(null, null), "batch-1");
+        Map<String, long[]> deltas = boardCounterService.getPendingDeltas(List.of("b1"));
+
+        assertThat(deltas.get("b1")).containsExactly(1, 0);
+        verify(boardCounterJdbcRepository, never()).isBatchApplied(anyString());
+    }
+
+    // 파이프라인 결과: [pending HMGET, flushing HMGET, flushing 배치 ID]
+    private void redis(List<String> pending, List<String> flushing, String batchId) {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(Arrays.asList(pending, flushing, batchId));
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.but_eo.service;
+
+import org.example.but_eo.dto.BoardSearchResponse;
+import org.example.but_eo.repository.BoardCounterJdbcRepository;
+import org.example.but_eo.repository.BoardLikeRepository;
+import org.example.but_eo.repository.BoardMappingRepository;
+import org.example.but_eo.repository.BoardRepository;
+import org.example.but_eo.repository.BoardSearchRepository;
+import org.example.but_eo.repository.BoardSearchRepository.SearchHit;
+import org.example.but_eo.repository.CommentRepository;
+import org.example.but_eo.repository.UsersRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardSearchCursorTest {
+
+    private final BoardSearchRepository boardSearchRepository = mock(BoardSearchRepository.class);
+    private final BoardService boardService = new BoardService(
+            mock(BoardRepository.class), mock(UsersRepository.class), mock(BoardMappingRepository.class),
+            mock(CommentRepository.class), mock(FileService.class), mock(BoardLikeRepository.class),
+            mock(BoardCounterJdbcRepository.class), mock(BoardCounterService.class), boardSearchRepository);
+
+    // 다음 페이지 조회에 직전 페이지 마지막 행의 score 가 그대로 전달되어야 같은 점수의 게시글을 건너뛰거나 반복하지 않음
+    @Test
+    void 커서의_점수는_조회한_값_그대로_돌아온다() {
+        BigDecimal score = new BigDecimal("0.000012");
+        when(boardSearchRepository.search(eq("축구 모임"), isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(
+                        new SearchHit("b9", new BigDecimal("3.141593")),
+                        new SearchHit("b8", score),
+                        new SearchHit("b7", score)));
+
+        BoardSearchResponse first = boardService.searchBoards("축구 모임", null, null, null, 2, null);
+        boardService.searchBoards("축구 모임", null, null, first.getNextCursor(), 2, null);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(new String(Base64.getUrlDecoder().decode(first.getNextCursor()))).isEqualTo("0.000012|b8");
+        verify(boardSearchRepository).search("축구 모임", null, null, score, "b8", 3);
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        String badScore = Base64.getUrlEncoder().encodeToString("abc|b1".getBytes());
+        String noId = Base64.getUrlEncoder().encodeToString("1.5".getBytes());
+
+        assertThatThrownBy(() -> boardService.searchBoards("축구 모임", null, null, badScore, 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> boardService.searchBoards("축구 모임", null, null, noId, 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> boardService.searchBoards("축구 모임", null, null, "%%%", 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(boardSearchRepository, never())
+                .search(any(), any(), any(), any(), any(), anyInt());
+    }
+}
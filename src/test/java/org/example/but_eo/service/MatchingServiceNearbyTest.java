@@ -0,0 +1,162 @@
+package org.example.but_eo.service;
+
+import org.example.but_eo.component.MatchQueue;
+import org.example.but_eo.component.MatchingListAssembler;
+import org.example.but_eo.dto.MatchingListResponse;
+import org.example.but_eo.dto.NearbyMatchingResponse;
+import org.example.but_eo.entity.Matching;
+import org.example.but_eo.entity.Team;
+import org.example.but_eo.repository.ChallengerListRepository;
+import org.example.but_eo.repository.MatchingRepository;
+import org.example.but_eo.repository.StadiumRepository;
+import org.example.but_eo.repository.TeamMemberRepository;
+import org.example.but_eo.repository.TeamRepository;
+import org.example.but_eo.repository.UsersRepository;
+import org.example.but_eo.service.GeoIndexService.GeoHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchingServiceNearbyTest {
+
+    private static final Matching.Match_Type SOCCER = Matching.Match_Type.SOCCER;
+
+    private final MatchingRepository matchingRepository = mock(MatchingRepository.class);
+    private final MatchingListAssembler matchingListAssembler = mock(MatchingListAssembler.class);
+    private final GeoIndexService geoIndexService = mock(GeoIndexService.class);
+    private final Map<String, Matching> db = new HashMap<>();
+    private MatchingService matchingService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        matchingService = new MatchingService(
+                mock(TeamRepository.class), mock(UsersRepository.class), mock(StadiumRepository.class),
+                matchingRepository, mock(TeamMemberRepository.class), mock(ChallengerListRepository.class),
+                mock(MatchQueue.class), matchingListAssembler, mock(LeaderboardService.class),
+                mock(RatingService.class), mock(StadiumAvailabilityService.class), geoIndexService,
+                mock(SimpMessagingTemplate.class));
+
+        when(matchingRepository.findAllByMatchIdIn(anyCollection())).thenAnswer(invocation ->
+                ((Collection<String>) invocation.getArgument(0)).stream()
+                        .filter(db::containsKey).map(db::get).toList());
+        when(matchingListAssembler.toResponses(anyList())).thenAnswer(invocation ->
+                ((List<Matching>) invocation.getArgument(0)).stream().map(m -> {
+                    MatchingListResponse response = new MatchingListResponse();
+                    response.setMatchId(m.getMatchId());
+                    return response;
+                }).toList());
+    }
+
+    // 가까운 매치 대부분이 닫혔어도 limit 개를 채워야 함
+    @Test
+    void 닫힌_매치가_앞에_있으면_더_넓게_조회해_limit를_채운다() {
+        open("m1");
+        closed("m2");
+        challenged("m3");
+        // m4 는 DB에서 삭제됨
+        open("m5");
+        open("m6");
+        open("m7");
+        List<GeoHit> hits = List.of(hit("m1", 0.1), hit("m2", 0.2), hit("m3", 0.3), hit("m4", 0.4),
+                hit("m5", 0.5), hit("m6", 0.6), hit("m7", 0.7));
+        whenSearch(3, hits);
+        whenSearch(6, hits);
+
+        List<NearbyMatchingResponse> result = matchingService.getNearbyMatchings(37.5, 127.0, 5, SOCCER, 3);
+
+        assertThat(result).extracting(r -> r.getMatching().getMatchId()).containsExactly("m1", "m5", "m6");
+        assertThat(result).extracting(NearbyMatchingResponse::getDistanceKm).containsExactly(0.1, 0.5, 0.6);
+        verify(geoIndexService).removeMatchings(SOCCER, List.of("m2"));
+        verify(geoIndexService).removeMatchings(SOCCER, List.of("m3"));
+        verify(geoIndexService).removeMatchings(SOCCER, List.of("m4"));
+        // 두 번째 조회에서는 처음 보는 매치만 DB에서 확인
+        verify(matchingRepository).findAllByMatchIdIn(List.of("m1", "m2", "m3"));
+        verify(matchingRepository).findAllByMatchIdIn(List.of("m4", "m5", "m6"));
+    }
+
+    @Test
+    void 첫_조회로_충분하면_다시_조회하지_않는다() {
+        open("m1");
+        open("m2");
+        whenSearch(2, List.of(hit("m1", 0.1), hit("m2", 0.2)));
+
+        List<NearbyMatchingResponse> result = matchingService.getNearbyMatchings(37.5, 127.0, 5, SOCCER, 2);
+
+        assertThat(result).hasSize(2);
+        verify(geoIndexService, never()).searchMatchings(eq(SOCCER), anyDouble(), anyDouble(), anyDouble(), eq(4));
+    }
+
+    @Test
+    void 반경_안의_매치를_모두_봤으면_모자라도_멈춘다() {
+        open("m1");
+        closed("m2");
+        whenSearch(5, List.of(hit("m1", 0.1), hit("m2", 0.2)));
+
+        List<NearbyMatchingResponse> result = matchingService.getNearbyMatchings(37.5, 127.0, 5, SOCCER, 5);
+
+        assertThat(result).extracting(r -> r.getMatching().getMatchId()).containsExactly("m1");
+        verify(geoIndexService, never()).searchMatchings(eq(SOCCER), anyDouble(), anyDouble(), anyDouble(), eq(10));
+    }
+
+    @Test
+    void 조회_횟수에는_상한이_있다() {
+        // 인덱스에 지워지지 않는 닫힌 매치만 끝없이 있는 경우
+        when(geoIndexService.searchMatchings(eq(SOCCER), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenAnswer(invocation -> IntStream.range(0, invocation.<Integer>getArgument(4))
+                        .mapToObj(i -> hit("gone" + i, i * 0.1)).toList());
+
+        List<NearbyMatchingResponse> result = matchingService.getNearbyMatchings(37.5, 127.0, 5, SOCCER, 1);
+
+        assertThat(result).isEmpty();
+        verify(geoIndexService).searchMatchings(eq(SOCCER), anyDouble(), anyDouble(), anyDouble(), eq(4));
+        verify(geoIndexService, never()).searchMatchings(eq(SOCCER), anyDouble(), anyDouble(), anyDouble(), eq(8));
+    }
+
+    private void whenSearch(int count, List<GeoHit> hits) {
+        when(geoIndexService.searchMatchings(eq(SOCCER), anyDouble(), anyDouble(), anyDouble(), eq(count)))
+                .thenReturn(hits.subList(0, Math.min(count, hits.size())));
+    }
+
+    private void open(String matchId) {
+        db.put(matchId, matching(matchId, Matching.State.WAITING, null));
+    }
+
+    private void closed(String matchId) {
+        db.put(matchId, matching(matchId, Matching.State.SUCCESS, null));
+    }
+
+    private void challenged(String matchId) {
+        db.put(matchId, matching(matchId, Matching.State.WAITING, new Team()));
+    }
+
+    private static Matching matching(String matchId, Matching.State state, Team challenger) {
+        Matching matching = new Matching();
+        matching.setMatchId(matchId);
+        matching.setMatchType(SOCCER);
+        matching.setState(state);
+        matching.setChallengerTeam(challenger);
+        return matching;
+    }
+
+    private static GeoHit hit(String id, double distanceKm) {
+        return new GeoHit(id, distanceKm);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.but_eo.service;
+
+import org.example.but_eo.component.EloRatingEngine;
+import org.example.but_eo.component.Glicko2RatingEngine;
+import org.example.but_eo.component.RatingEngine;
+import org.example.but_eo.component.RatingState;
+import org.example.but_eo.entity.Team;
+import org.example.but_eo.repository.RatingJdbcRepository;
+import org.example.but_eo.repository.RatingJdbcRepository.CompletedMatch;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RatingServiceTest {
+
+    static Stream<RatingEngine> engines() {
+        return Stream.of(new EloRatingEngine(), new Glicko2RatingEngine());
+    }
+
+    // 경기마다 반영한 값과 전체 재계산한 값이 같아야 재계산 후 순위가 바뀌지 않음
+    @ParameterizedTest
+    @MethodSource("engines")
+    @SuppressWarnings("unchecked")
+    void 경기마다_반영한_레이팅과_재계산한_레이팅이_같다(RatingEngine engine) {
+        RatingJdbcRepository ratingJdbcRepository = mock(RatingJdbcRepository.class);
+        RatingService ratingService = new RatingService(engine, ratingJdbcRepository);
+
+        Map<String, Team> teams = new LinkedHashMap<>();
+        for (int i = 0; i < 6; i++) {
+            Team team = new Team();
+            team.setTeamId("t" + i);
+            team.setEvent(Team.Event.SOCCER);
+            team.setRating((int) RatingState.INITIAL_RATING);
+            teams.put(team.getTeamId(), team);
+        }
+
+        Random random = new Random(42);
+        List<CompletedMatch> history = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int host = random.nextInt(6);
+            int challenger = (host + 1 + random.nextInt(5)) % 6;
+            int hostScore = random.nextInt(4);
+            int challengerScore = random.nextInt(4);
+            ratingService.applyMatchResult(teams.get("t" + host), teams.get("t" + challenger), hostScore, challengerScore);
+            history.add(completed("t" + host, "t" + challenger, hostScore, challengerScore));
+        }
+
+        doAnswer(invocation -> {
+            history.forEach(invocation.<Consumer<CompletedMatch>>getArgument(0));
+            return null;
+        }).when(ratingJdbcRepository).streamCompletedMatches(any());
+        ratingService.recomputeAll();
+
+        ArgumentCaptor<Map<String, RatingState>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(ratingJdbcRepository).batchUpdate(captor.capture());
+        Map<String, RatingState> replayed = captor.getValue();
+        for (Team team : teams.values()) {
+            RatingState state = replayed.get(team.getTeamId());
+            assertThat(team.getRatingExact()).isCloseTo(state.getRating(), within(1e-9));
+            assertThat(team.getRating()).isEqualTo(Math.round(state.getRating()));
+            assertThat(team.getRatingDeviation()).isCloseTo(state.getDeviation(), within(1e-9));
+            assertThat(team.getRatingVolatility()).isCloseTo(state.getVolatility(), within(1e-9));
+        }
+    }
+
+    private static CompletedMatch completed(String host, String challenger, int hostScore, int challengerScore) {
+        CompletedMatch match = new CompletedMatch();
+        ReflectionTestUtils.setField(match, "hostTeamId", host);
+        ReflectionTestUtils.setField(match, "challengerTeamId", challenger);
+        ReflectionTestUtils.setField(match, "event", Team.Event.SOCCER);
+        ReflectionTestUtils.setField(match, "hostScore", hostScore);
+        ReflectionTestUtils.setField(match, "challengerScore", challengerScore);
+        return match;
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.but_eo.service;
+
+import org.example.but_eo.component.ImageVariantWorker;
+import org.example.but_eo.dto.StoredFile;
+import org.example.but_eo.repository.FileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StorageServiceTest {
+
+    private static final byte[] CONTENT = "hello storage".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path workDir;
+
+    private String originalUserDir;
+    private FileRepository fileRepository;
+    private ImageVariantWorker imageVariantWorker;
+    private StorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        // 업로드 루트는 user.dir/uploads
+        originalUserDir = System.getProperty("user.dir");
+        System.setProperty("user.dir", workDir.toString());
+        fileRepository = mock(FileRepository.class);
+        imageVariantWorker = mock(ImageVariantWorker.class);
+        storageService = new StorageService(fileRepository, imageVariantWorker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setProperty("user.dir", originalUserDir);
+    }
+
+    @Test
+    void 내용의_SHA256으로_경로를_정한다() throws Exception {
+        String hash = sha256(CONTENT);
+
+        StoredFile stored = storageService.store(file("photo.PNG", CONTENT), StorageService.TEAMS);
+
+        assertThat(stored.getSha256()).isEqualTo(hash);
+        assertThat(stored.getSize()).isEqualTo(CONTENT.length);
+        assertThat(stored.getUrl()).isEqualTo("/uploads/teams/" + hash.substring(0, 2) + "/" + hash + ".png");
+        assertThat(Files.readAllBytes(workDir.resolve(stored.getUrl().substring(1)))).isEqualTo(CONTENT);
+        assertThat(stored.getOriginalName()).isEqualTo("photo.PNG");
+    }
+
+    @Test
+    void 같은_내용은_한_번만_저장한다() throws Exception {
+        StoredFile first = storageService.store(file("a.png", CONTENT), StorageService.BOARDS);
+        StoredFile second = storageService.store(file("b.png", CONTENT), StorageService.BOARDS);
+
+        assertThat(second.getUrl()).isEqualTo(first.getUrl());
+        assertThat(second.getOriginalName()).isEqualTo("b.png");
+        try (Stream<Path> files = Files.list(workDir.resolve(first.getUrl().substring(1)).getParent())) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+        try (Stream<Path> tmp = Files.list(workDir.resolve("uploads/tmp"))) {
+            assertThat(tmp.count()).isZero(); // 임시 파일이 남지 않음
+        }
+    }
+
+    @Test
+    void 내용이_다르면_다른_경로에_저장한다() {
+        StoredFile first = storageService.store(file("a.png", CONTENT), StorageService.BOARDS);
+        StoredFile second = storageService.store(file("a.png", "other".getBytes(StandardCharsets.UTF_8)), StorageService.BOARDS);
+
+        assertThat(second.getUrl()).isNotEqualTo(first.getUrl());
+    }
+
+    // 파일 이름은 확장자만 쓰고, 경로 문자나 긴 확장자는 버림
+    @Test
+    void 원본_파일_이름으로_업로드_루트를_벗어나지_않는다() throws Exception {
+        String hash = sha256(CONTENT);
+
+        StoredFile traversal = storageService.store(file("../../../etc/passwd", CONTENT), StorageService.CHATS);
+        StoredFile dotted = storageService.store(file("x.png/../../../evil", CONTENT), StorageService.CHATS);
+        StoredFile longExt = storageService.store(file("run.javascript", CONTENT), StorageService.CHATS);
+
+        String base = "/uploads/chats/" + hash.substring(0, 2) + "/" + hash;
+        assertThat(traversal.getUrl()).isEqualTo(base);
+        assertThat(dotted.getUrl()).isEqualTo(base);
+        assertThat(longExt.getUrl()).isEqualTo(base);
+        assertThat(Files.exists(workDir.resolve("etc"))).isFalse();
+    }
+
+    @Test
+    void 참조가_남아_있으면_지우지_않는다() {
+        StoredFile stored = storageService.store(file("a.png", CONTENT), StorageService.PROFILES);
+        when(fileRepository.existsByFilePath(stored.getUrl())).thenReturn(true);
+
+        storageService.deleteIfUnreferenced(stored.getUrl());
+
+        assertThat(Files.exists(workDir.resolve(stored.getUrl().substring(1)))).isTrue();
+        verify(imageVariantWorker, never()).forget(stored.getUrl());
+    }
+
+    @Test
+    void 참조가_없으면_원본과_파생본을_지운다() throws IOException {
+        StoredFile stored = storageService.store(file("a.png", CONTENT), StorageService.PROFILES);
+        Path original = workDir.resolve(stored.getUrl().substring(1));
+        Path thumb = ImageVariantWorker.variantPaths(original).get(0);
+        Files.write(thumb, CONTENT);
+
+        storageService.deleteIfUnreferenced(stored.getUrl());
+
+        assertThat(Files.exists(original)).isFalse();
+        assertThat(Files.exists(thumb)).isFalse();
+        verify(imageVariantWorker).forget(stored.getUrl());
+    }
+
+    @Test
+    void 업로드_루트_밖의_파일은_지우지_않는다() throws IOException {
+        Path outside = Files.write(workDir.resolve("secret.txt"), CONTENT);
+
+        storageService.deleteIfUnreferenced("/uploads/../secret.txt");
+        storageService.deleteIfUnreferenced("/uploads/teams/../../secret.txt");
+        storageService.deleteIfUnreferenced(outside.toString());
+
+        assertThat(Files.exists(outside)).isTrue();
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "image/png", content);
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
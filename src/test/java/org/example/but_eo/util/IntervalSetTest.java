@@ -0,0 +1,112 @@
+package org.example.but_eo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalSetTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 6, 2, 0, 0);
+
+    @Test
+    void 맞닿은_구간은_겹치지_않는다() {
+        IntervalSet set = new IntervalSet();
+
+        assertThat(set.add(at(9), at(10))).isTrue();
+        assertThat(set.add(at(10), at(11))).isTrue();
+        assertThat(set.add(at(8), at(9))).isTrue();
+
+        assertThat(set.overlaps(at(11), at(12))).isFalse();
+        assertThat(set.overlaps(at(7), at(8))).isFalse();
+    }
+
+    @Test
+    void 맞닿은_구간은_하나로_합친다() {
+        IntervalSet set = new IntervalSet();
+        set.addMerged(at(9), at(10));
+        set.addMerged(at(10), at(11));
+
+        set.remove(at(9));
+
+        // 10시에 시작하는 구간이 따로 남아 있지 않아야 함
+        assertThat(set.overlaps(at(10), at(11))).isFalse();
+    }
+
+    @Test
+    void 안쪽_구간을_합쳐도_바깥_구간이_유지된다() {
+        IntervalSet set = new IntervalSet();
+        set.addMerged(at(9), at(12));
+        set.addMerged(at(10), at(11));
+
+        assertThat(set.overlaps(at(11), at(12))).isTrue();
+        assertThat(set.add(at(10), at(11))).isFalse();
+
+        set.remove(at(9));
+        assertThat(set.overlaps(at(9), at(12))).isFalse();
+    }
+
+    @Test
+    void 바깥_구간을_합치면_안쪽_구간을_흡수한다() {
+        IntervalSet set = new IntervalSet();
+        set.addMerged(at(10), at(11));
+        set.addMerged(at(9), at(12));
+
+        set.remove(at(9));
+
+        assertThat(set.overlaps(at(9), at(12))).isFalse();
+    }
+
+    @Test
+    void 여러_구간에_걸치면_모두_하나로_합친다() {
+        IntervalSet set = new IntervalSet();
+        set.addMerged(at(9), at(10));
+        set.addMerged(at(11), at(12));
+        set.addMerged(at(13), at(14));
+        set.addMerged(at(16), at(17));
+
+        set.addMerged(at(9).plusMinutes(30), at(13).plusMinutes(30));
+
+        // 사이 빈 시간도 막힘
+        assertThat(set.overlaps(at(10), at(11))).isTrue();
+        assertThat(set.overlaps(at(12), at(13))).isTrue();
+        assertThat(set.overlaps(at(14), at(16))).isFalse();
+
+        // [9, 14) 하나로 합쳐졌으므로 9시 구간만 지우면 16시 구간만 남음
+        set.remove(at(9));
+        assertThat(set.overlaps(at(0), at(16))).isFalse();
+        assertThat(set.overlaps(at(16), at(17))).isTrue();
+    }
+
+    @Test
+    void 겹침_판단은_구간_경계를_포함하지_않는다() {
+        IntervalSet set = new IntervalSet();
+        set.add(at(10), at(11));
+
+        // lowerEntry(end): end 가 구간 시작과 같으면 그 구간은 보지 않음
+        assertThat(set.overlaps(at(9), at(10))).isFalse();
+        assertThat(set.overlaps(at(9), at(10).plusSeconds(1))).isTrue();
+        // 시작이 구간 끝과 같으면 겹치지 않음
+        assertThat(set.overlaps(at(11), at(12))).isFalse();
+        assertThat(set.overlaps(at(11).minusSeconds(1), at(12))).isTrue();
+        // 구간을 통째로 덮는 경우
+        assertThat(set.overlaps(at(9), at(12))).isTrue();
+    }
+
+    @Test
+    void 빈_집합과_삭제한_구간은_겹치지_않는다() {
+        IntervalSet set = new IntervalSet();
+        assertThat(set.overlaps(at(9), at(10))).isFalse();
+
+        set.add(at(9), at(10));
+        set.remove(at(9));
+
+        assertThat(set.overlaps(at(9), at(10))).isFalse();
+        assertThat(set.add(at(9), at(10))).isTrue();
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.plusHours(hour);
+    }
+}